@@ -0,0 +1,447 @@
+package com.github.seungwoo.responsekit.processor;
+
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.ExpressionStatementTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * BaseResponseCode를 구현한 Enum을 빌드 시점에 찾아 응답 코드 색인을 생성하는 Annotation Processor
+ * <ul>
+ *     <li>Enum 상수 생성자 인자 중 getCode()가 반환하는 필드에 대입되는 문자열 리터럴(또는 상수)을 코드 값으로 읽습니다.</li>
+ *     <li>같은 컴파일 단위 안에서 getCode() 값이 겹치면 컴파일 오류로 빌드를 실패시킵니다.</li>
+ *     <li>코드 문자열 오름차순으로 정렬된 배열을 가진 ResponseCodeIndex 구현체와 META-INF/services 등록 파일을 생성합니다.</li>
+ * </ul>
+ * <p>
+ * 생성 클래스 이름은 기본적으로 {@code <Enum들의 공통 패키지>.GeneratedResponseCodeIndex_<Enum 이름 해시>}이며,
+ * {@code -Aresponsekit.index=com.example.MyResponseCodeIndex} 옵션으로 바꿀 수 있습니다. 이름에 Enum 정규화 이름들의
+ * SHA-256 앞부분을 붙여, 같은 패키지에 응답 코드 Enum을 둔 서로 다른 jar의 색인 클래스가 겹치지 않게 합니다.
+ * <p>
+ * 소스 트리를 읽기 위해 javac의 Trees API(com.sun.source)를 사용합니다.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ResponseCodeProcessor.INDEX_OPTION)
+public class ResponseCodeProcessor extends AbstractProcessor {
+
+    static final String INDEX_OPTION = "responsekit.index";
+
+    private static final String BASE_RESPONSE_CODE = "com.github.seungwoo.responsekit.shared.BaseResponseCode";
+    private static final String RESPONSE_CODE_INDEX = "com.github.seungwoo.responsekit.registry.ResponseCodeIndex";
+    private static final String DEFAULT_INDEX_NAME = "GeneratedResponseCodeIndex";
+
+    private Trees trees;
+    private TypeMirror baseResponseCode;
+    private boolean generated;
+
+    // 코드 문자열 → 상수 (TreeMap이므로 문자열 오름차순)
+    private final Map<String, VariableElement> codes = new TreeMap<>();
+    private final Map<String, TypeElement> types = new TreeMap<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.trees = trees(processingEnv);
+        TypeElement base = processingEnv.getElementUtils().getTypeElement(BASE_RESPONSE_CODE);
+        this.baseResponseCode = base == null ? null : processingEnv.getTypeUtils().erasure(base.asType());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (trees == null || baseResponseCode == null || roundEnv.processingOver()) {
+            return false;
+        }
+        int before = types.size();
+        for (Element element : roundEnv.getRootElements()) {
+            scan(element);
+        }
+        if (types.size() == before) {
+            return false;
+        }
+        if (generated) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "이후 라운드에서 생성된 BaseResponseCode Enum은 응답 코드 색인에 포함되지 않습니다.");
+            return false;
+        }
+        generate();
+        generated = true;
+        return false;
+    }
+
+    private void scan(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        if (type.getKind() == ElementKind.ENUM
+            && processingEnv.getTypeUtils().isAssignable(type.asType(), baseResponseCode)) {
+            collect(type);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            scan(enclosed);
+        }
+    }
+
+    private void collect(TypeElement type) {
+        String typeName = type.getQualifiedName().toString();
+        types.put(typeName, type);
+
+        String codeField = codeField(type);
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.ENUM_CONSTANT) {
+                continue;
+            }
+            VariableElement constant = (VariableElement) enclosed;
+            String code = codeValue(type, constant, codeField);
+            if (code == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "getCode() 값을 컴파일 시점에 확인할 수 없어 응답 코드 색인에서 제외합니다.", constant);
+                continue;
+            }
+            VariableElement existing = codes.putIfAbsent(code, constant);
+            if (existing != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "중복된 응답 코드입니다: \"" + code + "\" (" + constantName(existing) + ", "
+                        + constantName(constant) + ")", constant);
+            }
+        }
+    }
+
+    /**
+     * getCode()가 반환하는 필드 이름 (getCode()가 소스에 없으면 Lombok @Getter 관례대로 code)
+     */
+    private String codeField(TypeElement type) {
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.METHOD || !enclosed.getSimpleName().contentEquals("getCode")
+                || !((ExecutableElement) enclosed).getParameters().isEmpty()) {
+                continue;
+            }
+            MethodTree method = trees.getTree((ExecutableElement) enclosed);
+            if (method == null || method.getBody() == null) {
+                continue;
+            }
+            for (StatementTree statement : method.getBody().getStatements()) {
+                if (statement instanceof ReturnTree returnTree) {
+                    String field = fieldName(returnTree.getExpression());
+                    if (field != null) {
+                        return field;
+                    }
+                }
+            }
+        }
+        return "code";
+    }
+
+    private String codeValue(TypeElement type, VariableElement constant, String codeField) {
+        VariableTree variable = (VariableTree) trees.getTree(constant);
+        if (variable == null || !(variable.getInitializer() instanceof NewClassTree newClass)) {
+            return null;
+        }
+        List<? extends ExpressionTree> arguments = newClass.getArguments();
+        int index = parameterIndex(type, codeField, arguments.size());
+        if (index < 0 || index >= arguments.size()) {
+            return null;
+        }
+        ExpressionTree argument = arguments.get(index);
+        if (argument instanceof LiteralTree literal && literal.getValue() instanceof String value) {
+            return value;
+        }
+        // static final String 상수를 참조하는 경우
+        TreePath path = TreePath.getPath(trees.getPath(constant).getCompilationUnit(), argument);
+        Element referenced = path == null ? null : trees.getElement(path);
+        if (referenced instanceof VariableElement field && field.getConstantValue() instanceof String value) {
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * codeField에 대입되는 생성자 파라미터 위치
+     * <p>
+     * 소스에 생성자가 있으면 {@code this.code = code} 대입문에서 찾고, 없으면(Lombok @RequiredArgsConstructor/@AllArgsConstructor)
+     * 초기값이 없는 인스턴스 필드의 선언 순서를 사용합니다.
+     */
+    private int parameterIndex(TypeElement type, String codeField, int argumentCount) {
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.CONSTRUCTOR) {
+                continue;
+            }
+            ExecutableElement constructor = (ExecutableElement) enclosed;
+            if (constructor.getParameters().size() != argumentCount) {
+                continue;
+            }
+            MethodTree tree = trees.getTree(constructor);
+            if (tree == null || tree.getBody() == null) {
+                continue;
+            }
+            int index = assignedParameter(tree, codeField);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        int index = 0;
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() != ElementKind.FIELD || enclosed.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            VariableTree field = (VariableTree) trees.getTree(enclosed);
+            if (field != null && field.getInitializer() != null) {
+                continue;
+            }
+            if (enclosed.getSimpleName().contentEquals(codeField)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    private static int assignedParameter(MethodTree constructor, String codeField) {
+        BlockTree body = constructor.getBody();
+        for (StatementTree statement : body.getStatements()) {
+            if (!(statement instanceof ExpressionStatementTree expression)
+                || !(expression.getExpression() instanceof AssignmentTree assignment)
+                || !codeField.equals(fieldName(assignment.getVariable()))
+                || !(assignment.getExpression() instanceof IdentifierTree value)) {
+                continue;
+            }
+            List<? extends VariableTree> parameters = constructor.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                if (parameters.get(i).getName().contentEquals(value.getName())) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // code 또는 this.code 형태의 필드 참조 이름
+    private static String fieldName(Tree tree) {
+        if (tree instanceof IdentifierTree identifier) {
+            return identifier.getName().toString();
+        }
+        if (tree instanceof MemberSelectTree select && select.getExpression() instanceof IdentifierTree owner
+            && owner.getName().contentEquals("this")) {
+            return select.getIdentifier().toString();
+        }
+        return null;
+    }
+
+    private void generate() {
+        String indexName = processingEnv.getOptions().get(INDEX_OPTION);
+        if (indexName == null) {
+            indexName = commonPackage() + DEFAULT_INDEX_NAME + "_" + typesHash();
+        }
+        int lastDot = indexName.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : indexName.substring(0, lastDot);
+
+        // 생성 클래스에서 참조할 수 없는 Enum은 중복 검사에만 사용
+        Set<TypeElement> accessible = new LinkedHashSet<>();
+        for (TypeElement type : types.values()) {
+            if (isAccessible(type, packageName)) {
+                accessible.add(type);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    indexName + "에서 접근할 수 없는 Enum이라 응답 코드 색인에서 제외합니다.", type);
+            }
+        }
+        Element[] origins = types.values().toArray(Element[]::new);
+        try {
+            writeIndex(indexName, packageName, accessible, origins);
+            writeServiceFile(indexName, origins);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "응답 코드 색인을 생성하지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    private void writeIndex(String indexName, String packageName, Set<TypeElement> accessible, Element[] origins)
+        throws IOException {
+        String simpleName = indexName.substring(indexName.lastIndexOf('.') + 1);
+        Map<String, VariableElement> indexed = new TreeMap<>();
+        codes.forEach((code, constant) -> {
+            if (accessible.contains((TypeElement) constant.getEnclosingElement())) {
+                indexed.put(code, constant);
+            }
+        });
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(indexName, origins);
+        try (Writer out = file.openWriter()) {
+            if (!packageName.isEmpty()) {
+                out.write("package " + packageName + ";\n\n");
+            }
+            out.write("@javax.annotation.processing.Generated(\"" + ResponseCodeProcessor.class.getName() + "\")\n");
+            out.write("public final class " + simpleName + " implements " + RESPONSE_CODE_INDEX + " {\n\n");
+
+            out.write("    private static final String[] CODES = {\n");
+            for (String code : indexed.keySet()) {
+                out.write("        \"" + escape(code) + "\",\n");
+            }
+            out.write("    };\n\n");
+
+            out.write("    private static final " + BASE_RESPONSE_CODE + "[] CONSTANTS = {\n");
+            for (VariableElement constant : indexed.values()) {
+                out.write("        " + constantName(constant) + ",\n");
+            }
+            out.write("    };\n\n");
+
+            out.write("    @Override\n");
+            out.write("    public java.util.List<Class<? extends " + BASE_RESPONSE_CODE + ">> types() {\n");
+            out.write("        return java.util.List.of(");
+            int i = 0;
+            for (TypeElement type : accessible) {
+                out.write((i++ == 0 ? "" : ", ") + type.getQualifiedName() + ".class");
+            }
+            out.write(");\n    }\n\n");
+
+            out.write("    @Override\n");
+            out.write("    public String[] codes() {\n        return CODES.clone();\n    }\n\n");
+            out.write("    @Override\n");
+            out.write("    public " + BASE_RESPONSE_CODE + "[] constants() {\n        return CONSTANTS.clone();\n    }\n");
+            out.write("}\n");
+        }
+    }
+
+    private void writeServiceFile(String indexName, Element[] origins) throws IOException {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+            "META-INF/services/" + RESPONSE_CODE_INDEX, origins);
+        try (Writer out = file.openWriter()) {
+            out.write(indexName + "\n");
+        }
+    }
+
+    private String commonPackage() {
+        String common = null;
+        for (TypeElement type : types.values()) {
+            String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+            common = common == null ? packageName : commonPrefix(common, packageName);
+        }
+        return common == null || common.isEmpty() ? "" : common + ".";
+    }
+
+    /**
+     * 색인에 포함된 Enum 정규화 이름들의 SHA-256 앞 8바이트 (16진수)
+     */
+    private String typesHash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String typeName : types.keySet()) {
+                digest.update(typeName.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isAccessible(TypeElement type, String packageName) {
+        String typePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !typePackage.equals(packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String constantName(VariableElement constant) {
+        return ((TypeElement) constant.getEnclosingElement()).getQualifiedName() + "." + constant.getSimpleName();
+    }
+
+    private static String commonPrefix(String a, String b) {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(left.length, right.length) && left[i].equals(right[i]); i++) {
+            sb.append(i == 0 ? "" : ".").append(left[i]);
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Gradle 등 빌드 도구가 ProcessingEnvironment를 감싼 경우 javac 원본을 찾아 Trees를 얻음
+     */
+    private Trees trees(ProcessingEnvironment env) {
+        Object candidate = env;
+        for (int depth = 0; depth < 4 && candidate instanceof ProcessingEnvironment current; depth++) {
+            try {
+                return Trees.instance(current);
+            } catch (IllegalArgumentException e) {
+                candidate = delegate(current);
+            }
+        }
+        env.getMessager().printMessage(Diagnostic.Kind.WARNING,
+            "javac Trees API를 사용할 수 없어 응답 코드 색인을 생성하지 않습니다.");
+        return null;
+    }
+
+    private static Object delegate(Object wrapper) {
+        for (Class<?> type = wrapper.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField("delegate");
+                field.setAccessible(true);
+                return field.get(wrapper);
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스에서 계속 찾음
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.seungwoo.responsekit.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.IOException;
+import javax.tools.JavaFileObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ResponseCodeProcessorTest {
+
+    // 프로세서는 라이브러리 타입을 이름으로만 참조하므로 같은 이름의 최소 인터페이스로 대신함
+    private static final JavaFileObject BASE_RESPONSE_CODE = JavaFileObjects.forSourceString(
+        "com.github.seungwoo.responsekit.shared.BaseResponseCode", """
+            package com.github.seungwoo.responsekit.shared;
+
+            public interface BaseResponseCode {
+                String getCode();
+            }
+            """);
+    private static final JavaFileObject RESPONSE_CODE_INDEX = JavaFileObjects.forSourceString(
+        "com.github.seungwoo.responsekit.registry.ResponseCodeIndex", """
+            package com.github.seungwoo.responsekit.registry;
+
+            import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+            import java.util.List;
+
+            public interface ResponseCodeIndex {
+                List<Class<? extends BaseResponseCode>> types();
+                String[] codes();
+                BaseResponseCode[] constants();
+            }
+            """);
+
+    @Test
+    @DisplayName("같은 컴파일 단위에서 getCode() 값이 겹치면 컴파일 오류가 된다")
+    void duplicate_codes_fail_compilation() {
+        Compilation compilation = compile(
+            code("OrderCode", "ORDER_NOT_FOUND(\"NOT_FOUND\")"),
+            code("PaymentCode", "PAYMENT_NOT_FOUND(\"NOT_FOUND\")"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("중복된 응답 코드입니다: \"NOT_FOUND\"");
+    }
+
+    @Test
+    @DisplayName("getCode()가 반환하는 필드에 생성자에서 대입되는 인자를 코드 값으로 읽는다")
+    void reads_argument_assigned_to_code_field() throws IOException {
+        Compilation compilation = compile(JavaFileObjects.forSourceString("com.example.OrderCode", """
+            package com.example;
+
+            import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+
+            public enum OrderCode implements BaseResponseCode {
+                ORDER_NOT_FOUND("주문을 찾을 수 없습니다.", "ORDER-404");
+
+                private final String message;
+                private final String value;
+
+                OrderCode(String message, String value) {
+                    this.message = message;
+                    this.value = value;
+                }
+
+                @Override
+                public String getCode() {
+                    return value;
+                }
+            }
+            """));
+
+        assertThat(compilation).succeeded();
+        String index = generatedIndex(compilation);
+        assertTrue(index.contains("\"ORDER-404\""), index);
+        assertTrue(index.contains("com.example.OrderCode.ORDER_NOT_FOUND"), index);
+    }
+
+    @Test
+    @DisplayName("대입문으로 찾을 수 없으면 필드 선언 순서로 생성자 인자를 찾고, 상수 참조도 코드 값으로 읽는다")
+    void falls_back_to_field_order_and_constants() throws IOException {
+        Compilation compilation = compile(JavaFileObjects.forSourceString("com.example.PaymentCode", """
+            package com.example;
+
+            import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+            import java.util.Objects;
+
+            public enum PaymentCode implements BaseResponseCode {
+                PAYMENT_FAILED(Codes.PAYMENT_FAILED, "결제에 실패했습니다.");
+
+                private final String code;
+                private final String message;
+
+                PaymentCode(String code, String message) {
+                    this.code = Objects.requireNonNull(code);
+                    this.message = message;
+                }
+
+                @Override
+                public String getCode() {
+                    return code;
+                }
+            }
+
+            class Codes {
+                static final String PAYMENT_FAILED = "PAYMENT-500";
+            }
+            """));
+
+        assertThat(compilation).succeeded();
+        String index = generatedIndex(compilation);
+        assertTrue(index.contains("\"PAYMENT-500\""), index);
+    }
+
+    @Test
+    @DisplayName("기본 색인 이름은 Enum 이름으로 구분되어 같은 패키지의 다른 모듈 색인과 겹치지 않는다")
+    void default_index_name_is_unique_per_enum_set() {
+        Compilation orders = compile(code("OrderCode", "ORDER_NOT_FOUND(\"ORDER_NOT_FOUND\")"));
+        Compilation payments = compile(code("PaymentCode", "PAYMENT_FAILED(\"PAYMENT_FAILED\")"));
+
+        String orderIndex = generatedIndexName(orders);
+        String paymentIndex = generatedIndexName(payments);
+        assertTrue(orderIndex.contains("com/example/GeneratedResponseCodeIndex_"), orderIndex);
+        assertNotEquals(orderIndex, paymentIndex);
+    }
+
+    @Test
+    @DisplayName("responsekit.index 옵션으로 색인 클래스 이름을 지정할 수 있다")
+    void index_name_option() {
+        Compilation compilation = javac()
+            .withProcessors(new ResponseCodeProcessor())
+            .withOptions("-Aresponsekit.index=com.example.registry.OrderCodeIndex")
+            .compile(BASE_RESPONSE_CODE, RESPONSE_CODE_INDEX,
+                code("OrderCode", "ORDER_NOT_FOUND(\"ORDER_NOT_FOUND\")"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("com.example.registry.OrderCodeIndex");
+    }
+
+    private static Compilation compile(JavaFileObject... sources) {
+        JavaFileObject[] all = new JavaFileObject[sources.length + 2];
+        all[0] = BASE_RESPONSE_CODE;
+        all[1] = RESPONSE_CODE_INDEX;
+        System.arraycopy(sources, 0, all, 2, sources.length);
+        return javac().withProcessors(new ResponseCodeProcessor()).compile(all);
+    }
+
+    private static JavaFileObject code(String name, String constants) {
+        return JavaFileObjects.forSourceString("com.example." + name, """
+            package com.example;
+
+            import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+
+            public enum %s implements BaseResponseCode {
+                %s;
+
+                private final String code;
+
+                %s(String code) {
+                    this.code = code;
+                }
+
+                @Override
+                public String getCode() {
+                    return code;
+                }
+            }
+            """.formatted(name, constants, name));
+    }
+
+    private static String generatedIndex(Compilation compilation) throws IOException {
+        return generatedIndexFile(compilation).getCharContent(false).toString();
+    }
+
+    private static String generatedIndexName(Compilation compilation) {
+        return generatedIndexFile(compilation).getName();
+    }
+
+    private static JavaFileObject generatedIndexFile(Compilation compilation) {
+        return compilation.generatedSourceFiles().stream()
+            .filter(file -> file.getName().contains("GeneratedResponseCodeIndex"))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("응답 코드 색인이 생성되지 않았습니다."));
+    }
+}
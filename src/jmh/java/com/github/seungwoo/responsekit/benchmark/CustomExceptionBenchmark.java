@@ -0,0 +1,100 @@
+package com.github.seungwoo.responsekit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.logging.DefaultExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import com.github.seungwoo.responsekit.shared.GlobalExceptionHandler;
+import com.github.seungwoo.responsekit.shared.ResponseCodeException;
+import com.github.seungwoo.responsekit.shared.StackTraceMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * CustomException을 일정 깊이의 호출 스택에서 던지고 GlobalExceptionHandler로 처리하는 비용 측정
+ * FULL이 기존 동작(before), NONE/SAMPLED와 preallocated가 개선 후(after)입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CustomExceptionBenchmark {
+
+    @Param({"FULL", "NONE", "SAMPLED"})
+    public StackTraceMode stackTraceMode;
+
+    // 컨트롤러 → 서비스 → 리포지토리 + 프레임워크 프레임을 흉내 내는 호출 깊이
+    @Param({"32"})
+    public int depth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CustomException.configureStackTrace(stackTraceMode, 100);
+        handler = new GlobalExceptionHandler(
+            new ResponseBodyCache(new ObjectMapper()),
+            new DefaultExceptionLogStrategy(),
+            new ResponseKitMetrics(false),
+            ExceptionMappings.empty(),
+            RecentErrors.disabled());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        CustomException.configureStackTrace(StackTraceMode.FULL, 1);
+    }
+
+    @Benchmark
+    public Object throwAndHandle() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (CustomException ex) {
+            return handler.handleCustomException(ex);
+        }
+    }
+
+    @Benchmark
+    public Object throwAndHandlePreallocated() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (CustomException ex) {
+            return handler.handleCustomException(ex);
+        }
+    }
+
+    private static void throwAt(int remaining, boolean preallocated) {
+        if (remaining > 0) {
+            throwAt(remaining - 1, preallocated);
+            return;
+        }
+        if (preallocated) {
+            throw ResponseCodeException.of(CommonResponseCode.NOT_FOUND);
+        }
+        throw new NotFoundException(CommonResponseCode.NOT_FOUND);
+    }
+
+    static class NotFoundException extends CustomException {
+        NotFoundException(BaseResponseCode code) {
+            super(code, "리소스를 찾을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.seungwoo.responsekit.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.benchmark.EnvelopeSerializationBenchmark.BenchmarkData;
+import com.github.seungwoo.responsekit.benchmark.EnvelopeSerializationBenchmark.Order;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.ApiResponseDecoder;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.jackson.ResponseKitJacksonModule;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * JSON / CBOR / Smile 본문의 인코딩·디코딩 비용과 크기 비교
+ * small은 주문 1개, large는 주문 1,000개 목록이며, 모두 ResponseKitJacksonModule을 등록한 매퍼를 사용합니다.
+ * encodedBytes 보조 지표는 encode 한 번에 만들어지는 본문 크기(byte)입니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EnvelopeFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"small", "large"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private ApiResponseDecoder decoder;
+    private EnvelopeFormat envelopeFormat;
+    private ApiResponse<List<Order>> response;
+    private byte[] encoded;
+    private JavaType dataType;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseKitJacksonModule());
+        envelopeFormat = EnvelopeFormat.valueOf(format.toUpperCase());
+        mapper = envelopeFormat.mapper(objectMapper);
+        decoder = new ApiResponseDecoder(objectMapper, ResponseCodeRegistry.of(List.of()));
+        response = ApiResponse.success(CommonResponseCode.SUCCESS,
+            BenchmarkData.orders("small".equals(payload) ? 1 : 1_000));
+        encoded = mapper.writeValueAsBytes(response);
+        dataType = objectMapper.getTypeFactory().constructCollectionType(List.class, Order.class);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(response);
+        size.encodedBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public ApiResponse<List<Order>> decode() {
+        return decoder.decode(encoded, envelopeFormat.getMediaType(), null, dataType);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        // 누적값이 아니라 마지막 본문 크기를 그대로 보고
+        public long encodedBytes;
+    }
+}
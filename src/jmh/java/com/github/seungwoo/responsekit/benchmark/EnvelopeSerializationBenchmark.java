@@ -0,0 +1,91 @@
+package com.github.seungwoo.responsekit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.jackson.ResponseKitJacksonModule;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ApiResponse.success / ErrorResponse.of 생성 + JSON 직렬화 비용
+ * small은 문자열 하나, large는 20개 필드 수준의 DTO 1,000개 목록입니다.
+ * serializer=bean은 Jackson 기본 BeanSerializer, module은 ResponseKitJacksonModule 전용 직렬화기입니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EnvelopeSerializationBenchmark {
+
+    @Param({"small", "large"})
+    public String payload;
+
+    @Param({"bean", "module"})
+    public String serializer;
+
+    private ObjectMapper objectMapper;
+    private Object data;
+    private List<FieldError> fieldErrors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        if ("module".equals(serializer)) {
+            objectMapper.registerModule(new ResponseKitJacksonModule());
+        }
+        data = "small".equals(payload) ? "test@example.com" : BenchmarkData.orders(1_000);
+        fieldErrors = List.of(
+            new FieldError("name", "", "이름은 필수입니다."),
+            new FieldError("email", "wrongemail", "이메일 형식이 아닙니다."),
+            new FieldError("password", "123", "비밀번호는 8자 이상이어야 합니다.")
+        );
+    }
+
+    @Benchmark
+    public byte[] apiResponseSuccess() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(CommonResponseCode.SUCCESS, data));
+    }
+
+    @Benchmark
+    public byte[] errorResponseOf() throws Exception {
+        return objectMapper.writeValueAsBytes(ErrorResponse.of(CommonResponseCode.NOT_FOUND));
+    }
+
+    @Benchmark
+    public byte[] errorResponseWithFieldErrors() throws Exception {
+        return objectMapper.writeValueAsBytes(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, fieldErrors));
+    }
+
+    static final class BenchmarkData {
+
+        private BenchmarkData() {
+        }
+
+        static List<Order> orders(int size) {
+            List<Order> orders = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                orders.add(new Order(i, "ORDER-" + i, "user" + i + "@example.com", "서울시 강남구 테헤란로 " + i,
+                    i * 1_000L, i % 5, "PAID", List.of("item-" + i, "item-" + (i + 1))));
+            }
+            return orders;
+        }
+    }
+
+    public record Order(long id, String orderNo, String email, String address, long totalPrice, int quantity,
+                        String status, List<String> items) {}
+}
@@ -0,0 +1,81 @@
+package com.github.seungwoo.responsekit.benchmark;
+
+import com.github.seungwoo.responsekit.response.FieldError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 검증 실패 → FieldError 변환 비용 (BindingResult, ConstraintViolation 각각 1/10/100건)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FieldErrorMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int errorCount;
+
+    private ValidatorFactory validatorFactory;
+    private BindingResult bindingResult;
+    private Set<ConstraintViolation<Items>> violations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bindingResult = new BeanPropertyBindingResult(new Object(), "request");
+        List<String> values = new ArrayList<>(errorCount);
+        for (int i = 0; i < errorCount; i++) {
+            bindingResult.addError(new org.springframework.validation.FieldError(
+                "request", "field" + i, "rejected-value-" + i, false, null, null, "값이 올바르지 않습니다."));
+            values.add(" ");
+        }
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        Validator validator = validatorFactory.getValidator();
+        violations = validator.validate(new Items(values));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public List<FieldError> fromBindingResult() {
+        return FieldError.from(bindingResult);
+    }
+
+    @Benchmark
+    public List<FieldError> fromConstraintViolations() {
+        return FieldError.from(violations);
+    }
+
+    public static class Items {
+
+        private final List<@NotBlank(message = "값이 비어 있습니다.") String> values;
+
+        Items(List<String> values) {
+            this.values = values;
+        }
+    }
+}
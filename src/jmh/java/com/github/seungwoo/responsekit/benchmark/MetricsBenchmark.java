@@ -0,0 +1,82 @@
+package com.github.seungwoo.responsekit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.logging.DefaultExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.GlobalExceptionHandler;
+import com.github.seungwoo.responsekit.shared.ResponseCodeException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ResponseKitMetrics 수집이 예외 처리 경로에 더하는 비용 측정
+ * metricsEnabled=false가 기준선이며, 8스레드 변형은 LongAdder 경합 여부를 확인합니다.
+ * recordRecentError*는 RecentErrors 링 버퍼 슬롯 쓰기 비용과 8스레드에서 순번 경합 여부를 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metricsEnabled;
+
+    private GlobalExceptionHandler handler;
+    private ResponseKitMetrics metrics;
+    private final ResponseCodeException exception = ResponseCodeException.of(CommonResponseCode.NOT_FOUND);
+    private final RecentErrors recentErrors = new RecentErrors(1024);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        metrics = new ResponseKitMetrics(metricsEnabled);
+        handler = new GlobalExceptionHandler(
+            new ResponseBodyCache(new ObjectMapper()),
+            new DefaultExceptionLogStrategy(),
+            metrics,
+            ExceptionMappings.empty(),
+            RecentErrors.disabled());
+    }
+
+    @Benchmark
+    public Object handleCustomException() {
+        return handler.handleCustomException(exception);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object handleCustomExceptionContended() {
+        return handler.handleCustomException(exception);
+    }
+
+    @Benchmark
+    public void recordErrorOnly() {
+        metrics.recordError(CommonResponseCode.NOT_FOUND, exception);
+    }
+
+    @Benchmark
+    public void recordRecentError() {
+        recentErrors.record(CommonResponseCode.NOT_FOUND, exception, "/api/users/1");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordRecentErrorContended() {
+        recentErrors.record(CommonResponseCode.NOT_FOUND, exception, "/api/users/1");
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.seungwoo.responsekit.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 고정 요청률(open model)로 요청을 보내고 요청 종류별 지연시간을 HdrHistogram(µs)에 기록
+ * 요청마다 예정 시작 시각을 미리 정하고 지연시간을 예정 시각부터 측정하므로, 서버가 느려져 요청이 밀린 시간도
+ * 지연시간에 포함됩니다. (coordinated omission 보정)
+ * 워밍업 구간에 예정된 요청은 보내기만 하고 기록하지 않습니다.
+ */
+final class ConstantRateDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final URI baseUri;
+    private final int threads;
+    private final double ratePerSecond;
+    private final LongAdder unexpectedStatuses = new LongAdder();
+
+    ConstantRateDriver(URI baseUri, int threads, double ratePerSecond) {
+        this.baseUri = baseUri;
+        this.threads = threads;
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    Map<LatencyScenario, Histogram> run(Duration warmup, Duration duration) throws Exception {
+        LatencyScenario[] mix = LatencyScenario.mix();
+        Map<LatencyScenario, HttpRequest> requests = new EnumMap<>(LatencyScenario.class);
+        for (LatencyScenario scenario : LatencyScenario.values()) {
+            requests.put(scenario, scenario.request(baseUri));
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Map<LatencyScenario, Histogram>>> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            workers.add(executor.submit(() -> drive(worker, mix, requests, start, intervalNanos, measureFrom, end)));
+        }
+        Map<LatencyScenario, Histogram> merged = newHistograms();
+        try {
+            for (Future<Map<LatencyScenario, Histogram>> worker : workers) {
+                worker.get().forEach((scenario, histogram) -> merged.get(scenario).add(histogram));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return merged;
+    }
+
+    long unexpectedStatuses() {
+        return unexpectedStatuses.sum();
+    }
+
+    // 요청 k는 k % threads 번째 워커가 start + k * interval 시각에 보냄
+    private Map<LatencyScenario, Histogram> drive(int worker, LatencyScenario[] mix,
+        Map<LatencyScenario, HttpRequest> requests, long start, long intervalNanos, long measureFrom, long end)
+        throws Exception {
+        Map<LatencyScenario, Histogram> histograms = newHistograms();
+        for (long k = worker; ; k += threads) {
+            long intended = start + k * intervalNanos;
+            if (intended >= end) {
+                return histograms;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LatencyScenario scenario = mix[(int) (k % mix.length)];
+            int status = client.send(requests.get(scenario), BodyHandlers.discarding()).statusCode();
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+            if (status != scenario.expectedStatus()) {
+                unexpectedStatuses.increment();
+            }
+            if (intended >= measureFrom) {
+                histograms.get(scenario).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+            }
+        }
+    }
+
+    private static Map<LatencyScenario, Histogram> newHistograms() {
+        Map<LatencyScenario, Histogram> histograms = new EnumMap<>(LatencyScenario.class);
+        for (LatencyScenario scenario : LatencyScenario.values()) {
+            histograms.put(scenario, new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+        }
+        return histograms;
+    }
+}
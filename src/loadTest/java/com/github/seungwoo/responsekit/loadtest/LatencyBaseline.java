@@ -0,0 +1,79 @@
+package com.github.seungwoo.responsekit.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 요청 종류별 p50/p99/p999(µs) 결과 파일 읽기/쓰기와 기준선 비교
+ * 파일 형식: {"SIGNUP_SUCCESS": {"p50": µs, "p99": µs, "p999": µs, "count": 요청 수}, ...}
+ */
+final class LatencyBaseline {
+
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+    private static final String[] NAMES = {"p50", "p99", "p999"};
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LatencyBaseline() {
+    }
+
+    static Map<String, Map<String, Long>> summarize(Map<LatencyScenario, Histogram> histograms) {
+        Map<String, Map<String, Long>> summary = new LinkedHashMap<>();
+        histograms.forEach((scenario, histogram) -> {
+            Map<String, Long> values = new LinkedHashMap<>();
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                values.put(NAMES[i], histogram.getValueAtPercentile(PERCENTILES[i]));
+            }
+            values.put("count", histogram.getTotalCount());
+            summary.put(scenario.name(), values);
+        });
+        return summary;
+    }
+
+    static void write(Path file, Map<String, Map<String, Long>> summary) throws IOException {
+        Files.createDirectories(file.getParent());
+        MAPPER.writeValue(file.toFile(), summary);
+    }
+
+    static Map<String, Map<String, Long>> read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), new TypeReference<>() {});
+    }
+
+    /**
+     * 기준선보다 tolerance 비율과 slackMicros를 더한 값보다 느려진 백분위 목록
+     * slackMicros는 루프백 소켓/스케줄링 지터로 짧은 지연시간이 흔들리는 것을 흡수합니다.
+     */
+    static List<String> regressions(Map<String, Map<String, Long>> baseline, Map<String, Map<String, Long>> current,
+        double tolerance, long slackMicros) {
+        List<String> regressions = new ArrayList<>();
+        current.forEach((scenario, values) -> {
+            Map<String, Long> previous = baseline.get(scenario);
+            if (previous == null) {
+                // 비교하지 못한 시나리오는 통과가 아니라 기준선을 다시 저장해야 하는 상태
+                regressions.add(scenario + ": 기준선에 없음");
+                return;
+            }
+            for (String name : NAMES) {
+                Long before = previous.get(name);
+                long after = values.get(name);
+                if (before == null) {
+                    regressions.add(scenario + " " + name + ": 기준선에 없음");
+                } else if (after > before * (1 + tolerance) + slackMicros) {
+                    regressions.add(String.format("%s %s: %dµs -> %dµs", scenario, name, before, after));
+                }
+            }
+        });
+        return regressions;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.seungwoo.responsekit.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 부하 테스트 요청 종류와 비율 (weight는 100개 요청 중 차지하는 개수)
+ */
+enum LatencyScenario {
+
+    SIGNUP_SUCCESS(40, 200, "POST", "/api/signup",
+        "{\"name\":\"홍길동\",\"email\":\"test@example.com\",\"password\":\"password123\"}"),
+    VALIDATION_FAILED(25, 400, "POST", "/api/signup",
+        "{\"name\":\"\",\"email\":\"wrongemail\",\"password\":\"123\"}"),
+    USER_NOT_FOUND(15, 404, "GET", "/api/signup/test@example.com", null),
+    PATH_NOT_FOUND(10, 404, "GET", "/api/unknown", null),
+    METHOD_NOT_ALLOWED(10, 405, "DELETE", "/api/signup", null);
+
+    private final int weight;
+    private final int expectedStatus;
+    private final String method;
+    private final String path;
+    private final String body;
+
+    LatencyScenario(int weight, int expectedStatus, String method, String path, String body) {
+        this.weight = weight;
+        this.expectedStatus = expectedStatus;
+        this.method = method;
+        this.path = path;
+        this.body = body;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    HttpRequest request(URI baseUri) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+            .header("Accept", "application/json");
+        if (body == null) {
+            return builder.method(method, BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+            .method(method, BodyPublishers.ofString(body))
+            .build();
+    }
+
+    /**
+     * 비율대로 섞은 100개 요청 순서 (실행마다 같은 순서가 되도록 고정 seed 사용)
+     */
+    static LatencyScenario[] mix() {
+        List<LatencyScenario> mix = new ArrayList<>(100);
+        for (LatencyScenario scenario : values()) {
+            for (int i = 0; i < scenario.weight; i++) {
+                mix.add(scenario);
+            }
+        }
+        Collections.shuffle(mix, new Random(42));
+        return mix.toArray(LatencyScenario[]::new);
+    }
+}
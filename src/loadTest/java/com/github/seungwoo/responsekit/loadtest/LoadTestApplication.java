@@ -0,0 +1,14 @@
+package com.github.seungwoo.responsekit.loadtest;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 부하 테스트용 애플리케이션
+ * 예제 컨트롤러만 스캔하고, 테스트 전용 예외 처리기 없이 라이브러리 기본 GlobalExceptionHandler 경로를 측정합니다.
+ */
+@SpringBootApplication(scanBasePackages = "com.github.seungwoo.responsekit.example")
+public class LoadTestApplication {
+}
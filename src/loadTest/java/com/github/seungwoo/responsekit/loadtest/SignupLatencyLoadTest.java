@@ -0,0 +1,85 @@
+package com.github.seungwoo.responsekit.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 내장 서버에서 SignupController에 성공/검증 실패/404/405/UserNotFoundException 요청을 섞어 고정 요청률로 보내고,
+ * 요청 종류별 p50/p99/p999를 기준선(src/loadTest/baseline/latency-{server}.json)과 비교합니다.
+ * 설정 값은 gradle/load-test.gradle이 시스템 프로퍼티로 넘겨 줍니다.
+ */
+@SpringBootTest(classes = LoadTestApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    // 에러 경로 로그가 측정을 지배하지 않도록 운영 환경처럼 레이트 리밋 로그 전략 사용
+    "response-kit.logging.rate-limited=true",
+    "logging.level.root=WARN"
+})
+class SignupLatencyLoadTest {
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    @DisplayName("요청 종류별 지연시간 백분위가 기준선 허용 범위 안에 있다")
+    void latency_within_baseline() throws Exception {
+        String server = System.getProperty("loadTest.server", "tomcat");
+        ConstantRateDriver driver = new ConstantRateDriver(URI.create("http://localhost:" + port),
+            Integer.getInteger("loadTest.threads", 8),
+            Double.parseDouble(System.getProperty("loadTest.rate", "500")));
+
+        Map<LatencyScenario, Histogram> histograms = driver.run(
+            Duration.ofSeconds(Long.getLong("loadTest.warmupSeconds", 10)),
+            Duration.ofSeconds(Long.getLong("loadTest.durationSeconds", 30)));
+
+        Path reports = Path.of(System.getProperty("loadTest.reportsDir", "build/reports/loadtest"));
+        Map<String, Map<String, Long>> summary = LatencyBaseline.summarize(histograms);
+        LatencyBaseline.write(reports.resolve("latency-" + server + ".json"), summary);
+        writeDistributions(reports.resolve(server), histograms);
+        System.out.println("[loadTest] " + server + " " + summary);
+
+        assertThat(driver.unexpectedStatuses()).as("예상과 다른 HTTP 상태 응답 수").isZero();
+        if (!Boolean.parseBoolean(System.getProperty("loadTest.compare", "true"))) {
+            return;
+        }
+        Path baseline = Path.of(System.getProperty("loadTest.baselineDir", "src/loadTest/baseline"))
+            .resolve("latency-" + server + ".json");
+        if (!Files.exists(baseline)) {
+            String message = "기준선이 없습니다: " + baseline + ". ./gradlew loadTestSaveBaseline으로 저장해 커밋하세요.";
+            if (Boolean.getBoolean("loadTest.requireBaseline")) {
+                throw new AssertionError(message + " (-PloadTestRequireBaseline=true)");
+            }
+            System.out.println("[loadTest] " + message + " 기준선 비교를 건너뜁니다.");
+            return;
+        }
+        List<String> regressions = LatencyBaseline.regressions(LatencyBaseline.read(baseline), summary,
+            Double.parseDouble(System.getProperty("loadTest.tolerance", "0.25")),
+            Long.getLong("loadTest.slackMicros", 500));
+        assertThat(regressions).as("기준선 대비 지연시간 회귀").isEmpty();
+    }
+
+    // HdrHistogram 백분위 분포 (.hgrm, ms 단위) - HistogramLogAnalyzer 등으로 시각화
+    private static void writeDistributions(Path dir, Map<LatencyScenario, Histogram> histograms)
+        throws Exception {
+        Files.createDirectories(dir);
+        for (Map.Entry<LatencyScenario, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(dir.resolve(entry.getKey().name() + ".hgrm").toFile(), "UTF-8")) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+}
@@ -1,13 +0,0 @@
-package com.github.seungwoo.responsekit;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication
-public class ResponseKitApplication {
-
-    public static void main(String[] args) {
-        SpringApplication.run(ResponseKitApplication.class, args);
-    }
-
-}
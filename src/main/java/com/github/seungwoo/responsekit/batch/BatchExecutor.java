@@ -0,0 +1,228 @@
+package com.github.seungwoo.responsekit.batch;
+
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
+import com.github.seungwoo.responsekit.response.ApiResponseException;
+import com.github.seungwoo.responsekit.response.BatchApiResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.ItemResult;
+import com.github.seungwoo.responsekit.response.StreamingBatchResponse;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import jakarta.validation.ConstraintViolationException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 일괄 처리 요청의 항목을 병렬로 처리하고 항목별 결과(ItemResult)로 변환하는 실행기
+ * <p>
+ * 한 번의 일괄 처리에서 동시에 실행되는 항목 수는 maxConcurrency로 제한되며, 항목에서 발생한 예외는
+ * 요청 전체를 실패시키지 않고 해당 항목의 실패 결과가 됩니다.
+ * <ul>
+ *     <li>CustomException → 예외의 응답 코드 (ApiResponseException이면 FieldError 포함)</li>
+ *     <li>ConstraintViolationException → BAD_REQUEST + FieldError</li>
+ *     <li>그 외 예외 → INTERNAL_ERROR (ERROR 로그)</li>
+ * </ul>
+ * {@link #stream}은 결과를 완료 순서로 바로 내려보내며, 응답 쓰기가 다음 항목 제출을 이끄는 구조라
+ * 아직 쓰지 않은 결과는 최대 maxConcurrency개만 메모리에 남습니다. (클라이언트가 느리면 처리도 함께 늦춰집니다.)
+ * <p>
+ * 메시지는 요청 스레드의 로케일로 정해지므로 항목 처리 스레드에서 LocaleContextHolder를 설정할 필요가 없습니다.
+ */
+@Slf4j
+public class BatchExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+    private final boolean ownsExecutor;
+
+    /**
+     * @param executor       항목 처리에 사용할 ExecutorService (종료는 호출한 쪽의 책임)
+     * @param maxConcurrency 일괄 처리 하나에서 동시에 실행할 최대 항목 수
+     */
+    public BatchExecutor(ExecutorService executor, int maxConcurrency) {
+        this(executor, maxConcurrency, false);
+    }
+
+    private BatchExecutor(ExecutorService executor, int maxConcurrency, boolean ownsExecutor) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * poolSize개 스레드의 고정 풀을 만들어 사용 (close 시 종료)
+     */
+    public static BatchExecutor fixedPool(int poolSize, int maxConcurrency) {
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, task -> {
+            Thread thread = new Thread(task, "response-kit-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new BatchExecutor(executor, maxConcurrency, true);
+    }
+
+    /**
+     * 항목마다 가상 스레드를 사용 (Java 21 이상, close 시 종료)
+     */
+    public static BatchExecutor virtualThreads(int maxConcurrency) {
+        ExecutorService executor;
+        try {
+            // Java 17 바이트코드를 유지하기 위해 Java 21 API는 MethodHandle로 호출
+            executor = (ExecutorService) MethodHandles.publicLookup()
+                .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class))
+                .invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서만 사용할 수 있습니다.", e);
+        } catch (Throwable e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다.", e);
+        }
+        return new BatchExecutor(executor, maxConcurrency, true);
+    }
+
+    /**
+     * 모든 항목을 처리한 뒤 요청 순서대로 결과를 모은 응답
+     */
+    public <I, R> BatchApiResponse<R> execute(BaseResponseCode code, List<? extends I> items,
+        Function<? super I, ? extends R> processor) {
+        int localeIndex = LocalizedMessages.global().currentLocaleIndex();
+        @SuppressWarnings("unchecked")
+        ItemResult<R>[] results = new ItemResult[items.size()];
+        try (ResultIterator<I, R> iterator = new ResultIterator<>(code, items, processor, localeIndex)) {
+            while (iterator.hasNext()) {
+                ItemResult<R> result = iterator.next();
+                results[result.getIndex()] = result;
+            }
+        }
+        return BatchApiResponse.of(code, LocalizedMessages.global().message(code, localeIndex),
+            Arrays.asList(results));
+    }
+
+    /**
+     * 완료되는 항목부터 바로 출력하는 응답 (컨트롤러에서 그대로 반환)
+     * <p>
+     * 응답 출력이 중간에 실패하면 실행 중인 항목은 인터럽트되고 남은 항목은 실행되지 않습니다.
+     */
+    public <I, R> StreamingBatchResponse<R> stream(BaseResponseCode code, List<? extends I> items,
+        Function<? super I, ? extends R> processor) {
+        int localeIndex = LocalizedMessages.global().currentLocaleIndex();
+        ResultIterator<I, R> iterator = new ResultIterator<>(code, items, processor, localeIndex);
+        return StreamingBatchResponse.of(code, LocalizedMessages.global().message(code, localeIndex), iterator,
+            iterator::close);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <I, R> ItemResult<R> process(BaseResponseCode code, int index, I item,
+        Function<? super I, ? extends R> processor, int localeIndex) {
+        LocalizedMessages messages = LocalizedMessages.global();
+        try {
+            R data = processor.apply(item);
+            return ItemResult.success(index, code, messages.message(code, localeIndex), data);
+        } catch (ApiResponseException ex) {
+            // 원격 서비스가 보낸 메시지(ex.getMessage())는 결과에 노출하지 않고 코드의 메시지를 사용
+            BaseResponseCode failure = ex.getResponseCode();
+            return ItemResult.failure(index, failure, messages.message(failure, localeIndex), ex.getErrors());
+        } catch (CustomException ex) {
+            BaseResponseCode failure = ex.getResponseCode();
+            return ItemResult.failure(index, failure, messages.message(failure, localeIndex), List.of());
+        } catch (ConstraintViolationException ex) {
+            BaseResponseCode failure = CommonResponseCode.BAD_REQUEST;
+            return ItemResult.failure(index, failure, messages.message(failure, localeIndex),
+                FieldError.from(ex.getConstraintViolations()));
+        } catch (Throwable ex) {
+            // 항목 하나의 Error가 결과를 기다리는 요청 스레드를 멈추게 하지 않도록 모든 예외를 결과로 변환
+            log.error("[Batch Item Error] index={}", index, ex);
+            BaseResponseCode failure = CommonResponseCode.INTERNAL_ERROR;
+            return ItemResult.failure(index, failure, messages.message(failure, localeIndex), List.of());
+        }
+    }
+
+    /**
+     * 결과를 하나 꺼낼 때마다 빈 자리만큼 항목을 제출하는 Iterator
+     * <p>
+     * 제출했지만 아직 꺼내지 않은 항목이 maxConcurrency개를 넘지 않으므로 결과 큐와 실행 중 Future 맵도 그 크기를 넘지 않습니다.
+     * (요청 스레드 하나에서만 사용합니다.)
+     */
+    private final class ResultIterator<I, R> implements Iterator<ItemResult<R>>, AutoCloseable {
+
+        private final BaseResponseCode code;
+        private final List<? extends I> items;
+        private final Function<? super I, ? extends R> processor;
+        private final int localeIndex;
+        private final BlockingQueue<ItemResult<R>> completed;
+        private final Map<Integer, Future<?>> running = new HashMap<>();
+        private int submitted;
+        private int consumed;
+
+        ResultIterator(BaseResponseCode code, List<? extends I> items, Function<? super I, ? extends R> processor,
+            int localeIndex) {
+            this.code = code;
+            this.items = items;
+            this.processor = processor;
+            this.localeIndex = localeIndex;
+            this.completed = new ArrayBlockingQueue<>(Math.max(1, Math.min(maxConcurrency, items.size())));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return consumed < items.size();
+        }
+
+        @Override
+        public ItemResult<R> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (submitted < items.size() && submitted - consumed < maxConcurrency) {
+                int index = submitted++;
+                I item = items.get(index);
+                running.put(index, executor.submit(() -> {
+                    completed.add(process(code, index, item, processor, localeIndex));
+                }));
+            }
+            try {
+                ItemResult<R> result = completed.take();
+                running.remove(result.getIndex());
+                consumed++;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException("일괄 처리 결과를 기다리는 중 인터럽트되었습니다.", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            running.values().forEach(future -> future.cancel(true));
+            running.clear();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.seungwoo.responsekit.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * LocalValidatorFactoryBean이 초기화되기 전에 Hibernate Validator fail_fast 모드를 켜는 BeanPostProcessor
+ * <p>
+ * fail_fast 모드에서는 첫 번째 제약 조건 위반에서 검증을 멈추므로, 잘못된 요소가 많은 목록이 들어와도
+ * 나머지 제약 조건 평가와 ConstraintViolation 생성 비용이 들지 않습니다.
+ */
+class FailFastValidatorPostProcessor implements BeanPostProcessor {
+
+    static final String FAIL_FAST = "hibernate.validator.fail_fast";
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof LocalValidatorFactoryBean validator) {
+            validator.getValidationPropertyMap().put(FAIL_FAST, "true");
+        }
+        return bean;
+    }
+}
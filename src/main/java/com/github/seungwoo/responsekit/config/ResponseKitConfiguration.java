@@ -0,0 +1,217 @@
+package com.github.seungwoo.responsekit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.batch.BatchExecutor;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrorsEndpoint;
+import com.github.seungwoo.responsekit.logging.DefaultExceptionLogStrategy;
+import com.github.seungwoo.responsekit.logging.ExceptionLogStrategy;
+import com.github.seungwoo.responsekit.logging.RateLimitedExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.mapping.ResponseCodeMapper;
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMeterBinder;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.pagination.CursorCodec;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.ApiResponseDecoder;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.FieldErrorPolicy;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.response.jackson.ResponseKitJacksonModule;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Response-Kit 기본 설정
+ * <p>
+ * ResponseKitProperties를 바인딩하고, 정적으로 동작하는 CustomException/FieldError/LocalizedMessages 설정을
+ * 애플리케이션 시작 시 반영합니다.
+ * <p>
+ * META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports로 등록되므로 애플리케이션의
+ * 컴포넌트 스캔 범위와 관계없이 적용되며, 모든 Bean은 같은 타입의 Bean을 직접 정의하면 대체됩니다.
+ * Spring AOT/GraalVM 네이티브 이미지용 힌트는 {@link ResponseKitRuntimeHints}가 등록합니다.
+ */
+@Slf4j
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(ResponseKitProperties.class)
+@ImportRuntimeHints(ResponseKitRuntimeHints.class)
+public class ResponseKitConfiguration {
+
+    private final LocalizedMessages localizedMessages;
+
+    public ResponseKitConfiguration(ResponseKitProperties properties, MessageSource messageSource) {
+        ResponseKitProperties.ExceptionProperties exception = properties.getException();
+        CustomException.configureStackTrace(exception.getStackTrace(), exception.getStackTraceSampleRate());
+        ResponseKitProperties.ValidationProperties validation = properties.getValidation();
+        FieldError.configurePolicy(new FieldErrorPolicy(
+            validation.getMaxRejectedValueLength(),
+            validation.getMaxErrors(),
+            validation.getMaskedFields()
+        ));
+        ResponseKitProperties.MessageProperties message = properties.getMessage();
+        this.localizedMessages = message.getLocales().isEmpty()
+            ? LocalizedMessages.none()
+            : new LocalizedMessages(messageSource, message.getLocales(), message.getKeyPrefix());
+        LocalizedMessages.configure(localizedMessages);
+    }
+
+    /**
+     * 로케일별 메시지 테이블이 먼저 설정되도록 이 설정 클래스에서 생성
+     * <p>
+     * 빌드 시 생성된 응답 코드 색인(ResponseCodeRegistry)에 있는 도메인 Enum도 시작 시점에 미리 직렬화합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ResponseBodyCache responseBodyCache(ObjectMapper objectMapper) {
+        ResponseBodyCache responseBodyCache = new ResponseBodyCache(objectMapper, localizedMessages);
+        ResponseCodeRegistry.getInstance().types().forEach(responseBodyCache::register);
+        return responseBodyCache;
+    }
+
+    /**
+     * 다른 서비스의 ApiResponse/ErrorResponse 본문(JSON/CBOR/Smile) 복원용
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ApiResponseDecoder apiResponseDecoder(ObjectMapper objectMapper) {
+        return new ApiResponseDecoder(objectMapper, ResponseCodeRegistry.getInstance());
+    }
+
+    /**
+     * 일괄 처리 항목 실행기 (직접 만든 풀은 컨텍스트 종료 시 close)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public BatchExecutor batchExecutor(ResponseKitProperties properties) {
+        ResponseKitProperties.BatchProperties batch = properties.getBatch();
+        return batch.isVirtualThreads()
+            ? BatchExecutor.virtualThreads(batch.getMaxConcurrency())
+            : BatchExecutor.fixedPool(batch.getPoolSize(), batch.getMaxConcurrency());
+    }
+
+    /**
+     * cursor 페이지네이션 토큰 서명/검증
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CursorCodec cursorCodec(ResponseKitProperties properties) {
+        String secret = properties.getPagination().getCursorSecret();
+        if (secret == null || secret.isEmpty()) {
+            log.warn("[Response-Kit] response-kit.pagination.cursor-secret이 없어 임의의 키를 사용합니다. "
+                + "재시작하거나 다른 인스턴스로 요청되면 기존 cursor는 유효하지 않습니다.");
+            return CursorCodec.withRandomSecret();
+        }
+        return new CursorCodec(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * BeanPostProcessor는 다른 Bean보다 먼저 만들어져야 하므로 static으로 선언
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "response-kit.validation", name = "fail-fast", havingValue = "true")
+    public static BeanPostProcessor failFastValidatorPostProcessor() {
+        return new FailFastValidatorPostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionLogStrategy exceptionLogStrategy(ResponseKitProperties properties) {
+        ResponseKitProperties.LoggingProperties logging = properties.getLogging();
+        if (!logging.isRateLimited()) {
+            return new DefaultExceptionLogStrategy();
+        }
+        return new RateLimitedExceptionLogStrategy(
+            logging.getPermitsPerSecond(),
+            logging.getBurst(),
+            logging.getStackTraceWindow(),
+            logging.getMaxKeys()
+        );
+    }
+
+    /**
+     * response-kit.exception.mappings 프로퍼티를 먼저 적용하고, ResponseCodeMapper Bean을 순서대로 적용
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionMappings exceptionMappings(ResponseKitProperties properties,
+        ObjectProvider<ResponseCodeMapper> mappers) {
+        ExceptionMappings.Builder builder = ExceptionMappings.builder();
+        for (ResponseKitProperties.ExceptionMappingProperties mapping : properties.getException().getMappings()) {
+            BaseResponseCode code = ResponseCodeRegistry.getInstance().find(mapping.getCode())
+                .orElseThrow(() -> new IllegalStateException("응답 코드를 찾을 수 없습니다: " + mapping.getCode()));
+            builder.map(mapping.getType(), code, mapping.getLevel(), mapping.isStackTrace());
+        }
+        mappers.orderedStream().forEach(mapper -> mapper.configure(builder));
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RecentErrors recentErrors(ResponseKitProperties properties) {
+        return new RecentErrors(properties.getDiagnostics().getRecentErrorsCapacity());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ResponseKitMetrics responseKitMetrics(ResponseKitProperties properties) {
+        return new ResponseKitMetrics(properties.getMetrics().isEnabled());
+    }
+
+    /**
+     * Spring Boot가 Module Bean을 자동 구성 ObjectMapper에 등록하므로 ResponseBodyCache와 메시지 컨버터 모두 전용 직렬화기를 사용
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "response-kit.jackson", name = "enabled", matchIfMissing = true)
+    public ResponseKitJacksonModule responseKitJacksonModule() {
+        return new ResponseKitJacksonModule();
+    }
+
+    /**
+     * Micrometer가 있을 때만 ResponseKitMetrics를 MeterRegistry에 바인딩
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ResponseKitMeterBinder responseKitMeterBinder(ResponseKitMetrics metrics) {
+            return new ResponseKitMeterBinder(metrics);
+        }
+    }
+
+    /**
+     * Actuator가 있고 엔드포인트가 노출됐을 때만 RecentErrors 조회 엔드포인트 등록
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class DiagnosticsEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint(endpoint = RecentErrorsEndpoint.class)
+        public RecentErrorsEndpoint recentErrorsEndpoint(RecentErrors recentErrors) {
+            return new RecentErrorsEndpoint(recentErrors);
+        }
+    }
+}
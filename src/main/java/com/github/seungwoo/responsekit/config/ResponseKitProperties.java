@@ -0,0 +1,257 @@
+package com.github.seungwoo.responsekit.config;
+
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.StackTraceMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.event.Level;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * response-kit.* 설정 프로퍼티
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "response-kit")
+public class ResponseKitProperties {
+
+    private final ExceptionProperties exception = new ExceptionProperties();
+    private final LoggingProperties logging = new LoggingProperties();
+    private final MetricsProperties metrics = new MetricsProperties();
+    private final JacksonProperties jackson = new JacksonProperties();
+    private final ValidationProperties validation = new ValidationProperties();
+    private final MessageProperties message = new MessageProperties();
+    private final BatchProperties batch = new BatchProperties();
+    private final PaginationProperties pagination = new PaginationProperties();
+    private final ConcurrencyLimitProperties concurrencyLimit = new ConcurrencyLimitProperties();
+    private final DiagnosticsProperties diagnostics = new DiagnosticsProperties();
+    private final IdempotencyProperties idempotency = new IdempotencyProperties();
+    private final EtagProperties etag = new EtagProperties();
+    private final FieldsProperties fields = new FieldsProperties();
+
+    @Getter
+    @Setter
+    public static class ExceptionProperties {
+
+        // CustomException 스택 트레이스 수집 방식 (full, none, sampled)
+        private StackTraceMode stackTrace = StackTraceMode.FULL;
+
+        // sampled 모드에서 N번 중 1번만 스택 트레이스를 수집
+        private int stackTraceSampleRate = 100;
+
+        // 예외 타입 → 응답 코드 매핑 (ResponseCodeMapper Bean과 함께 적용)
+        private List<ExceptionMappingProperties> mappings = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class ExceptionMappingProperties {
+
+        // 매핑할 예외 클래스 (하위 클래스에도 적용)
+        private Class<? extends Throwable> type;
+
+        // 응답 코드 문자열 (ResponseCodeRegistry 색인에서 조회)
+        private String code;
+
+        // 로그 레벨
+        private Level level = Level.WARN;
+
+        // 로그에 스택 트레이스 포함 여부
+        private boolean stackTrace = false;
+    }
+
+    @Getter
+    @Setter
+    public static class LoggingProperties {
+
+        // true이면 RateLimitedExceptionLogStrategy로 예외 로그 양을 제한
+        private boolean rateLimited = false;
+
+        // 키(응답 코드/예외 타입)별 초당 허용 로그 수
+        private double permitsPerSecond = 10;
+
+        // 키별 순간 최대 허용 로그 수
+        private int burst = 20;
+
+        // 같은 스택 트레이스를 한 번만 출력하는 구간
+        private Duration stackTraceWindow = Duration.ofMinutes(1);
+
+        // 추적할 최대 키/지문 개수
+        private int maxKeys = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class MetricsProperties {
+
+        // 응답 코드/HTTP 상태/예외 타입 카운터와 핸들러 지연시간 수집 여부
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class JacksonProperties {
+
+        // ApiResponse/ErrorResponse/FieldError 전용 직렬화기(ResponseKitJacksonModule) 등록 여부
+        // (PropertyNamingStrategy와 null 포함 규칙은 반영, NON_EMPTY/NON_DEFAULT 포함 규칙이면 기본 Bean 직렬화 사용)
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class ValidationProperties {
+
+        // FieldError.rejectedValue 최대 길이 (넘으면 잘라내고 "...(N chars)" 표시)
+        private int maxRejectedValueLength = 256;
+
+        // 응답에 담을 최대 FieldError 개수 (나머지는 omittedErrors로 개수만 표시)
+        private int maxErrors = 100;
+
+        // rejectedValue를 마스킹할 필드 이름 (ex: password, cardNumber)
+        private List<String> maskedFields = new ArrayList<>();
+
+        // true이면 첫 번째 제약 조건 위반에서 검증을 중단 (Hibernate Validator fail_fast)
+        private boolean failFast = false;
+    }
+
+    @Getter
+    @Setter
+    public static class MessageProperties {
+
+        // MessageSource에서 응답 코드 메시지를 미리 읽어 둘 로케일 (비어 있으면 getMessage()만 사용)
+        private List<Locale> locales = new ArrayList<>();
+
+        // 메시지 키 접두사 (키 = keyPrefix + getCode())
+        private String keyPrefix = "";
+    }
+
+    @Getter
+    @Setter
+    public static class BatchProperties {
+
+        // BatchExecutor 고정 스레드 풀 크기 (virtual-threads=true이면 사용하지 않음)
+        private int poolSize = Runtime.getRuntime().availableProcessors();
+
+        // 일괄 처리 요청 하나에서 동시에 실행할 최대 항목 수
+        private int maxConcurrency = 16;
+
+        // true이면 항목마다 가상 스레드 사용 (Java 21 이상)
+        private boolean virtualThreads = false;
+    }
+
+    @Getter
+    @Setter
+    public static class PaginationProperties {
+
+        // limit 파라미터가 없을 때의 페이지 크기
+        private int defaultLimit = 20;
+
+        // 허용하는 최대 페이지 크기 (넘으면 이 값으로 제한)
+        private int maxLimit = 100;
+
+        // cursor 서명용 비밀 키 (16byte 이상, 비어 있으면 시작할 때마다 임의 생성)
+        private String cursorSecret = "";
+    }
+
+    @Getter
+    @Setter
+    public static class ConcurrencyLimitProperties {
+
+        // true이면 동시 처리 요청 수 제한 필터 등록 (서블릿 애플리케이션)
+        private boolean enabled = false;
+
+        // true이면 처리 시간으로 한도를 조정하는 AIMD 리미터, false이면 initialLimit 고정
+        private boolean adaptive = false;
+
+        // 시작 한도 (adaptive=false이면 고정 한도)
+        private int initialLimit = 200;
+
+        // adaptive 한도의 하한/상한
+        private int minLimit = 10;
+        private int maxLimit = 1000;
+
+        // 이 시간을 넘는 처리는 과부하로 보고 한도를 줄임
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        // 한도를 줄일 때 곱하는 비율 (0~1)
+        private double backoffRatio = 0.9;
+
+        // 거절 응답 코드 (SERVICE_UNAVAILABLE 또는 TOO_MANY_REQUESTS)
+        private CommonResponseCode rejectCode = CommonResponseCode.SERVICE_UNAVAILABLE;
+
+        // 거절 응답의 Retry-After (초 단위로 내림, 최소 1초)
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        // 한도와 관계없이 통과시킬 경로 접두사
+        private List<String> excludedPaths = new ArrayList<>(List.of("/actuator"));
+    }
+
+    @Getter
+    @Setter
+    public static class DiagnosticsProperties {
+
+        // 최근 에러 링 버퍼 크기 (2의 거듭제곱으로 올림, 0이면 기록하지 않음)
+        private int recentErrorsCapacity = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class IdempotencyProperties {
+
+        // true이면 Idempotency-Key 응답 저장/재생 필터 등록 (서블릿 애플리케이션)
+        private boolean enabled = false;
+
+        // 멱등 키를 담는 요청 헤더
+        private String headerName = "Idempotency-Key";
+
+        // 멱등 키를 적용할 HTTP 메서드
+        private List<String> methods = new ArrayList<>(List.of("POST", "PATCH"));
+
+        // 저장된 응답 유지 시간
+        private Duration ttl = Duration.ofHours(24);
+
+        // 메모리 저장소 전체 용량 (기본 InMemoryIdempotencyStore 사용 시)
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        // 요청·응답 하나의 최대 본문 크기 (넘으면 저장/재생하지 않음)
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+        // 같은 키의 요청이 처리 중일 때 중복 요청이 결과를 기다리는 최대 시간 (넘으면 CONFLICT)
+        private Duration waitTimeout = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class EtagProperties {
+
+        // true이면 GET/HEAD 성공 ApiResponse에 ETag를 붙이고 If-None-Match가 일치하면 304로 응답 (서블릿 애플리케이션)
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class FieldsProperties {
+
+        // true이면 fields 쿼리 파라미터로 성공 ApiResponse의 data 필드를 선택 (서블릿 애플리케이션)
+        // ResponseKitJacksonModule이 필요하므로 response-kit.jackson.enabled=false와 함께 쓰면 시작 시 실패
+        private boolean enabled = false;
+
+        // 필드 선택 쿼리 파라미터 이름
+        private String parameterName = "fields";
+
+        // 컴파일한 fields 식을 보관할 최대 개수 (LRU)
+        private int cacheSize = 256;
+
+        // 한 요청에 지정할 수 있는 최대 경로 수 / 경로 깊이
+        private int maxFields = 64;
+        private int maxDepth = 8;
+    }
+}
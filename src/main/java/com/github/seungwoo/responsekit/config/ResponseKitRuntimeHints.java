@@ -0,0 +1,81 @@
+package com.github.seungwoo.responsekit.config;
+
+import com.github.seungwoo.responsekit.diagnostics.RecentError;
+import com.github.seungwoo.responsekit.pagination.CursorPage;
+import com.github.seungwoo.responsekit.registry.ResponseCodeIndex;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.BatchApiResponse;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.ItemResult;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.Executors;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Spring AOT/GraalVM 네이티브 이미지에서 필요한 리플렉션/리소스 힌트
+ * <ul>
+ *     <li>ApiResponse/ErrorResponse/FieldError 등 응답 본문 타입의 Jackson 바인딩 힌트
+ *     (ResponseKitJacksonModule을 끄거나 본문을 역직렬화하는 경우)</li>
+ *     <li>CommonResponseCode와 응답 코드 색인(ResponseCodeRegistry)에 있는 도메인 Enum: ResponseBodyCache/LocalizedMessages가
+ *     getEnumConstants()로 상수를 읽음</li>
+ *     <li>응답 코드 색인을 읽는 ServiceLoader 등록 파일과 색인 구현체 생성자</li>
+ *     <li>클래스 이름으로 생성하는 CBOR/Smile JsonFactory, MethodHandle로 찾는 가상 스레드 Executor 팩토리,
+ *     RecentErrors 슬롯의 VarHandle 필드</li>
+ * </ul>
+ * 도메인 Enum은 AOT 처리 시점에 색인을 읽어 등록하므로 클래스패스 스캔이 필요 없습니다.
+ */
+class ResponseKitRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] BODY_TYPES = {
+        ApiResponse.class, ErrorResponse.class, FieldError.class, ItemResult.class, BatchApiResponse.class,
+        CursorPage.class, RecentError.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ReflectionHints reflection = hints.reflection();
+        new BindingReflectionHintsRegistrar().registerReflectionHints(reflection, BODY_TYPES);
+
+        registerEnum(reflection, CommonResponseCode.class);
+        for (Class<? extends BaseResponseCode> codeType : ResponseCodeRegistry.load(classLoader).types()) {
+            registerEnum(reflection, codeType);
+        }
+        hints.resources().registerPattern("META-INF/services/" + ResponseCodeIndex.class.getName());
+        ServiceLoader.load(ResponseCodeIndex.class, classLoader).stream()
+            .forEach(provider -> reflection.registerType(provider.type(),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+
+        for (EnvelopeFormat format : EnvelopeFormat.values()) {
+            if (format.getFactoryClassName() != null) {
+                reflection.registerTypeIfPresent(classLoader, format.getFactoryClassName(),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+        }
+        if (ClassUtils.hasMethod(Executors.class, "newVirtualThreadPerTaskExecutor")) {
+            reflection.registerType(Executors.class,
+                type -> type.withMethod("newVirtualThreadPerTaskExecutor", List.of(), ExecutableMode.INVOKE));
+        }
+        reflection.registerType(TypeReference.of("com.github.seungwoo.responsekit.diagnostics.RecentErrors$Slot"),
+            type -> type.withField("version"));
+    }
+
+    private static void registerEnum(ReflectionHints reflection, Class<?> enumType) {
+        reflection.registerType(enumType, MemberCategory.PUBLIC_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
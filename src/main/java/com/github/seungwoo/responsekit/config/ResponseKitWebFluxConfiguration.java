@@ -0,0 +1,63 @@
+package com.github.seungwoo.responsekit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.logging.ExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.reactive.ReactiveGlobalExceptionHandler;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.smile.Jackson2SmileDecoder;
+import org.springframework.http.codec.smile.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * WebFlux 애플리케이션에서만 활성화되는 설정
+ * <p>
+ * CBOR/Smile 의존성이 있으면 애플리케이션 ObjectMapper 설정을 복사한 인코더/디코더를 등록해 JSON과 같은 구조로 응답합니다.
+ */
+@AutoConfiguration(after = ResponseKitConfiguration.class)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@ConditionalOnClass(WebFluxConfigurer.class)
+@RequiredArgsConstructor
+public class ResponseKitWebFluxConfiguration implements WebFluxConfigurer {
+
+    private final ResponseBodyCache responseBodyCache;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveGlobalExceptionHandler reactiveGlobalExceptionHandler(ExceptionLogStrategy logStrategy,
+        ResponseKitMetrics metrics, ExceptionMappings exceptionMappings, RecentErrors recentErrors) {
+        return new ReactiveGlobalExceptionHandler(responseBodyCache, logStrategy, metrics, exceptionMappings,
+            recentErrors);
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        // 클래스패스에 없는 형식의 코덱 클래스는 로딩하지 않도록 형식마다 분기
+        if (EnvelopeFormat.CBOR.isAvailable()) {
+            ObjectMapper cborMapper = responseBodyCache.mapper(EnvelopeFormat.CBOR);
+            configurer.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+        }
+        if (EnvelopeFormat.SMILE.isAvailable()) {
+            ObjectMapper smileMapper = responseBodyCache.mapper(EnvelopeFormat.SMILE);
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+        }
+    }
+}
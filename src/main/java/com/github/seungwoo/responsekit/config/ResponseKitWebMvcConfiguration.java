@@ -0,0 +1,220 @@
+package com.github.seungwoo.responsekit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.fields.FieldSelections;
+import com.github.seungwoo.responsekit.idempotency.IdempotencyScopeResolver;
+import com.github.seungwoo.responsekit.idempotency.IdempotencyStore;
+import com.github.seungwoo.responsekit.idempotency.InMemoryIdempotencyStore;
+import com.github.seungwoo.responsekit.limit.ConcurrencyLimiter;
+import com.github.seungwoo.responsekit.logging.ExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.metrics.ApiResponseMetricsAdvice;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.pagination.CursorCodec;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.response.jackson.ResponseKitJacksonModule;
+import com.github.seungwoo.responsekit.shared.GlobalExceptionHandler;
+import com.github.seungwoo.responsekit.web.ApiResponseETagAdvice;
+import com.github.seungwoo.responsekit.web.ApiResponseFieldsAdvice;
+import com.github.seungwoo.responsekit.web.ConcurrencyLimitFilter;
+import com.github.seungwoo.responsekit.web.CursorRequestArgumentResolver;
+import com.github.seungwoo.responsekit.web.IdempotencyFilter;
+import com.github.seungwoo.responsekit.web.StreamingApiResponseHttpMessageConverter;
+import com.github.seungwoo.responsekit.web.StreamingBatchResponseHttpMessageConverter;
+import com.github.seungwoo.responsekit.web.WrapResponseReturnValueHandler;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Spring MVC(서블릿) 애플리케이션에서만 활성화되는 확장 설정
+ * (GlobalExceptionHandler, 메시지 컨버터, CursorRequest 파라미터, @WrapResponse 처리기, 동시 처리 요청 수 제한 필터 등록)
+ * <p>
+ * CBOR/Smile 의존성이 있으면 Spring 기본 CBOR/Smile 컨버터를 애플리케이션 ObjectMapper 설정을 복사한 컨버터로 바꿔
+ * ApiResponse/ErrorResponse가 JSON과 같은 구조로 직렬화되도록 합니다.
+ */
+@AutoConfiguration(after = ResponseKitConfiguration.class)
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@ConditionalOnClass(DispatcherServlet.class)
+@RequiredArgsConstructor
+public class ResponseKitWebMvcConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final ResponseBodyCache responseBodyCache;
+    private final CursorCodec cursorCodec;
+    private final ResponseKitProperties properties;
+    private final ExceptionLogStrategy logStrategy;
+    private final ResponseKitMetrics metrics;
+    private final RecentErrors recentErrors;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GlobalExceptionHandler globalExceptionHandler(ExceptionLogStrategy logStrategy, ResponseKitMetrics metrics,
+        ExceptionMappings exceptionMappings, RecentErrors recentErrors) {
+        return new GlobalExceptionHandler(responseBodyCache, logStrategy, metrics, exceptionMappings, recentErrors);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ApiResponseMetricsAdvice apiResponseMetricsAdvice(ResponseKitMetrics metrics) {
+        return new ApiResponseMetricsAdvice(metrics);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "response-kit.etag", name = "enabled", havingValue = "true")
+    public ApiResponseETagAdvice apiResponseETagAdvice() {
+        return new ApiResponseETagAdvice(responseBodyCache);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "response-kit.fields", name = "enabled", havingValue = "true")
+    public FieldSelections fieldSelections() {
+        ResponseKitProperties.FieldsProperties fields = properties.getFields();
+        return new FieldSelections(fields.getParameterName(), fields.getCacheSize(), fields.getMaxFields(),
+            fields.getMaxDepth());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "response-kit.fields", name = "enabled", havingValue = "true")
+    public ApiResponseFieldsAdvice apiResponseFieldsAdvice(FieldSelections fieldSelections) {
+        // 필드 선택은 ResponseKitJacksonModule의 ApiResponse 직렬화기가 적용하므로, 모듈 없이는 조용히 무시됨
+        if (!objectMapper.getRegisteredModuleIds().contains(new ResponseKitJacksonModule().getTypeId())) {
+            throw new IllegalStateException("response-kit.fields.enabled=true는 ResponseKitJacksonModule이 등록된 "
+                + "ObjectMapper가 필요합니다. (response-kit.jackson.enabled=true)");
+        }
+        if (!ResponseKitJacksonModule.appliesTo(objectMapper.getSerializationConfig())) {
+            throw new IllegalStateException("response-kit.fields.enabled=true는 ApiResponse 포함 규칙이 "
+                + "ALWAYS/NON_NULL/NON_ABSENT인 ObjectMapper가 필요합니다. (spring.jackson.default-property-inclusion)");
+        }
+        return new ApiResponseFieldsAdvice(fieldSelections, objectMapper);
+    }
+
+    /**
+     * &#64;WrapResponse 처리기를 RequestResponseBodyMethodProcessor 앞에 끼워 넣기 위해
+     * 기본 처리기가 모두 만들어진 뒤 등록
+     */
+    @Bean
+    public SmartInitializingSingleton wrapResponseReturnValueHandlerInstaller(
+        ObjectProvider<RequestMappingHandlerAdapter> adapters) {
+        return () -> adapters.orderedStream().forEach(adapter -> WrapResponseReturnValueHandler.install(adapter,
+            ResponseCodeRegistry.getInstance()));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "response-kit.concurrency-limit", name = "enabled", havingValue = "true")
+    public ConcurrencyLimiter concurrencyLimiter() {
+        ResponseKitProperties.ConcurrencyLimitProperties limit = properties.getConcurrencyLimit();
+        if (!limit.isAdaptive()) {
+            return ConcurrencyLimiter.fixed(limit.getInitialLimit());
+        }
+        return ConcurrencyLimiter.aimd(limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(),
+            limit.getLatencyThreshold(), limit.getBackoffRatio());
+    }
+
+    /**
+     * 보안/로깅 등 다른 필터보다 먼저 거절하도록 CharacterEncodingFilter 바로 다음 순서로 등록
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "response-kit.concurrency-limit", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimiter limiter,
+        ResponseKitMetrics metrics) {
+        ResponseKitProperties.ConcurrencyLimitProperties limit = properties.getConcurrencyLimit();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, responseBodyCache, metrics,
+            limit.getRejectCode(), limit.getRetryAfter(), limit.getExcludedPaths());
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "response-kit.idempotency", name = "enabled", havingValue = "true")
+    public IdempotencyStore idempotencyStore() {
+        return new InMemoryIdempotencyStore(properties.getIdempotency().getMaxSize().toBytes());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "response-kit.idempotency", name = "enabled", havingValue = "true")
+    public IdempotencyScopeResolver idempotencyScopeResolver() {
+        return IdempotencyScopeResolver.principal();
+    }
+
+    /**
+     * 인증된 사용자로 키 범위를 나눌 수 있도록 Spring Security 필터 체인 다음 순서로 등록
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "response-kit.idempotency", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store,
+        IdempotencyScopeResolver scopeResolver, ResponseKitMetrics metrics) {
+        ResponseKitProperties.IdempotencyProperties idempotency = properties.getIdempotency();
+        IdempotencyFilter filter = new IdempotencyFilter(store, scopeResolver, responseBodyCache, metrics,
+            idempotency.getHeaderName(), idempotency.getMethods(), idempotency.getTtl(),
+            idempotency.getWaitTimeout(), Math.toIntExact(idempotency.getMaxBodySize().toBytes()));
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(IdempotencyFilter.ORDER);
+        return registration;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        ResponseKitProperties.PaginationProperties pagination = properties.getPagination();
+        resolvers.add(new CursorRequestArgumentResolver(cursorCodec, pagination.getDefaultLimit(),
+            pagination.getMaxLimit()));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 클래스패스에 없는 형식의 컨버터 클래스는 로딩하지 않도록 형식마다 분기
+        if (EnvelopeFormat.CBOR.isAvailable()) {
+            replace(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(responseBodyCache.mapper(EnvelopeFormat.CBOR)));
+        }
+        if (EnvelopeFormat.SMILE.isAvailable()) {
+            replace(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(responseBodyCache.mapper(EnvelopeFormat.SMILE)));
+        }
+        // Jackson 컨버터가 StreamingApiResponse/StreamingBatchResponse를 일반 Bean으로 직렬화하지 않도록 맨 앞에 등록
+        converters.add(0, new StreamingApiResponseHttpMessageConverter(objectMapper, logStrategy, metrics,
+            recentErrors));
+        converters.add(1, new StreamingBatchResponseHttpMessageConverter(objectMapper));
+    }
+
+    private static void replace(List<HttpMessageConverter<?>> converters,
+        Class<? extends HttpMessageConverter<?>> type, HttpMessageConverter<?> converter) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+        converters.add(converter);
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.seungwoo.responsekit.diagnostics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * RecentErrors에서 읽어 낸 에러 한 건
+ *
+ * @param exception   예외 클래스 이름 (예외 없이 기록된 경우 null)
+ * @param path        요청 경로 (요청 밖에서 기록된 경우 null)
+ * @param fingerprint 스택 지문 16진수 문자열 (예외 없이 기록된 경우 null)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RecentError(
+    Instant timestamp,
+    String code,
+    int status,
+    String exception,
+    String path,
+    String fingerprint
+) {}
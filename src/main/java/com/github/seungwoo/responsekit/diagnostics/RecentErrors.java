@@ -0,0 +1,183 @@
+package com.github.seungwoo.responsekit.diagnostics;
+
+import com.github.seungwoo.responsekit.logging.StackTraceFingerprint;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 최근 처리한 에러를 고정 크기로 보관하는 락 없는 링 버퍼
+ * <p>
+ * 슬롯은 생성 시점에 모두 만들어 두고, 기록할 때는 전역 순번으로 슬롯을 고른 뒤 시각/응답 코드/HTTP 상태/예외 타입/
+ * 요청 경로/스택 지문 필드만 덮어쓰므로 에러 발생량과 관계없이 메모리가 일정합니다.
+ * <ul>
+ *     <li>슬롯마다 버전(seqlock)을 두어, 쓰는 동안은 홀수, 다 쓰면 짝수가 됩니다. 읽는 쪽은 읽기 전후 버전이 같은
+ *     짝수일 때만 값을 사용하므로 쓰는 중인 슬롯을 반쯤 읽지 않습니다.</li>
+ *     <li>버퍼를 한 바퀴 돌아 다른 스레드가 아직 쓰고 있는 슬롯에 도착하면 기다리지 않고 그 에러를 버리고
+ *     개수만 셉니다.</li>
+ * </ul>
+ * 조회와 코드별 발생률 계산은 버퍼 전체를 훑으며 그때만 결과 객체를 만듭니다.
+ * 스택 지문은 {@link StackTraceFingerprint}로 계산하며, 스택 트레이스를 수집하지 않는 예외는 타입만 반영됩니다.
+ */
+public class RecentErrors {
+
+    private static final VarHandle VERSION;
+
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(Slot.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity 보관할 최대 에러 수 (2의 거듭제곱으로 올림, 0이면 기록하지 않음)
+     */
+    public RecentErrors(int capacity) {
+        if (capacity < 0 || capacity > 1 << 20) {
+            throw new IllegalArgumentException("capacity는 0 이상 1048576 이하여야 합니다: " + capacity);
+        }
+        int size = capacity == 0 ? 0 : 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1));
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+    }
+
+    public static RecentErrors disabled() {
+        return new RecentErrors(0);
+    }
+
+    public void record(BaseResponseCode code, Throwable ex, String path) {
+        if (slots.length == 0) {
+            return;
+        }
+        Slot slot = slots[(int) (sequence.getAndIncrement() & mask)];
+        long version = (long) VERSION.getAcquire(slot);
+        if ((version & 1) != 0 || !VERSION.compareAndSet(slot, version, version + 1)) {
+            dropped.increment();
+            return;
+        }
+        slot.timestamp = System.currentTimeMillis();
+        slot.code = code;
+        slot.exceptionType = ex == null ? null : ex.getClass();
+        slot.path = path;
+        slot.fingerprint = ex == null ? 0 : StackTraceFingerprint.of(ex);
+        VERSION.setRelease(slot, version + 2);
+    }
+
+    /**
+     * 조건에 맞는 최근 에러 (최신순)
+     *
+     * @param code  응답 코드 (null이면 전체)
+     * @param since 이 시각 이후에 기록된 에러만 (null이면 전체)
+     * @param limit 최대 개수
+     */
+    public List<RecentError> snapshot(String code, Instant since, int limit) {
+        long sinceMillis = since == null ? Long.MIN_VALUE : since.toEpochMilli();
+        List<RecentError> errors = new ArrayList<>();
+        for (Slot slot : slots) {
+            RecentError error = slot.read();
+            if (error != null && error.timestamp().toEpochMilli() >= sinceMillis
+                && (code == null || code.equals(error.code()))) {
+                errors.add(error);
+            }
+        }
+        errors.sort(Comparator.comparing(RecentError::timestamp).reversed());
+        return errors.size() > limit ? List.copyOf(errors.subList(0, limit)) : errors;
+    }
+
+    /**
+     * 최근 window 동안의 코드별 발생 수와 초당 발생률 (발생 수가 많은 순)
+     * <p>
+     * window 안의 에러가 버퍼 크기보다 많으면 덮어쓰인 만큼 적게 집계되며, 이 경우 {@link Rates#truncated()}가 true입니다.
+     */
+    public Rates rates(Duration window) {
+        long sinceMillis = System.currentTimeMillis() - window.toMillis();
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        long oldest = Long.MAX_VALUE;
+        for (Slot slot : slots) {
+            RecentError error = slot.read();
+            if (error == null) {
+                continue;
+            }
+            long timestamp = error.timestamp().toEpochMilli();
+            oldest = Math.min(oldest, timestamp);
+            if (timestamp >= sinceMillis) {
+                counts.computeIfAbsent(error.code(), c -> new long[1])[0]++;
+            }
+        }
+        double seconds = Math.max(window.toMillis(), 1) / 1000.0;
+        List<CodeRate> rates = new ArrayList<>(counts.size());
+        counts.forEach((code, count) -> rates.add(new CodeRate(code, count[0], count[0] / seconds)));
+        rates.sort(Comparator.comparingLong(CodeRate::count).reversed());
+        boolean truncated = recordedCount() > slots.length && oldest > sinceMillis;
+        return new Rates(window, truncated, rates);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long recordedCount() {
+        return sequence.get();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public record CodeRate(String code, long count, double perSecond) {}
+
+    public record Rates(Duration window, boolean truncated, List<CodeRate> codes) {}
+
+    private static final class Slot {
+
+        // 0: 비어 있음, 홀수: 쓰는 중, 짝수: 완료
+        private volatile long version;
+
+        private long timestamp;
+        private BaseResponseCode code;
+        private Class<?> exceptionType;
+        private String path;
+        private long fingerprint;
+
+        private RecentError read() {
+            long before = (long) VERSION.getAcquire(this);
+            if (before == 0 || (before & 1) != 0) {
+                return null;
+            }
+            long readTimestamp = timestamp;
+            BaseResponseCode readCode = code;
+            Class<?> readType = exceptionType;
+            String readPath = path;
+            long readFingerprint = fingerprint;
+            VarHandle.loadLoadFence();
+            if ((long) VERSION.getAcquire(this) != before) {
+                return null;
+            }
+            return new RecentError(Instant.ofEpochMilli(readTimestamp), readCode.getCode(),
+                readCode.getHttpStatus().value(), readType == null ? null : readType.getName(), readPath,
+                readType == null ? null : StackTraceFingerprint.toHex(readFingerprint));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.seungwoo.responsekit.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * RecentErrors를 조회하는 Actuator 엔드포인트 ({@code /actuator/responseKitErrors})
+ * <p>
+ * {@code ?code=USER_NOT_FOUND&window=5m&limit=50}처럼 응답 코드와 최근 구간으로 걸러 최신순으로 반환하며,
+ * 같은 구간의 코드별 발생 수/초당 발생률을 함께 계산합니다. window가 없으면 기본 구간(1분)의 발생률과 버퍼 전체를 반환합니다.
+ */
+@Endpoint(id = "responseKitErrors")
+public class RecentErrorsEndpoint {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final RecentErrors recentErrors;
+
+    public RecentErrorsEndpoint(RecentErrors recentErrors) {
+        this.recentErrors = recentErrors;
+    }
+
+    @ReadOperation
+    public Report errors(@Nullable String code, @Nullable Duration window, @Nullable Integer limit) {
+        Instant since = window == null ? null : Instant.now().minus(window);
+        int max = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, recentErrors.capacity());
+        return new Report(recentErrors.capacity(), recentErrors.recordedCount(), recentErrors.droppedCount(),
+            recentErrors.rates(window == null ? DEFAULT_WINDOW : window), recentErrors.snapshot(code, since, max));
+    }
+
+    /**
+     * @param recorded 시작 이후 기록을 시도한 에러 수
+     * @param dropped  쓰는 중인 슬롯과 겹쳐 버려진 에러 수
+     */
+    public record Report(
+        int capacity,
+        long recorded,
+        long dropped,
+        RecentErrors.Rates rates,
+        List<RecentError> errors
+    ) {}
+}
@@ -0,0 +1,201 @@
+package com.github.seungwoo.responsekit.fields;
+
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.github.seungwoo.responsekit.response.FieldError;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * fields 파라미터(ex: {@code id,name,orders.total})를 컴파일한 필드 선택 트리
+ * <p>
+ * {@link #filter()}는 Jackson TokenFilter이므로 FilteringGeneratorDelegate로 감싼 생성기에 data를 직렬화하면
+ * 중간 Map/JsonNode 없이 선택한 경로만 출력됩니다. 배열/컬렉션은 요소마다 같은 선택을 적용하고, 선택한 경로의 하위
+ * 값은 모두 출력합니다. (orders와 orders.total을 함께 지정하면 orders 전체)
+ * <p>
+ * 인스턴스는 요청 간에 공유되며({@link FieldSelections}), data 타입별 경로 검증 결과도 함께 캐시합니다.
+ */
+public final class FieldSelection {
+
+    private final String parameterName;
+    private final String expression;
+    private final List<String[]> paths;
+    private final Node root = new Node();
+    private final Map<JavaType, List<FieldError>> unknownPaths = new ConcurrentHashMap<>();
+
+    private FieldSelection(String parameterName, String expression, List<String[]> paths) {
+        this.parameterName = parameterName;
+        this.expression = expression;
+        this.paths = paths;
+        for (String[] path : paths) {
+            root.add(path, 0);
+        }
+    }
+
+    /**
+     * 쉼표로 구분한 경로 목록 컴파일. 경로는 점(.)으로 구분한 필드 이름(영문/숫자/_/-/$)입니다.
+     *
+     * @throws InvalidFieldsException 빈 경로, 허용하지 않는 문자, maxFields/maxDepth 초과
+     */
+    public static FieldSelection parse(String parameterName, String expression, int maxFields, int maxDepth) {
+        List<FieldError> errors = new ArrayList<>();
+        List<String[]> paths = new ArrayList<>();
+        String[] items = expression.split(",", -1);
+        if (items.length > maxFields) {
+            throw new InvalidFieldsException(List.of(new FieldError(parameterName, expression,
+                "fields는 최대 " + maxFields + "개까지 지정할 수 있습니다.")));
+        }
+        for (String item : items) {
+            String path = item.strip();
+            String[] segments = path.split("\\.", -1);
+            if (path.isEmpty() || !Arrays.stream(segments).allMatch(FieldSelection::isValidSegment)) {
+                errors.add(new FieldError(parameterName, path, "필드 경로 형식이 올바르지 않습니다."));
+            } else if (segments.length > maxDepth) {
+                errors.add(new FieldError(parameterName, path, "필드 경로는 최대 " + maxDepth + "단계까지 지정할 수 있습니다."));
+            } else {
+                paths.add(segments);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidFieldsException(errors);
+        }
+        return new FieldSelection(parameterName, expression, List.copyOf(paths));
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    public TokenFilter filter() {
+        return root;
+    }
+
+    /**
+     * 모든 경로가 dataType을 직렬화한 결과에 존재하는지 확인 (Map/Object/JsonNode/추상 타입 아래는 확인하지 않음)
+     *
+     * @throws InvalidFieldsException 존재하지 않는 경로가 있을 때
+     */
+    public void validate(ObjectMapper mapper, JavaType dataType) {
+        List<FieldError> errors = unknownPaths.computeIfAbsent(dataType, type -> findUnknownPaths(mapper, type));
+        if (!errors.isEmpty()) {
+            throw new InvalidFieldsException(errors);
+        }
+    }
+
+    private List<FieldError> findUnknownPaths(ObjectMapper mapper, JavaType dataType) {
+        List<FieldError> errors = new ArrayList<>();
+        for (String[] path : paths) {
+            if (!exists(mapper, dataType, path)) {
+                errors.add(new FieldError(parameterName, String.join(".", path), "응답 data에 없는 필드입니다."));
+            }
+        }
+        return List.copyOf(errors);
+    }
+
+    private static boolean exists(ObjectMapper mapper, JavaType type, String[] path) {
+        JavaType current = type;
+        for (String segment : path) {
+            current = elementType(current);
+            if (isOpen(current)) {
+                return true;
+            }
+            BeanDescription description = mapper.getSerializationConfig().introspect(current);
+            JavaType next = null;
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                if (property.getName().equals(segment) && property.couldSerialize()) {
+                    next = property.getPrimaryType();
+                    break;
+                }
+            }
+            if (next == null) {
+                return false;
+            }
+            current = next;
+        }
+        return true;
+    }
+
+    // 배열/컬렉션/Optional은 요소 타입 기준으로 확인
+    private static JavaType elementType(JavaType type) {
+        JavaType current = type;
+        while ((current.isContainerType() && !current.isMapLikeType()) || current.isReferenceType()) {
+            current = current.getContentType();
+        }
+        return current;
+    }
+
+    // 키를 미리 알 수 없거나 실제 타입이 실행 시점에 정해지는 타입
+    private static boolean isOpen(JavaType type) {
+        return type.isMapLikeType()
+            || type.isJavaLangObject()
+            || JsonNode.class.isAssignableFrom(type.getRawClass())
+            || (type.isAbstract() && !type.isContainerType());
+    }
+
+    private static boolean isValidSegment(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '$')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Node extends TokenFilter {
+
+        private final Map<String, Node> children = new HashMap<>();
+        // 이 경로 아래를 모두 포함
+        private boolean all;
+
+        private void add(String[] path, int depth) {
+            if (depth == path.length) {
+                all = true;
+                children.clear();
+                return;
+            }
+            if (!all) {
+                children.computeIfAbsent(path[depth], name -> new Node()).add(path, depth + 1);
+            }
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            Node child = children.get(name);
+            if (child == null) {
+                return null;
+            }
+            return child.all ? TokenFilter.INCLUDE_ALL : child;
+        }
+
+        @Override
+        public TokenFilter includeElement(int index) {
+            return this;
+        }
+
+        // 선택한 필드가 모두 없는 객체/배열도 구조를 유지하도록 {}/[]로 출력
+        @Override
+        public boolean includeEmptyObject(boolean contentsFiltered) {
+            return true;
+        }
+
+        @Override
+        public boolean includeEmptyArray(boolean contentsFiltered) {
+            return true;
+        }
+    }
+}
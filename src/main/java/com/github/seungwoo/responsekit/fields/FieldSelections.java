@@ -0,0 +1,121 @@
+package com.github.seungwoo.responsekit.fields;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * fields 식 → 컴파일된 {@link FieldSelection} LRU 캐시
+ * <p>
+ * 클라이언트가 보내는 fields 조합은 대부분 몇 가지로 반복되므로 식마다 한 번만 파싱하고, 임의의 조합이 많이 들어와도
+ * maxEntries를 넘으면 가장 오래 쓰지 않은 항목부터 버려 메모리가 늘어나지 않습니다.
+ * <p>
+ * 조회는 ConcurrentHashMap에서 락 없이 하고, 항목마다 마지막 사용 시점(새 항목이 들어올 때만 증가하는 논리 시각)만
+ * 기록합니다. 새 항목이 들어와 maxEntries를 넘으면 한 스레드가 시점이 가장 오래된 항목부터 maxEntries의 약 1/8을
+ * 한꺼번에 버리므로 정리 비용이 삽입마다 나뉘어 들고, 정리 중에 동시에 들어온 항목만큼만 잠시 maxEntries를 넘을 수 있습니다.
+ * (같은 시각 사이에 쓰인 항목끼리는 순서를 구분하지 않는 근사 LRU)
+ */
+public class FieldSelections {
+
+    private final String parameterName;
+    private final int maxEntries;
+    private final int maxFields;
+    private final int maxDepth;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    // 새 항목은 홀수, 조회는 짝수 시각을 기록해 마지막 삽입 뒤에 조회된 항목이 그 삽입 항목보다 나중으로 정렬되게 함
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public FieldSelections(String parameterName, int maxEntries, int maxFields, int maxDepth) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.parameterName = parameterName;
+        this.maxEntries = maxEntries;
+        this.maxFields = maxFields;
+        this.maxDepth = maxDepth;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * @throws InvalidFieldsException 형식이 맞지 않는 식 (캐시하지 않음)
+     */
+    public FieldSelection compile(String expression) {
+        Entry entry = cache.get(expression);
+        if (entry != null) {
+            entry.touch(clock.get());
+            return entry.selection;
+        }
+        FieldSelection selection = FieldSelection.parse(parameterName, expression, maxFields, maxDepth);
+        Entry created = new Entry(selection, clock.addAndGet(2) - 1);
+        Entry existing = cache.putIfAbsent(expression, created);
+        if (existing != null) {
+            return existing.selection;
+        }
+        if (cache.size() > maxEntries) {
+            evict();
+        }
+        return selection;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // 다른 스레드가 정리 중이면 건너뜀 (다음 삽입에서 다시 확인)
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int excess = cache.size() - (maxEntries - maxEntries / 8);
+            if (excess <= 0) {
+                return;
+            }
+            long[] stamps = cache.values().stream().mapToLong(e -> e.lastAccess).toArray();
+            if (stamps.length < excess) {
+                excess = stamps.length;
+            }
+            Arrays.sort(stamps);
+            long threshold = stamps[excess - 1];
+            int removed = 0;
+            for (Map.Entry<String, Entry> candidate : cache.entrySet()) {
+                if (removed == excess) {
+                    break;
+                }
+                Entry value = candidate.getValue();
+                if (value.lastAccess <= threshold && cache.remove(candidate.getKey(), value)) {
+                    removed++;
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry {
+
+        private final FieldSelection selection;
+        private volatile long lastAccess;
+
+        private Entry(FieldSelection selection, long lastAccess) {
+            this.selection = selection;
+            this.lastAccess = lastAccess;
+        }
+
+        // 같은 시각이면 쓰지 않아 자주 쓰이는 항목도 캐시 라인을 매번 갱신하지 않음
+        private void touch(long now) {
+            if (lastAccess < now) {
+                lastAccess = now;
+            }
+        }
+    }
+}
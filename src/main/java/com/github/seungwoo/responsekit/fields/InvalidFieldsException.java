@@ -0,0 +1,27 @@
+package com.github.seungwoo.responsekit.fields;
+
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 형식이 맞지 않거나 응답 data에 없는 경로를 지정한 fields 파라미터 (BAD_REQUEST)
+ * <p>
+ * 잘못된 경로마다 FieldError(field=파라미터 이름, rejectedValue=경로)를 담아 ErrorResponse로 응답합니다.
+ * 클라이언트 입력 오류이므로 스택 트레이스를 기록하지 않습니다.
+ */
+@Getter
+public class InvalidFieldsException extends CustomException {
+
+    private final List<FieldError> fieldErrors;
+
+    public InvalidFieldsException(List<FieldError> fieldErrors) {
+        super(CommonResponseCode.BAD_REQUEST, "잘못된 fields 파라미터: " + fieldErrors.size() + "개 경로", false);
+        this.fieldErrors = List.copyOf(fieldErrors);
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.seungwoo.responsekit.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.security.Principal;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Idempotency-Key의 사용자 범위 결정
+ * <p>
+ * 서로 다른 사용자가 같은 Idempotency-Key를 보내도 다른 사용자의 응답을 돌려받지 않도록 키 앞에 붙입니다.
+ * 기본 구현은 인증된 Principal 이름을 사용하며, API 키 헤더 등으로 사용자를 구분한다면 Bean으로 대체합니다.
+ * <p>
+ * null이나 빈 문자열을 돌려주면 그 요청은 저장/재생하지 않습니다. 인증 없이 호출하는 엔드포인트에 Idempotency-Key를
+ * 적용하려면 클라이언트를 구분할 수 있는 값(API 키, 디바이스 ID 등)을 돌려주는 구현을 등록해야 합니다.
+ */
+@FunctionalInterface
+public interface IdempotencyScopeResolver {
+
+    String resolve(HttpServletRequest request);
+
+    /**
+     * 인증된 사용자 이름 (인증되지 않은 요청은 null - 저장/재생하지 않음)
+     */
+    static IdempotencyScopeResolver principal() {
+        return request -> {
+            Principal principal = request.getUserPrincipal();
+            return principal == null ? null : principal.getName();
+        };
+    }
+}
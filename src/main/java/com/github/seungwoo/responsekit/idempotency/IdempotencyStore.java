@@ -0,0 +1,27 @@
+package com.github.seungwoo.responsekit.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Idempotency-Key 응답 저장소 SPI
+ * <p>
+ * 기본 구현은 인스턴스 메모리에 저장하는 {@link InMemoryIdempotencyStore}이며, 여러 인스턴스가 같은 키를 공유해야 하면
+ * Redis 등 공유 저장소로 구현한 Bean을 등록해 대체합니다. 키는 사용자 범위/HTTP 메서드/경로/Idempotency-Key를 합친
+ * 문자열입니다.
+ * <p>
+ * 같은 키로 동시에 들어온 요청을 하나만 실행하는 처리(in-flight 합치기)는 인스턴스 안에서 IdempotencyFilter가 담당합니다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 저장된 응답 (없거나 만료됐으면 null)
+     */
+    IdempotentResponse get(String key);
+
+    void put(String key, IdempotentResponse response, Duration ttl);
+
+    void remove(String key);
+}
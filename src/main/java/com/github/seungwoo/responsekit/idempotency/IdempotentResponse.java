@@ -0,0 +1,22 @@
+package com.github.seungwoo.responsekit.idempotency;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Idempotency-Key로 저장해 두었다가 재시도 요청에 그대로 돌려줄 응답 (ApiResponse/ErrorResponse 모두)
+ * <p>
+ * body/requestFingerprint 배열은 저장 이후 여러 요청이 공유하므로 수정하면 안 됩니다.
+ *
+ * @param contentType        응답 Content-Type (없으면 null)
+ * @param requestFingerprint 이 응답을 만든 요청 본문의 SHA-256 (같은 키를 다른 본문으로 재사용했는지 비교)
+ */
+public record IdempotentResponse(int status, String contentType, byte[] body, byte[] requestFingerprint) {
+
+    /**
+     * 저장 용량 계산에 쓰는 대략적인 크기 (본문 + 고정 오버헤드)
+     */
+    public long size() {
+        return body.length + requestFingerprint.length + (contentType == null ? 0 : contentType.length() * 2L) + 64;
+    }
+}
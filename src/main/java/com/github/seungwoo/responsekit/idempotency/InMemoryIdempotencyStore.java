@@ -0,0 +1,145 @@
+package com.github.seungwoo.responsekit.idempotency;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 용량(byte)과 TTL로 제한되는 메모리 IdempotencyStore (Segmented LRU)
+ * <p>
+ * 새 응답은 probation 구간에 들어가고, 한 번 더 조회된(실제로 재시도가 온) 응답만 protected 구간(용량의 80%)으로
+ * 올라갑니다. 용량을 넘으면 probation의 가장 오래된 항목부터 버리므로, 한 번도 재시도되지 않는 대량의 응답이
+ * 재시도가 잦은 응답을 밀어내지 않습니다. protected가 넘치면 가장 오래된 항목을 probation으로 내립니다.
+ * <p>
+ * 만료된 항목은 조회 시점에 제거되고, 조회되지 않는 만료 항목은 LRU 순서대로 밀려납니다.
+ * Idempotency-Key가 있는 요청에서만 접근하므로 하나의 락으로 두 구간을 함께 보호합니다.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final long maxBytes;
+    private final long protectedMaxBytes;
+    private final LongSupplier clock;
+
+    // access-order: 순회 시작이 가장 오래 조회되지 않은 항목
+    private final LinkedHashMap<String, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long probationBytes;
+    private long protectedBytes;
+
+    public InMemoryIdempotencyStore(long maxBytes) {
+        this(maxBytes, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock 현재 시각(epoch millis) - 테스트에서 시간을 고정할 때 사용
+     */
+    public InMemoryIdempotencyStore(long maxBytes, LongSupplier clock) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes는 0보다 커야 합니다: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.protectedMaxBytes = (long) (maxBytes * PROTECTED_RATIO);
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized IdempotentResponse get(String key) {
+        long now = clock.getAsLong();
+        Entry entry = protectedSegment.get(key);
+        if (entry != null) {
+            if (entry.expired(now)) {
+                protectedSegment.remove(key);
+                protectedBytes -= entry.size;
+                return null;
+            }
+            return entry.response;
+        }
+        entry = probation.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        probationBytes -= entry.size;
+        if (entry.expired(now)) {
+            return null;
+        }
+        protectedSegment.put(key, entry);
+        protectedBytes += entry.size;
+        demoteOverflow();
+        return entry.response;
+    }
+
+    @Override
+    public synchronized void put(String key, IdempotentResponse response, Duration ttl) {
+        long size = response.size() + key.length() * 2L;
+        removeEntry(key);
+        if (size > maxBytes) {
+            return;
+        }
+        probation.put(key, new Entry(response, clock.getAsLong() + ttl.toMillis(), size));
+        probationBytes += size;
+        evictOverflow();
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        removeEntry(key);
+    }
+
+    public synchronized int size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    public synchronized long usedBytes() {
+        return probationBytes + protectedBytes;
+    }
+
+    private void removeEntry(String key) {
+        Entry entry = probation.remove(key);
+        if (entry != null) {
+            probationBytes -= entry.size;
+        }
+        entry = protectedSegment.remove(key);
+        if (entry != null) {
+            protectedBytes -= entry.size;
+        }
+    }
+
+    private void demoteOverflow() {
+        Iterator<Map.Entry<String, Entry>> eldest = protectedSegment.entrySet().iterator();
+        while (protectedBytes > protectedMaxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> demoted = eldest.next();
+            eldest.remove();
+            protectedBytes -= demoted.getValue().size;
+            probation.put(demoted.getKey(), demoted.getValue());
+            probationBytes += demoted.getValue().size;
+        }
+        evictOverflow();
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry> probationEldest = probation.values().iterator();
+        while (probationBytes + protectedBytes > maxBytes && probationEldest.hasNext()) {
+            probationBytes -= probationEldest.next().size;
+            probationEldest.remove();
+        }
+        Iterator<Entry> protectedEldest = protectedSegment.values().iterator();
+        while (probationBytes + protectedBytes > maxBytes && protectedEldest.hasNext()) {
+            protectedBytes -= protectedEldest.next().size;
+            protectedEldest.remove();
+        }
+    }
+
+    private record Entry(IdempotentResponse response, long expiresAt, long size) {
+
+        boolean expired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.seungwoo.responsekit.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 동시에 처리 중인 요청 수를 제한하는 락 없는 리미터
+ * <p>
+ * 처리 중 요청 수는 AtomicInteger 하나로 관리하며, {@link #tryAcquire()}는 증가 후 한도를 넘으면 되돌리는
+ * 한 번의 원자 연산으로 끝나므로 포화 상태에서도 요청 스레드가 대기하지 않습니다.
+ * <ul>
+ *     <li>{@link #fixed(int)}: 한도가 고정된 리미터</li>
+ *     <li>{@link #aimd(int, int, int, Duration, double)}: 관측한 처리 시간으로 한도를 조정하는 AIMD 리미터.
+ *     처리 시간이 latencyThreshold를 넘으면 한도에 backoffRatio를 곱해 줄이고, 그렇지 않으면서 한도의 절반 이상을
+ *     사용 중이면 1씩 늘립니다.</li>
+ * </ul>
+ * 감소는 latencyThreshold 간격에 한 번만 적용해, 이전 한도에서 받아들인 느린 요청들이 한꺼번에 끝나면서 한도를
+ * 연쇄적으로 줄이지 않도록 합니다.
+ */
+public class ConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecreaseNanos;
+    private final LongAdder rejected = new LongAdder();
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, boolean adaptive,
+        long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                "한도는 1 이상이고 minLimit <= initialLimit <= maxLimit 이어야 합니다.");
+        }
+        this.limit = new AtomicInteger(initialLimit);
+        this.adaptive = adaptive;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.lastDecreaseNanos = new AtomicLong(System.nanoTime() - latencyThresholdNanos);
+    }
+
+    public static ConcurrencyLimiter fixed(int limit) {
+        return new ConcurrencyLimiter(limit, limit, limit, false, 0, 1);
+    }
+
+    public static ConcurrencyLimiter aimd(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+        double backoffRatio) {
+        if (latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("latencyThreshold는 0보다 커야 합니다.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다.");
+        }
+        return new ConcurrencyLimiter(initialLimit, minLimit, maxLimit, true, latencyThreshold.toNanos(),
+            backoffRatio);
+    }
+
+    /**
+     * 처리 슬롯 획득 (한도에 도달했으면 즉시 false)
+     */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit.get()) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 처리 시간을 반영하지 않고 슬롯 반환 (비동기 요청 등 처리 시간이 부하를 나타내지 않는 경우)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 슬롯 반환 후 처리 시간으로 한도 조정
+     */
+    public void release(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        if (adaptive) {
+            adjust(latencyNanos, current);
+        }
+    }
+
+    private void adjust(long latencyNanos, int inFlightAtRelease) {
+        if (latencyNanos > latencyThresholdNanos) {
+            long now = System.nanoTime();
+            long last = lastDecreaseNanos.get();
+            if (now - last >= latencyThresholdNanos && lastDecreaseNanos.compareAndSet(last, now)) {
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+            }
+            return;
+        }
+        int current = limit.get();
+        if (current < maxLimit && inFlightAtRelease * 2 >= current) {
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.seungwoo.responsekit.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 모든 이벤트를 그대로 기록하는 기본 전략
+ */
+public class DefaultExceptionLogStrategy implements ExceptionLogStrategy {
+
+    @Override
+    public void log(Logger logger, Level level, String key, String format, Object... args) {
+        if (logger.isEnabledForLevel(level)) {
+            LogEmitter.emit(logger, level, format, args);
+        }
+    }
+
+    @Override
+    public void logWithStackTrace(Logger logger, Level level, String key, String message, Throwable ex) {
+        if (logger.isEnabledForLevel(level)) {
+            LogEmitter.emit(logger, level, message, ex);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.seungwoo.responsekit.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 예외 처리기에서 남기는 로그를 어떻게 기록할지 결정하는 전략
+ * <p>
+ * 메시지는 SLF4J 포맷 문자열과 인자로 전달되며, 실제로 기록되는 경우에만 문자열이 만들어집니다.
+ * 기본 구현은 {@link DefaultExceptionLogStrategy}이며, 장애 상황의 로그 I/O를 제한하려면
+ * {@link RateLimitedExceptionLogStrategy}를 사용할 수 있습니다.
+ */
+public interface ExceptionLogStrategy {
+
+    /**
+     * @param key 레이트 리밋과 집계 단위 (응답 코드 또는 예외 타입 이름)
+     */
+    void log(Logger logger, Level level, String key, String format, Object... args);
+
+    /**
+     * 스택 트레이스를 포함해야 하는 로그
+     */
+    void logWithStackTrace(Logger logger, Level level, String key, String message, Throwable ex);
+}
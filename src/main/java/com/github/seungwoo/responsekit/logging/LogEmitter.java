@@ -0,0 +1,36 @@
+package com.github.seungwoo.responsekit.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Level 값에 맞는 SLF4J 메소드 호출 (fluent API의 이벤트 빌더 할당을 피하기 위함)
+ */
+final class LogEmitter {
+
+    private LogEmitter() {
+    }
+
+    static void emit(Logger logger, Level level, String format, Object... args) {
+        switch (level) {
+            case ERROR -> logger.error(format, args);
+            case WARN -> logger.warn(format, args);
+            case INFO -> logger.info(format, args);
+            case DEBUG -> logger.debug(format, args);
+            case TRACE -> logger.trace(format, args);
+        }
+    }
+
+    static void emit(Logger logger, Level level, String message, Throwable ex) {
+        switch (level) {
+            case ERROR -> logger.error(message, ex);
+            case WARN -> logger.warn(message, ex);
+            case INFO -> logger.info(message, ex);
+            case DEBUG -> logger.debug(message, ex);
+            case TRACE -> logger.trace(message, ex);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.seungwoo.responsekit.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 키(응답 코드/예외 타입)별 토큰 버킷과 스택 트레이스 지문으로 로그 양을 제한하는 전략
+ * <p>
+ * <ul>
+ *     <li>키마다 초당 permitsPerSecond개, 최대 burst개까지 기록하고 초과분은 개수만 셉니다.
+ *     다음으로 기록되는 로그 뒤에 "N more occurrences suppressed" 요약을 남깁니다.</li>
+ *     <li>스택 트레이스는 지문별로 stackTraceWindow 동안 한 번만 출력하고, 창이 바뀔 때
+ *     이전 창에서 생략된 횟수를 요약합니다. 창 안의 나머지 발생은 한 줄 로그로만 (레이트 리밋을 거쳐) 기록됩니다.</li>
+ *     <li>기록되지 않는 이벤트는 메시지 문자열을 만들지 않습니다.</li>
+ * </ul>
+ * 모든 상태는 CAS와 LongAdder로만 갱신하므로 요청 스레드 사이에 락 경합이 없습니다. 키와 지문 개수는 maxKeys로
+ * 제한되며, 초과하면 하나의 공용 버킷을 함께 사용합니다.
+ */
+public class RateLimitedExceptionLogStrategy implements ExceptionLogStrategy {
+
+    // maxKeys를 넘은 키들이 함께 쓰는 공용 버킷의 이름 (생략 요약 로그에 표시)
+    public static final String OVERFLOW_KEY = "__overflow__";
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final long windowNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, TraceWindow> traces = new ConcurrentHashMap<>();
+    private final TokenBucket overflowBucket;
+    private final TraceWindow overflowTrace;
+
+    public RateLimitedExceptionLogStrategy(double permitsPerSecond, int burst, Duration stackTraceWindow, int maxKeys) {
+        this(permitsPerSecond, burst, stackTraceWindow, maxKeys, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 현재 시각(System.nanoTime 기준) - 테스트에서 시간을 고정할 때 사용
+     */
+    public RateLimitedExceptionLogStrategy(double permitsPerSecond, int burst, Duration stackTraceWindow, int maxKeys,
+        LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond는 0보다 크고 burst는 1 이상이어야 합니다.");
+        }
+        if (stackTraceWindow.isNegative() || stackTraceWindow.isZero()) {
+            throw new IllegalArgumentException("stackTraceWindow는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = intervalNanos * (burst - 1);
+        this.windowNanos = stackTraceWindow.toNanos();
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.overflowBucket = new TokenBucket(OVERFLOW_KEY, now);
+        this.overflowTrace = new TraceWindow(now - windowNanos);
+    }
+
+    @Override
+    public void log(Logger logger, Level level, String key, String format, Object... args) {
+        if (!logger.isEnabledForLevel(level)) {
+            return;
+        }
+        TokenBucket bucket = bucket(key);
+        if (!bucket.tryAcquire(nanoClock.getAsLong())) {
+            bucket.suppressed.increment();
+            return;
+        }
+        LogEmitter.emit(logger, level, format, args);
+        reportSuppressed(logger, level, bucket);
+    }
+
+    @Override
+    public void logWithStackTrace(Logger logger, Level level, String key, String message, Throwable ex) {
+        if (!logger.isEnabledForLevel(level)) {
+            return;
+        }
+        long fingerprint = StackTraceFingerprint.of(ex);
+        TraceWindow window = traceWindow(fingerprint);
+        long now = nanoClock.getAsLong();
+        long start = window.start.get();
+        if (now - start >= windowNanos && window.start.compareAndSet(start, now)) {
+            long repeated = window.repeated.sumThenReset();
+            if (repeated > 0) {
+                LogEmitter.emit(logger, level, "{} [fingerprint={}] {} more occurrences in the last window",
+                    message, StackTraceFingerprint.toHex(fingerprint), repeated);
+            }
+            LogEmitter.emit(logger, level, message, ex);
+            return;
+        }
+        window.repeated.increment();
+        log(logger, level, key, "{} {}: {} [fingerprint={}, stack trace already logged]",
+            message, ex.getClass().getName(), ex.getMessage(), StackTraceFingerprint.toHex(fingerprint));
+    }
+
+    // 공용 버킷의 생략 횟수는 여러 키의 합이므로 지금 기록한 키가 아니라 버킷 이름으로 요약
+    private void reportSuppressed(Logger logger, Level level, TokenBucket bucket) {
+        long suppressed = bucket.suppressed.sumThenReset();
+        if (suppressed > 0) {
+            LogEmitter.emit(logger, level, "[{}] {} more occurrences suppressed", bucket.label, suppressed);
+        }
+    }
+
+    private TokenBucket bucket(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            return overflowBucket;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(k, nanoClock.getAsLong()));
+    }
+
+    private TraceWindow traceWindow(long fingerprint) {
+        TraceWindow window = traces.get(fingerprint);
+        if (window != null) {
+            return window;
+        }
+        if (traces.size() >= maxKeys) {
+            return overflowTrace;
+        }
+        return traces.computeIfAbsent(fingerprint, k -> new TraceWindow(nanoClock.getAsLong() - windowNanos));
+    }
+
+    /**
+     * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷. 이론상 다음 도착 시각 하나만 CAS로 갱신합니다.
+     */
+    private final class TokenBucket {
+
+        private final String label;
+        private final AtomicLong theoreticalArrival;
+        private final LongAdder suppressed = new LongAdder();
+
+        private TokenBucket(String label, long now) {
+            this.label = label;
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        private boolean tryAcquire(long now) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = tat - now < 0 ? now : tat;
+                if (base - now > burstToleranceNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class TraceWindow {
+
+        private final AtomicLong start;
+        private final LongAdder repeated = new LongAdder();
+
+        private TraceWindow(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
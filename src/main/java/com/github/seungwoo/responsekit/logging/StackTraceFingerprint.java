@@ -0,0 +1,40 @@
+package com.github.seungwoo.responsekit.logging;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 예외 타입과 스택 프레임(원인 예외 포함)으로 계산한 64비트 지문
+ * <p>
+ * 메시지는 포함하지 않으므로 같은 위치에서 발생한 같은 종류의 예외는 같은 지문을 갖습니다.
+ */
+public final class StackTraceFingerprint {
+
+    private static final int MAX_CAUSE_DEPTH = 8;
+    private static final long PRIME = 0x100000001b3L;
+
+    private StackTraceFingerprint() {
+    }
+
+    public static long of(Throwable ex) {
+        long hash = 0xcbf29ce484222325L;
+        Throwable current = ex;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            hash = mix(hash, current.getClass().getName().hashCode());
+            for (StackTraceElement element : current.getStackTrace()) {
+                hash = mix(hash, element.hashCode());
+            }
+            Throwable cause = current.getCause();
+            current = cause == current ? null : cause;
+        }
+        return hash;
+    }
+
+    public static String toHex(long fingerprint) {
+        return Long.toHexString(fingerprint);
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * PRIME;
+    }
+}
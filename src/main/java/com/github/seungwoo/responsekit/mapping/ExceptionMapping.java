@@ -0,0 +1,22 @@
+package com.github.seungwoo.responsekit.mapping;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import org.slf4j.event.Level;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 예외 타입 하나에 대한 응답 코드/로그 레벨/스택 트레이스 출력 여부
+ */
+public record ExceptionMapping(BaseResponseCode code, Level level, boolean stackTrace) {
+
+    public ExceptionMapping {
+        if (code == null) {
+            throw new IllegalArgumentException("응답 코드는 null일 수 없습니다.");
+        }
+        if (level == null) {
+            throw new IllegalArgumentException("로그 레벨은 null일 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.seungwoo.responsekit.mapping;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.event.Level;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 예외 타입 → {@link ExceptionMapping} 조회기
+ * <p>
+ * 예외 클래스마다 상위 클래스를 따라 올라가며 가장 가까운 매핑을 한 번만 찾고, 결과를 ClassValue에 저장합니다.
+ * 이후 같은 예외 클래스는 잠금 없이 조회 한 번으로 끝나므로 매핑이 수백 개여도 예외 처리 비용이 늘지 않습니다.
+ * <p>
+ * 매핑은 생성 시점에 고정되며 이후 변경할 수 없습니다.
+ */
+public final class ExceptionMappings {
+
+    private static final ExceptionMappings EMPTY = new ExceptionMappings(Map.of());
+
+    private final Map<Class<?>, ExceptionMapping> mappings;
+    // 매핑이 없는 예외 클래스는 Optional.empty()로 저장
+    private final ClassValue<Optional<ExceptionMapping>> resolved = new ClassValue<>() {
+        @Override
+        protected Optional<ExceptionMapping> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                ExceptionMapping mapping = mappings.get(current);
+                if (mapping != null) {
+                    return Optional.of(mapping);
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    private ExceptionMappings(Map<Class<?>, ExceptionMapping> mappings) {
+        this.mappings = mappings;
+    }
+
+    public static ExceptionMappings empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 예외에 적용할 매핑 (없으면 null)
+     */
+    public ExceptionMapping resolve(Throwable ex) {
+        if (mappings.isEmpty()) {
+            return null;
+        }
+        return resolved.get(ex.getClass()).orElse(null);
+    }
+
+    public int size() {
+        return mappings.size();
+    }
+
+    public static final class Builder {
+
+        private final Map<Class<?>, ExceptionMapping> mappings = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * WARN 레벨, 스택 트레이스 없이 매핑
+         */
+        public Builder map(Class<? extends Throwable> type, BaseResponseCode code) {
+            return map(type, code, Level.WARN, false);
+        }
+
+        /**
+         * 같은 예외 타입을 다시 매핑하면 나중에 등록한 매핑이 적용됩니다.
+         */
+        public Builder map(Class<? extends Throwable> type, BaseResponseCode code, Level level, boolean stackTrace) {
+            if (type == null) {
+                throw new IllegalArgumentException("예외 타입은 null일 수 없습니다.");
+            }
+            mappings.put(type, new ExceptionMapping(code, level, stackTrace));
+            return this;
+        }
+
+        public ExceptionMappings build() {
+            return mappings.isEmpty() ? EMPTY : new ExceptionMappings(Map.copyOf(mappings));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.seungwoo.responsekit.mapping;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 외부 라이브러리 예외를 응답 코드로 매핑하는 설정 Bean
+ * <p>
+ * 예외마다 @ExceptionHandler 메소드를 추가하는 대신 Bean으로 등록하면 GlobalExceptionHandler(ReactiveGlobalExceptionHandler)의
+ * 최종 핸들러가 매핑된 코드로 응답합니다.
+ * <pre>
+ * &#64;Bean
+ * public ResponseCodeMapper dataAccessMapper() {
+ *     return mappings -> mappings
+ *         .map(DuplicateKeyException.class, CommonResponseCode.CONFLICT)
+ *         .map(QueryTimeoutException.class, CommonResponseCode.INTERNAL_ERROR, Level.ERROR, true);
+ * }
+ * </pre>
+ */
+@FunctionalInterface
+public interface ResponseCodeMapper {
+
+    void configure(ExceptionMappings.Builder mappings);
+}
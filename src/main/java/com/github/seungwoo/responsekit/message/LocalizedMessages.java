@@ -0,0 +1,155 @@
+package com.github.seungwoo.responsekit.message;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 응답 코드 메시지의 로케일별 조회 테이블
+ * <p>
+ * MessageSource에서 {@code keyPrefix + getCode()} 키로 지원 로케일의 메시지를 찾아 Enum 타입마다
+ * {@code [ordinal][localeIndex]} 배열로 한 번만 만들어 두므로, 요청 처리 중에는 MessageSource 조회나 포맷팅이 일어나지 않습니다.
+ * <ul>
+ *     <li>localeIndex 0은 지원 로케일과 맞지 않는 요청으로, {@link BaseResponseCode#getMessage()}를 그대로 사용합니다.</li>
+ *     <li>1..n은 response-kit.message.locales 순서이며, 정확히 일치하는 로케일이 없으면 언어만 같은 로케일을 사용합니다.</li>
+ *     <li>MessageSource에 메시지가 없는 코드는 getMessage()로 대체됩니다.</li>
+ *     <li>Enum이 아닌 코드(RemoteResponseCode 등)는 종류가 외부 입력에 따라 끝없이 늘어날 수 있으므로 테이블에 보관하지 않고
+ *     호출마다 해당 로케일의 메시지만 MessageSource에서 조회합니다.</li>
+ * </ul>
+ * <p>
+ * 요청 로케일은 LocaleContextHolder(Accept-Language)에서 가져오며, {@code {0}} 같은 인자가 필요한 메시지만
+ * {@link #format(BaseResponseCode, Object...)} 호출 시점에 MessageFormat으로 포맷팅합니다.
+ */
+public final class LocalizedMessages {
+
+    private static final LocalizedMessages NONE = new LocalizedMessages(null, List.of(), "");
+
+    private static volatile LocalizedMessages global = NONE;
+
+    private final MessageSource messageSource;
+    private final Locale[] locales;
+    private final String keyPrefix;
+    private final ClassValue<String[][]> enumMessages = new ClassValue<>() {
+        @Override
+        protected String[][] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            String[][] table = new String[constants.length][];
+            for (Object constant : constants) {
+                table[((Enum<?>) constant).ordinal()] = resolveAll((BaseResponseCode) constant);
+            }
+            return table;
+        }
+    };
+
+    public LocalizedMessages(MessageSource messageSource, List<Locale> locales, String keyPrefix) {
+        if (!locales.isEmpty() && messageSource == null) {
+            throw new IllegalArgumentException("지원 로케일이 있으면 MessageSource가 필요합니다.");
+        }
+        this.messageSource = messageSource;
+        this.locales = locales.toArray(Locale[]::new);
+        this.keyPrefix = keyPrefix == null ? "" : keyPrefix;
+    }
+
+    /**
+     * 로케일별 메시지를 사용하지 않는 기본 테이블 (항상 getMessage())
+     */
+    public static LocalizedMessages none() {
+        return NONE;
+    }
+
+    /**
+     * ApiResponse/ErrorResponse/ResponseBodyCache가 사용하는 전역 테이블
+     */
+    public static LocalizedMessages global() {
+        return global;
+    }
+
+    public static void configure(LocalizedMessages messages) {
+        if (messages == null) {
+            throw new IllegalArgumentException("LocalizedMessages는 null일 수 없습니다.");
+        }
+        global = messages;
+    }
+
+    /**
+     * 기본 메시지(0)를 포함한 로케일 슬롯 개수
+     */
+    public int localeCount() {
+        return locales.length + 1;
+    }
+
+    /**
+     * 현재 요청 로케일의 슬롯 번호
+     */
+    public int currentLocaleIndex() {
+        if (locales.length == 0) {
+            return 0;
+        }
+        return localeIndex(LocaleContextHolder.getLocale());
+    }
+
+    public int localeIndex(Locale locale) {
+        if (locales.length == 0 || locale == null) {
+            return 0;
+        }
+        for (int i = 0; i < locales.length; i++) {
+            if (locales[i].equals(locale)) {
+                return i + 1;
+            }
+        }
+        String language = locale.getLanguage();
+        for (int i = 0; i < locales.length; i++) {
+            if (locales[i].getLanguage().equals(language)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 현재 요청 로케일의 메시지
+     */
+    public String message(BaseResponseCode code) {
+        return message(code, currentLocaleIndex());
+    }
+
+    public String message(BaseResponseCode code, int localeIndex) {
+        if (localeIndex == 0) {
+            return code.getMessage();
+        }
+        if (code instanceof Enum<?> constant) {
+            return enumMessages.get(constant.getDeclaringClass())[constant.ordinal()][localeIndex];
+        }
+        return resolve(code, locales[localeIndex - 1]);
+    }
+
+    /**
+     * 인자가 있는 메시지 (ex: "{0}님을 찾을 수 없습니다.")를 현재 요청 로케일로 포맷팅
+     */
+    public String format(BaseResponseCode code, Object... args) {
+        String pattern = message(code);
+        if (args == null || args.length == 0) {
+            return pattern;
+        }
+        return new MessageFormat(pattern, LocaleContextHolder.getLocale()).format(args);
+    }
+
+    private String[] resolveAll(BaseResponseCode code) {
+        String[] resolved = new String[locales.length + 1];
+        resolved[0] = code.getMessage();
+        for (int i = 0; i < locales.length; i++) {
+            resolved[i + 1] = resolve(code, locales[i]);
+        }
+        return resolved;
+    }
+
+    private String resolve(BaseResponseCode code, Locale locale) {
+        return messageSource.getMessage(keyPrefix + code.getCode(), null, code.getMessage(), locale);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.seungwoo.responsekit.metrics;
+
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 컨트롤러가 반환한 ApiResponse의 success/fail 여부와 응답 코드를 집계
+ * <p>
+ * 서블릿 애플리케이션에서 ResponseKitWebMvcConfiguration이 Bean으로 등록합니다.
+ * 본문을 직접 쓰고 null을 반환하는 advice(ETag 등)보다 먼저 집계하도록 가장 높은 우선순위로 실행합니다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ApiResponseMetricsAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseKitMetrics metrics;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return metrics.isEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+        ServerHttpResponse response) {
+        if (body instanceof ApiResponse<?> apiResponse) {
+            metrics.recordApiResponse(apiResponse.isSuccess());
+        }
+        return body;
+    }
+}
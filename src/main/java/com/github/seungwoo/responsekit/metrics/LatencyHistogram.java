@@ -0,0 +1,80 @@
+package com.github.seungwoo.responsekit.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 2의 거듭제곱 경계를 갖는 나노초 단위 지연시간 히스토그램
+ * <p>
+ * 값이 속한 버킷은 leading zero 개수로 바로 계산되며, 버킷마다 LongAdder를 사용하므로 기록 시 락과 할당이 없습니다.
+ * 백분위수는 버킷 상한값으로 근사합니다.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    LatencyHistogram(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets[BUCKETS - Long.numberOfLeadingZeros(value | 1)].increment();
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @param percentile 0.0 ~ 1.0
+     * @return 해당 백분위수가 속한 버킷의 상한값(나노초)
+     */
+    public long percentileNanos(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+            }
+        }
+        return getMaxNanos();
+    }
+}
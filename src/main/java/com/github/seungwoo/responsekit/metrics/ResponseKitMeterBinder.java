@@ -0,0 +1,88 @@
+package com.github.seungwoo.responsekit.metrics;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ResponseKitMetrics를 Micrometer 미터로 노출하는 바인더 (Micrometer가 클래스패스에 있을 때만 등록)
+ * <p>
+ * 미터는 기존 LongAdder를 읽는 FunctionCounter/FunctionTimer이므로 요청 경로에 Micrometer 비용이 추가되지 않습니다.
+ * <ul>
+ *     <li>responsekit.responses{code, status}</li>
+ *     <li>responsekit.exceptions{exception}</li>
+ *     <li>responsekit.api.responses{result=success|fail}</li>
+ *     <li>responsekit.handler.latency{handler} (+ responsekit.handler.latency.max)</li>
+ * </ul>
+ */
+public class ResponseKitMeterBinder implements MeterBinder, ResponseKitMetrics.Listener {
+
+    private final ResponseKitMetrics metrics;
+    private volatile MeterRegistry registry;
+
+    public ResponseKitMeterBinder(ResponseKitMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        metrics.addListener(this);
+        metrics.forEachCode(this::onCode);
+        metrics.forEachException(this::onException);
+        metrics.forEachHandler(this::onHandler);
+        FunctionCounter.builder("responsekit.api.responses", metrics, ResponseKitMetrics::successCount)
+            .tag("result", "success")
+            .register(registry);
+        FunctionCounter.builder("responsekit.api.responses", metrics, ResponseKitMetrics::failCount)
+            .tag("result", "fail")
+            .register(registry);
+    }
+
+    @Override
+    public void onCode(BaseResponseCode code, LongAdder counter) {
+        MeterRegistry target = registry;
+        if (target == null) {
+            return;
+        }
+        FunctionCounter.builder("responsekit.responses", counter, LongAdder::sum)
+            .tag("code", code.getCode())
+            .tag("status", String.valueOf(code.getHttpStatus().value()))
+            .register(target);
+    }
+
+    @Override
+    public void onException(Class<?> type, LongAdder counter) {
+        MeterRegistry target = registry;
+        if (target == null) {
+            return;
+        }
+        FunctionCounter.builder("responsekit.exceptions", counter, LongAdder::sum)
+            .tag("exception", type.getName())
+            .register(target);
+    }
+
+    @Override
+    public void onHandler(LatencyHistogram histogram) {
+        MeterRegistry target = registry;
+        if (target == null) {
+            return;
+        }
+        FunctionTimer.builder("responsekit.handler.latency", histogram,
+                LatencyHistogram::getCount, LatencyHistogram::getTotalNanos, TimeUnit.NANOSECONDS)
+            .tag("handler", histogram.getName())
+            .register(target);
+        Gauge.builder("responsekit.handler.latency.max", histogram, h -> h.getMaxNanos() / 1_000_000.0)
+            .tag("handler", histogram.getName())
+            .baseUnit("milliseconds")
+            .register(target);
+    }
+}
@@ -0,0 +1,264 @@
+package com.github.seungwoo.responsekit.metrics;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 응답 코드/HTTP 상태/예외 타입별 카운터와 예외 핸들러 지연시간 히스토그램
+ * <p>
+ * 요청 경로에서는 락이나 맵 엔트리 할당 없이 LongAdder 증가만 수행합니다.
+ * <ul>
+ *     <li>Enum 응답 코드는 ClassValue로 찾은 Enum별 배열을 ordinal로 바로 인덱싱합니다.</li>
+ *     <li>HTTP 상태는 100~599 고정 배열을 사용합니다.</li>
+ *     <li>예외 타입은 ClassValue로 타입마다 한 번만 카운터를 만듭니다.</li>
+ *     <li>Enum이 아닌 코드(다른 서비스에서 받은 RemoteResponseCode 등)는 종류가 외부 입력에 따라 끝없이 늘어날 수 있으므로
+ *     코드 문자열별로 나누지 않고 HTTP 상태별 {@value #OTHER_CODE} 카운터 하나로 집계합니다. (미터 태그 개수 제한)</li>
+ * </ul>
+ * 새 Enum 타입, 예외 타입, 핸들러가 처음 등장하면 {@link Listener}에 알려 Micrometer 등 외부 레지스트리가 미터를
+ * 등록할 수 있게 합니다.
+ */
+public class ResponseKitMetrics {
+
+    /**
+     * Enum이 아닌 응답 코드를 모아 집계할 때 쓰는 코드 이름
+     */
+    public static final String OTHER_CODE = "OTHER";
+
+    private static final int MAX_STATUS = 600;
+
+    private final boolean enabled;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<Class<?>, LongAdder[]> codeCountersByType = new ConcurrentHashMap<>();
+    private final ClassValue<LongAdder[]> codeCounters = new ClassValue<>() {
+        @Override
+        protected LongAdder[] computeValue(Class<?> type) {
+            return newCodeCounters(type);
+        }
+    };
+    private final Map<HttpStatus, LongAdder> otherCodeCounters = new ConcurrentHashMap<>();
+
+    private final LongAdder[] statusCounters = new LongAdder[MAX_STATUS];
+
+    private final Map<Class<?>, LongAdder> exceptionCountersByType = new ConcurrentHashMap<>();
+    private final ClassValue<LongAdder> exceptionCounters = new ClassValue<>() {
+        @Override
+        protected LongAdder computeValue(Class<?> type) {
+            return newExceptionCounter(type);
+        }
+    };
+
+    private final Map<String, LatencyHistogram> handlerLatencies = new ConcurrentHashMap<>();
+
+    private final LongAdder successResponses = new LongAdder();
+    private final LongAdder failResponses = new LongAdder();
+
+    public ResponseKitMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (int i = 0; i < MAX_STATUS; i++) {
+            statusCounters[i] = new LongAdder();
+        }
+        codeCounters.get(CommonResponseCode.class);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예외 처리 결과 기록
+     *
+     * @param ex 처리된 예외 (없으면 null)
+     */
+    public void recordError(BaseResponseCode code, Throwable ex) {
+        if (!enabled) {
+            return;
+        }
+        recordCode(code);
+        if (ex != null) {
+            exceptionCounters.get(ex.getClass()).increment();
+        }
+    }
+
+    /**
+     * 응답 코드와 HTTP 상태 카운트
+     */
+    public void recordCode(BaseResponseCode code) {
+        if (!enabled) {
+            return;
+        }
+        codeCounter(code).increment();
+        int status = code.getHttpStatus().value();
+        if (status >= 0 && status < MAX_STATUS) {
+            statusCounters[status].increment();
+        }
+    }
+
+    /**
+     * ApiResponse 성공/실패 카운트
+     */
+    public void recordApiResponse(boolean success) {
+        if (!enabled) {
+            return;
+        }
+        (success ? successResponses : failResponses).increment();
+    }
+
+    /**
+     * 핸들러별 지연시간 히스토그램. 요청마다 호출해도 기존 엔트리 조회만 일어납니다.
+     */
+    public LatencyHistogram handlerLatency(String handler) {
+        LatencyHistogram histogram = handlerLatencies.get(handler);
+        if (histogram != null) {
+            return histogram;
+        }
+        return handlerLatencies.computeIfAbsent(handler, name -> {
+            LatencyHistogram created = new LatencyHistogram(name);
+            listeners.forEach(listener -> listener.onHandler(created));
+            return created;
+        });
+    }
+
+    public void recordHandlerLatency(String handler, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        handlerLatency(handler).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 응답 코드별 횟수 (Enum이 아닌 코드는 같은 HTTP 상태의 {@value #OTHER_CODE} 카운터 값)
+     */
+    public long count(BaseResponseCode code) {
+        return codeCounter(code).sum();
+    }
+
+    public long statusCount(int status) {
+        return status >= 0 && status < MAX_STATUS ? statusCounters[status].sum() : 0;
+    }
+
+    public long exceptionCount(Class<? extends Throwable> type) {
+        return exceptionCounters.get(type).sum();
+    }
+
+    public long successCount() {
+        return successResponses.sum();
+    }
+
+    public long failCount() {
+        return failResponses.sum();
+    }
+
+    /**
+     * 지금까지 등장한 모든 응답 코드의 카운터 순회
+     */
+    public void forEachCode(BiConsumer<BaseResponseCode, LongAdder> action) {
+        codeCountersByType.forEach((type, counters) -> {
+            BaseResponseCode[] codes = (BaseResponseCode[]) type.getEnumConstants();
+            for (int i = 0; i < codes.length; i++) {
+                action.accept(codes[i], counters[i]);
+            }
+        });
+        otherCodeCounters.forEach((status, counter) -> action.accept(new OtherResponseCode(status), counter));
+    }
+
+    public void forEachException(BiConsumer<Class<?>, LongAdder> action) {
+        exceptionCountersByType.forEach(action);
+    }
+
+    public void forEachHandler(Consumer<LatencyHistogram> action) {
+        handlerLatencies.values().forEach(action);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    private LongAdder codeCounter(BaseResponseCode code) {
+        if (code instanceof Enum<?> constant) {
+            return codeCounters.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        HttpStatus status = code.getHttpStatus();
+        LongAdder counter = otherCodeCounters.get(status);
+        if (counter != null) {
+            return counter;
+        }
+        return otherCodeCounters.computeIfAbsent(status, s -> {
+            LongAdder created = new LongAdder();
+            listeners.forEach(listener -> listener.onCode(new OtherResponseCode(s), created));
+            return created;
+        });
+    }
+
+    private LongAdder[] newCodeCounters(Class<?> type) {
+        Object[] constants = type.getEnumConstants();
+        LongAdder[] counters = new LongAdder[constants.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        LongAdder[] existing = codeCountersByType.putIfAbsent(type, counters);
+        if (existing != null) {
+            return existing;
+        }
+        for (int i = 0; i < counters.length; i++) {
+            BaseResponseCode code = (BaseResponseCode) constants[i];
+            LongAdder counter = counters[i];
+            listeners.forEach(listener -> listener.onCode(code, counter));
+        }
+        return counters;
+    }
+
+    private LongAdder newExceptionCounter(Class<?> type) {
+        LongAdder counter = new LongAdder();
+        LongAdder existing = exceptionCountersByType.putIfAbsent(type, counter);
+        if (existing != null) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.onException(type, counter));
+        return counter;
+    }
+
+    /**
+     * HTTP 상태별로 모은 Enum이 아닌 응답 코드 (code = {@value #OTHER_CODE})
+     */
+    public record OtherResponseCode(HttpStatus httpStatus) implements BaseResponseCode {
+
+        @Override
+        public String getCode() {
+            return OTHER_CODE;
+        }
+
+        @Override
+        public String getMessage() {
+            return httpStatus.getReasonPhrase();
+        }
+
+        @Override
+        public HttpStatus getHttpStatus() {
+            return httpStatus;
+        }
+    }
+
+    /**
+     * 새 미터 대상이 처음 등장했을 때 호출되는 콜백
+     */
+    public interface Listener {
+
+        void onCode(BaseResponseCode code, LongAdder counter);
+
+        void onException(Class<?> type, LongAdder counter);
+
+        void onHandler(LatencyHistogram histogram);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.seungwoo.responsekit.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 키셋(keyset) 페이지네이션 위치
+ * <p>
+ * 마지막으로 본 행의 정렬 키 값(ex: createdAt, id)과 이동 방향을 담으며, {@link CursorCodec}으로 서명된 문자열로 인코딩됩니다.
+ * (암호화되지 않으므로 키 값은 클라이언트가 읽을 수 있음)
+ * <ul>
+ *     <li>NEXT: 키보다 뒤의 행 ({@code WHERE (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT n + 1})</li>
+ *     <li>PREVIOUS: 키보다 앞의 행 ({@code WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT n + 1})</li>
+ * </ul>
+ */
+public record Cursor(Direction direction, List<String> keys) {
+
+    public enum Direction {
+        NEXT, PREVIOUS
+    }
+
+    public Cursor {
+        if (direction == null) {
+            throw new IllegalArgumentException("direction은 null일 수 없습니다.");
+        }
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("cursor 키는 하나 이상이어야 합니다.");
+        }
+        keys = List.copyOf(keys);
+    }
+
+    public static Cursor next(Object... keys) {
+        return new Cursor(Direction.NEXT, toStrings(keys));
+    }
+
+    public static Cursor previous(Object... keys) {
+        return new Cursor(Direction.PREVIOUS, toStrings(keys));
+    }
+
+    public boolean isPrevious() {
+        return direction == Direction.PREVIOUS;
+    }
+
+    public String key() {
+        return keys.get(0);
+    }
+
+    public String key(int index) {
+        return keys.get(index);
+    }
+
+    public long longKey(int index) {
+        return Long.parseLong(keys.get(index));
+    }
+
+    private static List<String> toStrings(Object[] keys) {
+        List<String> values = new ArrayList<>(keys.length);
+        for (Object key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("cursor 키는 null일 수 없습니다.");
+            }
+            values.add(key.toString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.seungwoo.responsekit.pagination;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Cursor ↔ 서명된 cursor 문자열 변환기
+ * <p>
+ * {@code base64url(버전 1byte + 방향 1byte + 키(UTF-8, 0x1F 구분) + HMAC-SHA256 앞 12byte)} 형식으로 인코딩하므로
+ * 클라이언트가 값을 바꾸면 서명 검증에서 {@link InvalidCursorException}이 발생합니다.
+ * <p>
+ * 서명만 할 뿐 암호화하지 않으므로, base64url을 디코딩하면 정렬 키 값을 그대로 읽을 수 있습니다.
+ * (변조는 막지만 내용은 숨기지 않음) 클라이언트에 보여서는 안 되는 값은 정렬 키로 쓰지 않아야 합니다.
+ * <p>
+ * 비밀 키(response-kit.pagination.cursor-secret)를 지정하지 않으면 시작할 때마다 임의의 키를 만들므로,
+ * 여러 인스턴스로 운영하거나 재시작 후에도 cursor가 유효해야 한다면 같은 비밀 키를 설정해야 합니다.
+ */
+public final class CursorCodec {
+
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 12;
+    private static final int MAX_TOKEN_LENGTH = 1024;
+    private static final char KEY_SEPARATOR = '\u001F';
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec secretKey;
+    private final ThreadLocal<Mac> macs;
+
+    public CursorCodec(byte[] secret) {
+        if (secret == null || secret.length < 16) {
+            throw new IllegalArgumentException("cursor 비밀 키는 16byte 이상이어야 합니다.");
+        }
+        this.secretKey = new SecretKeySpec(secret.clone(), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 시작할 때마다 새 비밀 키를 사용하는 코덱 (단일 인스턴스, 테스트용)
+     */
+    public static CursorCodec withRandomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return new CursorCodec(secret);
+    }
+
+    public String encode(Cursor cursor) {
+        StringBuilder keys = new StringBuilder();
+        for (String key : cursor.keys()) {
+            if (key.indexOf(KEY_SEPARATOR) >= 0) {
+                throw new IllegalArgumentException("cursor 키에 0x1F 문자를 사용할 수 없습니다.");
+            }
+            if (!keys.isEmpty()) {
+                keys.append(KEY_SEPARATOR);
+            }
+            keys.append(key);
+        }
+        byte[] keyBytes = keys.toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(2 + keyBytes.length + MAC_LENGTH);
+        buffer.put(VERSION).put((byte) cursor.direction().ordinal()).put(keyBytes);
+        buffer.put(sign(buffer.array(), 2 + keyBytes.length));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws InvalidCursorException 형식이 맞지 않거나 서명이 일치하지 않는 경우
+     */
+    public Cursor decode(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            throw new InvalidCursorException("유효하지 않은 cursor입니다.");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("유효하지 않은 cursor입니다.");
+        }
+        int payloadLength = bytes.length - MAC_LENGTH;
+        if (payloadLength < 2 || bytes[0] != VERSION) {
+            throw new InvalidCursorException("유효하지 않은 cursor입니다.");
+        }
+        byte[] expected = sign(bytes, payloadLength);
+        if (!MessageDigest.isEqual(expected, Arrays.copyOfRange(bytes, payloadLength, bytes.length))) {
+            throw new InvalidCursorException("유효하지 않은 cursor입니다.");
+        }
+        Cursor.Direction[] directions = Cursor.Direction.values();
+        if (bytes[1] < 0 || bytes[1] >= directions.length) {
+            throw new InvalidCursorException("유효하지 않은 cursor입니다.");
+        }
+        String keys = new String(bytes, 2, payloadLength - 2, StandardCharsets.UTF_8);
+        return new Cursor(directions[bytes[1]], split(keys));
+    }
+
+    private byte[] sign(byte[] payload, int length) {
+        Mac mac = macs.get();
+        mac.update(payload, 0, length);
+        return Arrays.copyOf(mac.doFinal(), MAC_LENGTH);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + "를 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static List<String> split(String keys) {
+        List<String> values = new ArrayList<>(2);
+        int start = 0;
+        int separator;
+        while ((separator = keys.indexOf(KEY_SEPARATOR, start)) >= 0) {
+            values.add(keys.substring(start, separator));
+            start = separator + 1;
+        }
+        values.add(keys.substring(start));
+        return values;
+    }
+}
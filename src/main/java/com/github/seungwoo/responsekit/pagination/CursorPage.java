@@ -0,0 +1,85 @@
+package com.github.seungwoo.responsekit.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * COUNT 쿼리 없이 동작하는 키셋(cursor) 페이지
+ * <p>
+ * ApiResponse의 data로 담아 {@code {"success":..,"code":..,"message":..,"data":{"items":[..],"nextCursor":..,
+ * "prevCursor":..,"hasNext":..}}} 형식으로 응답합니다.
+ * <ul>
+ *     <li>limit + 1개를 조회한 결과로 hasNext를 판단하고, 초과분 한 건은 items에서 제외합니다.</li>
+ *     <li>nextCursor/prevCursor는 마지막/첫 항목의 정렬 키로 만든 서명된 문자열이며(암호화되지 않음), 이동할 페이지가 없으면 null입니다.</li>
+ *     <li>totalCount는 요청에 includeTotal=true가 있을 때만 계산하며, 그 외에는 JSON에 포함되지 않습니다.</li>
+ * </ul>
+ * 페이지 위치와 관계없이 인덱스 범위 조회 + limit + 1건만 읽으므로 OFFSET 방식과 달리 깊은 페이지도 페이지 크기만큼의 비용으로 조회됩니다.
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final String prevCursor;
+    private final boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long totalCount;
+
+    private CursorPage(List<T> items, String nextCursor, String prevCursor, boolean hasNext, Long totalCount) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+        this.hasNext = hasNext;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * @param fetched      cursor 방향으로 정렬해 최대 fetchSize()개 조회한 결과 (PREVIOUS면 역순 정렬 그대로)
+     * @param keyExtractor 항목의 정렬 키 (복합 키는 Object[])
+     */
+    public static <T> CursorPage<T> of(CursorRequest request, List<T> fetched, Function<? super T, ?> keyExtractor) {
+        return of(request, fetched, keyExtractor, null);
+    }
+
+    /**
+     * @param totalCounter includeTotal=true인 요청에서만 호출되는 전체 개수 조회
+     */
+    public static <T> CursorPage<T> of(CursorRequest request, List<T> fetched, Function<? super T, ?> keyExtractor,
+        LongSupplier totalCounter) {
+        boolean hasMore = fetched.size() > request.getLimit();
+        List<T> items = new ArrayList<>(hasMore ? fetched.subList(0, request.getLimit()) : fetched);
+        if (request.isPrevious()) {
+            Collections.reverse(items);
+        }
+        Long totalCount = request.isIncludeTotal() && totalCounter != null ? totalCounter.getAsLong() : null;
+        if (items.isEmpty()) {
+            return new CursorPage<>(Collections.emptyList(), null, null, false, totalCount);
+        }
+        CursorCodec codec = request.getCodec();
+        T first = items.get(0);
+        T last = items.get(items.size() - 1);
+        // PREVIOUS로 왔다면 다음 페이지는 항상 있고, 이전 페이지는 초과분이 있을 때만 있음
+        boolean hasNext = request.isPrevious() || hasMore;
+        boolean hasPrevious = request.isPrevious() ? hasMore : !request.isFirstPage();
+        return new CursorPage<>(
+            Collections.unmodifiableList(items),
+            hasNext ? codec.encode(Cursor.next(keys(keyExtractor.apply(last)))) : null,
+            hasPrevious ? codec.encode(Cursor.previous(keys(keyExtractor.apply(first)))) : null,
+            hasNext,
+            totalCount
+        );
+    }
+
+    private static Object[] keys(Object key) {
+        return key instanceof Object[] composite ? composite : new Object[]{key};
+    }
+}
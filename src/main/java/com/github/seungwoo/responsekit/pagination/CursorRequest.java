@@ -0,0 +1,58 @@
+package com.github.seungwoo.responsekit.pagination;
+
+import lombok.Getter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * cursor/limit/includeTotal 요청 파라미터
+ * <p>
+ * 컨트롤러 메소드 파라미터로 선언하면 CursorRequestArgumentResolver가 채워 주며, limit은 최대 페이지 크기로 제한됩니다.
+ * 조회는 {@link #fetchSize()} (limit + 1)개를 가져와 다음 페이지 존재 여부를 COUNT 없이 판단합니다.
+ * <pre>
+ * &#64;GetMapping("/orders")
+ * public ApiResponse&lt;CursorPage&lt;OrderDto&gt;&gt; orders(CursorRequest page) {
+ *     List&lt;OrderDto&gt; fetched = orderRepository.findPage(page.getCursor(), page.fetchSize());
+ *     return ApiResponse.success(CommonResponseCode.SUCCESS,
+ *         CursorPage.of(page, fetched, order -&gt; new Object[]{order.createdAt(), order.id()}, orderRepository::count));
+ * }
+ * </pre>
+ */
+@Getter
+public final class CursorRequest {
+
+    // 첫 페이지이면 null
+    private final Cursor cursor;
+    private final int limit;
+    private final boolean includeTotal;
+    private final CursorCodec codec;
+
+    public CursorRequest(Cursor cursor, int limit, boolean includeTotal, CursorCodec codec) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다: " + limit);
+        }
+        this.cursor = cursor;
+        this.limit = limit;
+        this.includeTotal = includeTotal;
+        this.codec = codec;
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    /**
+     * 이전 페이지 방향 조회 (정렬을 뒤집어 조회)
+     */
+    public boolean isPrevious() {
+        return cursor != null && cursor.isPrevious();
+    }
+
+    /**
+     * 다음 페이지 존재 여부 판단을 위해 한 건 더 조회할 개수
+     */
+    public int fetchSize() {
+        return limit + 1;
+    }
+}
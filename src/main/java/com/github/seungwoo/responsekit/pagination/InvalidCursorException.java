@@ -0,0 +1,19 @@
+package com.github.seungwoo.responsekit.pagination;
+
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 위·변조되었거나 형식이 맞지 않는 cursor / limit 파라미터 (BAD_REQUEST)
+ * <p>
+ * 클라이언트 입력 오류이므로 스택 트레이스를 기록하지 않습니다.
+ */
+public class InvalidCursorException extends CustomException {
+
+    public InvalidCursorException(String message) {
+        super(CommonResponseCode.BAD_REQUEST, message, false);
+    }
+}
@@ -0,0 +1,203 @@
+package com.github.seungwoo.responsekit.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.logging.ExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMapping;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import com.github.seungwoo.responsekit.shared.HttpStatusResponseCode;
+import jakarta.validation.ConstraintViolationException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * WebFlux용 전역 예외 처리기
+ *
+ * <p>GlobalExceptionHandler와 같은 규칙으로 예외를 ErrorResponse/FieldError 형식으로 변환합니다.</p>
+ * <p>
+ * errors가 없는 응답은 ResponseBodyCache가 공유하는 바이트 배열을 수정 없이 DataBuffer로 감싸 쓰고, FieldError가 있는
+ * 응답만 그 자리에서 직렬화합니다. 두 경우 모두 CPU 작업만 수행하므로 이벤트 루프 스레드를 블로킹하지 않습니다.
+ * FieldError 응답 직렬화에 실패하면 로그를 남기고 캐시된 INTERNAL_ERROR 본문으로 응답합니다.
+ * ResponseStatusException(401/403/406/409/503 등)은 예외의 상태 코드 그대로 WARN 로그와 함께 응답합니다.
+ * 본문 형식(JSON/CBOR/Smile)은 요청 Accept 헤더로 결정되며, 처리한 에러는 요청 경로와 함께 RecentErrors에 남깁니다.
+ * <p>
+ * Spring Boot 기본 ErrorWebExceptionHandler(-1)보다 먼저 동작하도록 -2 순서로 등록됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveGlobalExceptionHandler implements WebExceptionHandler, Ordered {
+
+    public static final int ORDER = -2;
+
+    private final ResponseBodyCache responseBodyCache;
+    private final ExceptionLogStrategy logStrategy;
+    private final ResponseKitMetrics metrics;
+    private final ExceptionMappings exceptionMappings;
+    private final RecentErrors recentErrors;
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        long start = System.nanoTime();
+        if (ex instanceof ResponseStatusException statusException) {
+            // 405의 Allow 등 예외가 지정한 응답 헤더 유지
+            response.getHeaders().addAll(statusException.getHeaders());
+        }
+        if (ex instanceof WebExchangeBindException bindException) {
+            List<FieldError> errors = FieldError.from(bindException.getBindingResult());
+            logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+                "[Validation] Body validation failed: {}", errors);
+            return writeErrors(exchange, "reactive.handleWebExchangeBind", start, ex, errors,
+                bindException.getBindingResult().getFieldErrorCount());
+        }
+        if (ex instanceof ConstraintViolationException violationException) {
+            List<FieldError> errors = FieldError.from(violationException.getConstraintViolations());
+            logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+                "[Validation] Constraint violation: {}", errors);
+            return writeErrors(exchange, "reactive.handleConstraintViolation", start, ex, errors,
+                violationException.getConstraintViolations().size());
+        }
+        if (ex instanceof MethodNotAllowedException) {
+            logStrategy.log(log, Level.WARN, CommonResponseCode.METHOD_NOT_ALLOWED.getCode(),
+                "[HTTP Method Not Supported] {}", ex.getMessage());
+            return write(exchange, "reactive.handleMethodNotSupported", start,
+                CommonResponseCode.METHOD_NOT_ALLOWED, ex);
+        }
+        if (ex instanceof UnsupportedMediaTypeStatusException) {
+            logStrategy.log(log, Level.WARN, CommonResponseCode.UNSUPPORTED_MEDIA_TYPE.getCode(),
+                "[Unsupported Media Type] {}", ex.getMessage());
+            return write(exchange, "reactive.handleMediaTypeNotSupported", start,
+                CommonResponseCode.UNSUPPORTED_MEDIA_TYPE, ex);
+        }
+        if (ex instanceof ServerWebInputException) {
+            logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+                "[Server Web Input] {}", ex.getMessage());
+            return write(exchange, "reactive.handleServerWebInput", start,
+                CommonResponseCode.BAD_REQUEST, ex);
+        }
+        if (ex instanceof ResponseStatusException statusException) {
+            BaseResponseCode code = code(statusException.getStatusCode());
+            logStrategy.log(log, Level.WARN, code.getCode(), "[Response Status] {}: {}", code.getCode(),
+                ex.getMessage());
+            return write(exchange, "reactive.handleResponseStatus", start, code, ex);
+        }
+        if (ex instanceof IllegalArgumentException || ex instanceof IllegalStateException) {
+            logStrategy.log(log, Level.WARN, ex.getClass().getName(), "[Illegal State] {}", ex.getMessage());
+            return write(exchange, "reactive.handleIllegalState", start,
+                CommonResponseCode.CONFLICT, ex);
+        }
+        if (ex instanceof CustomException customException) {
+            String code = customException.getResponseCode().getCode();
+            logStrategy.log(log, Level.WARN, code, "[CustomException] {}: {}", code, ex.getMessage());
+            return write(exchange, "reactive.handleCustomException", start,
+                customException.getResponseCode(), ex);
+        }
+        ExceptionMapping mapping = exceptionMappings.resolve(ex);
+        if (mapping != null) {
+            BaseResponseCode code = mapping.code();
+            if (mapping.stackTrace()) {
+                logStrategy.logWithStackTrace(log, mapping.level(), code.getCode(), "[Mapped Exception]", ex);
+            } else {
+                logStrategy.log(log, mapping.level(), code.getCode(), "[Mapped Exception] {}: {}",
+                    ex.getClass().getName(), ex.getMessage());
+            }
+            return write(exchange, "reactive.handleMappedException", start, code, ex);
+        }
+        logStrategy.logWithStackTrace(log, Level.ERROR, ex.getClass().getName(), "[Server Error]", ex);
+        return write(exchange, "reactive.handleUnExpectedException", start,
+                CommonResponseCode.INTERNAL_ERROR, ex);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, String handler, long start, BaseResponseCode code,
+        Throwable ex) {
+        EnvelopeFormat format = negotiate(exchange);
+        byte[] body = responseBodyCache.error(code, exchange.getLocaleContext().getLocale(), format).getBody();
+        return writeBody(exchange, handler, start, code, ex, format, body);
+    }
+
+    private Mono<Void> writeErrors(ServerWebExchange exchange, String handler, long start, Throwable ex,
+        List<FieldError> errors, int totalErrors) {
+        EnvelopeFormat format = negotiate(exchange);
+        byte[] body;
+        try {
+            body = responseBodyCache.mapper(format).writeValueAsBytes(ErrorResponse.of(CommonResponseCode.BAD_REQUEST,
+                errors, totalErrors - errors.size(), exchange.getLocaleContext().getLocale()));
+        } catch (JsonProcessingException e) {
+            logStrategy.logWithStackTrace(log, Level.ERROR, e.getClass().getName(), "[Serialization Error]", e);
+            return write(exchange, handler, start, CommonResponseCode.INTERNAL_ERROR, ex);
+        }
+        return writeBody(exchange, handler, start, CommonResponseCode.BAD_REQUEST, ex, format, body);
+    }
+
+    private Mono<Void> writeBody(ServerWebExchange exchange, String handler, long start, BaseResponseCode code,
+        Throwable ex, EnvelopeFormat format, byte[] body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(code.getHttpStatus());
+        response.getHeaders().setContentType(format.getMediaType());
+        response.getHeaders().setContentLength(body.length);
+        if (responseBodyCache.isLocalized() && !response.getHeaders().getVary().contains(HttpHeaders.ACCEPT_LANGUAGE)) {
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+        }
+        metrics.recordError(code, ex);
+        recentErrors.record(code, ex, exchange.getRequest().getPath().value());
+        metrics.recordHandlerLatency(handler, start);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * ResponseStatusException 상태 → CommonResponseCode, 같은 이름·상태로 등록된 코드, 상태 그대로의 코드 순으로 결정
+     */
+    private static BaseResponseCode code(HttpStatusCode status) {
+        for (CommonResponseCode common : CommonResponseCode.values()) {
+            if (common.getHttpStatus().isError() && common.getHttpStatus().value() == status.value()) {
+                return common;
+            }
+        }
+        HttpStatus resolved = HttpStatus.resolve(status.value());
+        if (resolved == null || !resolved.isError()) {
+            return status.is4xxClientError() ? CommonResponseCode.BAD_REQUEST : CommonResponseCode.INTERNAL_ERROR;
+        }
+        return ResponseCodeRegistry.getInstance().find(resolved.name())
+            .filter(registered -> registered.getHttpStatus() == resolved)
+            .orElseGet(() -> new HttpStatusResponseCode(resolved));
+    }
+
+    private static EnvelopeFormat negotiate(ServerWebExchange exchange) {
+        return EnvelopeFormat.negotiate(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT));
+    }
+}
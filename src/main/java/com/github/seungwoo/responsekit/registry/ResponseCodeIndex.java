@@ -0,0 +1,25 @@
+package com.github.seungwoo.responsekit.registry;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.util.List;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * response-kit-processor가 모듈(컴파일 단위)마다 생성하는 응답 코드 색인
+ * <p>
+ * 생성된 구현체는 META-INF/services에 등록되며 {@link ResponseCodeRegistry}가 ServiceLoader로 읽어 하나로 합칩니다.
+ * 직접 구현할 필요는 없습니다.
+ */
+public interface ResponseCodeIndex {
+
+    // 모듈에 정의된 BaseResponseCode Enum 타입
+    List<Class<? extends BaseResponseCode>> types();
+
+    // getCode() 값 (문자열 오름차순 정렬)
+    String[] codes();
+
+    // codes()와 같은 순서의 상수
+    BaseResponseCode[] constants();
+}
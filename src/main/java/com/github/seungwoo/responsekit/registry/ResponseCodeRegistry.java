@@ -0,0 +1,180 @@
+package com.github.seungwoo.responsekit.registry;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 코드 문자열 → BaseResponseCode 상수 조회
+ * <p>
+ * 클래스패스를 스캔하거나 리플렉션을 쓰지 않고, 빌드 시 response-kit-processor가 생성한 {@link ResponseCodeIndex}를
+ * ServiceLoader로 한 번 읽어 코드 문자열 기준 정렬 배열로 합친 뒤 이진 탐색으로 조회합니다.
+ * <p>
+ * 같은 모듈 안의 중복 코드는 빌드 시 컴파일 오류가 되고, 서로 다른 모듈(jar) 사이의 중복 코드나 같은 이름으로 등록된
+ * 색인 클래스는 색인을 합치는 시점에 IllegalStateException이 발생합니다.
+ * <p>
+ * 사용 예시:
+ * <pre>
+ * BaseResponseCode code = ResponseCodeRegistry.getInstance().find("USER_NOT_FOUND")
+ *     .orElse(CommonResponseCode.INTERNAL_ERROR);
+ * </pre>
+ */
+public final class ResponseCodeRegistry {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + ResponseCodeIndex.class.getName();
+
+    private final String[] codes;
+    private final BaseResponseCode[] constants;
+    private final List<Class<? extends BaseResponseCode>> types;
+
+    private ResponseCodeRegistry(String[] codes, BaseResponseCode[] constants,
+        List<Class<? extends BaseResponseCode>> types) {
+        this.codes = codes;
+        this.constants = constants;
+        this.types = types;
+    }
+
+    /**
+     * 애플리케이션 클래스로더 기준 레지스트리 (처음 호출될 때 한 번만 로딩)
+     */
+    public static ResponseCodeRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static ResponseCodeRegistry load(ClassLoader classLoader) {
+        checkDistinctIndexNames(classLoader);
+        List<ResponseCodeIndex> indexes = new ArrayList<>();
+        for (ResponseCodeIndex index : ServiceLoader.load(ResponseCodeIndex.class, classLoader)) {
+            indexes.add(index);
+        }
+        return of(indexes);
+    }
+
+    public static ResponseCodeRegistry of(List<? extends ResponseCodeIndex> indexes) {
+        List<Map.Entry<String, BaseResponseCode>> entries = new ArrayList<>();
+        Set<Class<? extends BaseResponseCode>> types = new LinkedHashSet<>();
+        for (ResponseCodeIndex index : indexes) {
+            String[] indexCodes = index.codes();
+            BaseResponseCode[] indexConstants = index.constants();
+            for (int i = 0; i < indexCodes.length; i++) {
+                entries.add(Map.entry(indexCodes[i], indexConstants[i]));
+            }
+            types.addAll(index.types());
+        }
+        entries.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+        List<String> codes = new ArrayList<>(entries.size());
+        List<BaseResponseCode> constants = new ArrayList<>(entries.size());
+        for (Map.Entry<String, BaseResponseCode> entry : entries) {
+            int last = codes.size() - 1;
+            if (last >= 0 && codes.get(last).equals(entry.getKey())) {
+                if (constants.get(last) == entry.getValue()) {
+                    // 같은 색인이 여러 클래스로더 경로에서 중복 로딩된 경우
+                    continue;
+                }
+                throw new IllegalStateException("중복된 응답 코드입니다: " + entry.getKey()
+                    + " (" + describe(constants.get(last)) + ", " + describe(entry.getValue()) + ")");
+            }
+            codes.add(entry.getKey());
+            constants.add(entry.getValue());
+        }
+        return new ResponseCodeRegistry(codes.toArray(String[]::new), constants.toArray(BaseResponseCode[]::new),
+            List.copyOf(types));
+    }
+
+    /**
+     * 코드 문자열로 상수 조회
+     */
+    public Optional<BaseResponseCode> find(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        int index = Arrays.binarySearch(codes, code);
+        return index < 0 ? Optional.empty() : Optional.of(constants[index]);
+    }
+
+    /**
+     * 색인된 모든 BaseResponseCode Enum 타입 (ResponseBodyCache 사전 직렬화 대상)
+     */
+    public List<Class<? extends BaseResponseCode>> types() {
+        return types;
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * 여러 jar가 같은 이름의 색인 클래스를 등록하면 ServiceLoader는 이름당 하나만 로딩하므로 나머지 색인의 코드가 조용히
+     * 빠집니다. 등록 파일을 직접 읽어 같은 이름이 둘 이상의 파일에 있으면 레지스트리를 만드는 시점에 실패시킵니다.
+     */
+    private static void checkDistinctIndexNames(ClassLoader classLoader) {
+        Map<String, URL> registered = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(SERVICE_FILE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                for (String indexName : providerNames(resource)) {
+                    URL existing = registered.putIfAbsent(indexName, resource);
+                    if (existing != null && !existing.equals(resource)) {
+                        throw new IllegalStateException("같은 이름의 응답 코드 색인이 여러 곳에 등록되어 있습니다: "
+                            + indexName + " (" + existing + ", " + resource
+                            + ") -Aresponsekit.index 옵션으로 색인 이름을 다르게 지정하세요.");
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Set<String> providerNames(URL resource) throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                String name = (comment < 0 ? line : line.substring(0, comment)).trim();
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    private static String describe(BaseResponseCode code) {
+        return code instanceof Enum<?> constant
+            ? constant.getDeclaringClass().getName() + "." + constant.name()
+            : code.getClass().getName();
+    }
+
+    private static final class Holder {
+
+        private static final ResponseCodeRegistry INSTANCE = load(classLoader());
+
+        private static ClassLoader classLoader() {
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            return contextClassLoader != null ? contextClassLoader : ResponseCodeRegistry.class.getClassLoader();
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.github.seungwoo.responsekit.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.seungwoo.responsekit.fields.FieldSelection;
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
 import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import lombok.Getter;
 
 /**
@@ -11,31 +18,117 @@ import lombok.Getter;
  * <p>
  * 이 클래스를 통해 통일된 응답 포맷을 반환할 수 있습니다. 컨트롤러 메소드 사용 예시 return
  * ApiResponse.success(CommonResponseCode.SUCCESS, data);
+ * <p>
+ * data가 없는 success(code)/fail(code) 응답은 Enum 코드별로 하나의 인스턴스만 만들어 재사용합니다.
+ * (Enum이 아닌 코드는 외부 입력에 따라 종류가 끝없이 늘어날 수 있으므로 매번 새로 만듦)
+ * (로케일별 메시지를 쓰는 요청은 {@link LocalizedMessages} 테이블의 메시지로 새 인스턴스를 만듭니다.)
+ * <p>
+ * 대용량 목록은 stream(code, data)로 반환하면 전체를 메모리에 올리지 않고 요소 단위로 응답에 씁니다.
+ * <p>
+ * success(code, data, version)으로 리소스 버전을 붙이면 ETag 사용 시(response-kit.etag.enabled) 본문 대신 버전으로
+ * ETag를 만들어, If-None-Match가 일치하면 data를 직렬화하지 않고 304로 응답합니다. version은 본문에 출력되지 않습니다.
+ * <p>
+ * selectFields(selection)를 적용하면(fields 파라미터 사용 시 자동) data 중 선택한 필드만 출력합니다.
  */
 @Getter
 public class ApiResponse<T> {
 
+    private static final Map<BaseResponseCode, ApiResponse<Void>> SUCCESS_CACHE = new ConcurrentHashMap<>();
+    private static final Map<BaseResponseCode, ApiResponse<Void>> FAIL_CACHE = new ConcurrentHashMap<>();
+
     private final boolean success;
     private final String code;
     private final String message;
     private final T data;
+    @JsonIgnore
+    private final String version;
+    @JsonIgnore
+    private final FieldSelection fields;
+
+    private ApiResponse(boolean success, BaseResponseCode code, String message, T data) {
+        this(success, code, message, data, null);
+    }
 
-    private ApiResponse(boolean success, BaseResponseCode code, T data) {
+    private ApiResponse(boolean success, BaseResponseCode code, String message, T data, String version) {
         this.success = success;
         this.code = code.getCode();
-        this.message = code.getMessage();
+        this.message = message;
         this.data = data;
+        this.version = version;
+        this.fields = null;
+    }
+
+    private ApiResponse(ApiResponse<T> source, FieldSelection fields) {
+        this.success = source.success;
+        this.code = source.code;
+        this.message = source.message;
+        this.data = source.data;
+        this.version = source.version;
+        this.fields = fields;
     }
 
     public static <T> ApiResponse<T> success(BaseResponseCode code, T data) {
-        return new ApiResponse<>(true, code, data);
+        return new ApiResponse<>(true, code, LocalizedMessages.global().message(code), data);
+    }
+
+    /**
+     * 리소스 버전(ex: 엔티티 version, 수정 시각)을 붙인 성공 응답. 같은 버전이면 data도 같아야 합니다.
+     * (version이 null이면 버전이 없는 응답과 같이 본문으로 ETag를 만듭니다.)
+     */
+    public static <T> ApiResponse<T> success(BaseResponseCode code, T data, Object version) {
+        return new ApiResponse<>(true, code, LocalizedMessages.global().message(code), data,
+            version == null ? null : version.toString());
     }
 
     public static ApiResponse<Void> success(BaseResponseCode code) {
-        return new ApiResponse<>(true, code, null);
+        return cached(SUCCESS_CACHE, true, code);
     }
 
     public static ApiResponse<Void> fail(BaseResponseCode code) {
-        return new ApiResponse<>(false, code, null);
+        return cached(FAIL_CACHE, false, code);
+    }
+
+    /**
+     * data 중 선택한 필드만 출력하는 응답 (ApiResponseSerializer가 직렬화할 때 적용)
+     */
+    public ApiResponse<T> selectFields(FieldSelection selection) {
+        return new ApiResponse<>(this, selection);
+    }
+
+    /**
+     * 지정한 메시지로 만든 data 없는 응답 (ResponseBodyCache의 로케일별 사전 직렬화용)
+     */
+    static ApiResponse<Void> localized(boolean success, BaseResponseCode code, String message) {
+        return new ApiResponse<>(success, code, message, null);
+    }
+
+    /**
+     * 다른 서비스에서 받은 본문을 복원한 응답 (ApiResponseDecoder용)
+     */
+    static <T> ApiResponse<T> decoded(BaseResponseCode code, String message, T data) {
+        return new ApiResponse<>(true, code, message, data);
+    }
+
+    private static ApiResponse<Void> cached(Map<BaseResponseCode, ApiResponse<Void>> cache, boolean success,
+        BaseResponseCode code) {
+        int localeIndex = LocalizedMessages.global().currentLocaleIndex();
+        if (localeIndex != 0) {
+            return localized(success, code, LocalizedMessages.global().message(code, localeIndex));
+        }
+        if (!(code instanceof Enum<?>)) {
+            return localized(success, code, code.getMessage());
+        }
+        return cache.computeIfAbsent(code, c -> localized(success, c, c.getMessage()));
+    }
+
+    /**
+     * Stream의 요소를 하나씩 data 배열(또는 NDJSON 줄)로 출력. Stream은 출력이 끝나면 닫힙니다.
+     */
+    public static <T> StreamingApiResponse<T> stream(BaseResponseCode code, Stream<? extends T> data) {
+        return StreamingApiResponse.of(code, data.iterator(), data::close);
+    }
+
+    public static <T> StreamingApiResponse<T> stream(BaseResponseCode code, Iterator<? extends T> data) {
+        return StreamingApiResponse.of(code, data, null);
     }
 }
\ No newline at end of file
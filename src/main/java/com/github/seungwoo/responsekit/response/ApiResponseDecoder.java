@@ -0,0 +1,120 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.jackson.EnvelopeFields;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 다른 서비스가 보낸 ApiResponse/ErrorResponse 본문(JSON/CBOR/Smile)을 ApiResponse로 복원하는 클라이언트용 도구
+ * <p>
+ * 본문 형식은 Content-Type으로 고르고, success=false인 본문은 {@link ApiResponseException}으로 던집니다.
+ * <pre>
+ * // Accept: application/cbor로 요청하고 4xx/5xx 응답도 byte[] 본문으로 받은 경우
+ * ApiResponse&lt;UserDto&gt; user = decoder.decode(response, UserDto.class);
+ * </pre>
+ * 매퍼는 생성 시점에 한 번만 만들어지므로 인스턴스를 재사용해야 합니다.
+ */
+public class ApiResponseDecoder {
+
+    private final ObjectMapper[] mappers = new ObjectMapper[EnvelopeFormat.values().length];
+    private final ResponseCodeRegistry registry;
+
+    public ApiResponseDecoder(ObjectMapper objectMapper) {
+        this(objectMapper, ResponseCodeRegistry.getInstance());
+    }
+
+    public ApiResponseDecoder(ObjectMapper objectMapper, ResponseCodeRegistry registry) {
+        for (EnvelopeFormat format : EnvelopeFormat.values()) {
+            if (format.isAvailable()) {
+                mappers[format.ordinal()] = format.mapper(objectMapper);
+            }
+        }
+        this.registry = registry;
+    }
+
+    public <T> ApiResponse<T> decode(ResponseEntity<byte[]> response, Class<T> dataType) {
+        return decode(response.getBody(), response.getHeaders().getContentType(), response.getStatusCode(),
+            mappers[EnvelopeFormat.JSON.ordinal()].constructType(dataType));
+    }
+
+    public <T> ApiResponse<T> decode(byte[] body, MediaType contentType, Class<T> dataType) {
+        return decode(body, contentType, null, mappers[EnvelopeFormat.JSON.ordinal()].constructType(dataType));
+    }
+
+    /**
+     * @param status   등록되지 않은 코드의 RemoteResponseCode에 쓸 HTTP 상태 (null이면 500)
+     * @param dataType List&lt;UserDto&gt; 같은 제네릭 data 타입은 TypeFactory로 만든 JavaType을 전달합니다.
+     * @throws ApiResponseException     success=false인 본문
+     * @throws IllegalArgumentException 본문을 해석할 수 없는 경우
+     */
+    public <T> ApiResponse<T> decode(byte[] body, MediaType contentType, HttpStatusCode status, JavaType dataType) {
+        ObjectMapper mapper = mapper(EnvelopeFormat.of(contentType));
+        JsonNode root;
+        try {
+            root = mapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("응답 본문을 해석할 수 없습니다: " + contentType, e);
+        }
+        if (root == null || !root.isObject() || !root.hasNonNull(EnvelopeFields.CODE.getValue())) {
+            throw new IllegalArgumentException("ApiResponse/ErrorResponse 형식의 본문이 아닙니다: " + contentType);
+        }
+        String message = root.path(EnvelopeFields.MESSAGE.getValue()).asText(null);
+        BaseResponseCode code = resolve(root.get(EnvelopeFields.CODE.getValue()).asText(), status);
+        if (!root.path(EnvelopeFields.SUCCESS.getValue()).asBoolean(false)) {
+            throw new ApiResponseException(code, message, fieldErrors(root.path(EnvelopeFields.ERRORS.getValue())),
+                root.path(EnvelopeFields.OMITTED_ERRORS.getValue()).asInt(0));
+        }
+        JsonNode data = root.get(EnvelopeFields.DATA.getValue());
+        try {
+            T value = data == null || data.isNull() ? null : mapper.treeToValue(data, dataType);
+            return ApiResponse.decoded(code, message, value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("data를 " + dataType + " 타입으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private ObjectMapper mapper(EnvelopeFormat format) {
+        ObjectMapper mapper = mappers[format.ordinal()];
+        if (mapper == null) {
+            throw new IllegalArgumentException(
+                format + " 본문을 읽으려면 " + format.getFactoryClassName() + " 의존성이 필요합니다.");
+        }
+        return mapper;
+    }
+
+    private BaseResponseCode resolve(String code, HttpStatusCode status) {
+        return registry.find(code).orElseGet(() -> {
+            HttpStatus httpStatus = status == null ? null : HttpStatus.resolve(status.value());
+            return new RemoteResponseCode(code, httpStatus == null ? HttpStatus.INTERNAL_SERVER_ERROR : httpStatus);
+        });
+    }
+
+    private static List<FieldError> fieldErrors(JsonNode errors) {
+        if (!errors.isArray() || errors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<FieldError> fieldErrors = new ArrayList<>(errors.size());
+        for (JsonNode error : errors) {
+            fieldErrors.add(new FieldError(
+                error.path(EnvelopeFields.FIELD.getValue()).asText(null),
+                error.path(EnvelopeFields.REJECTED_VALUE.getValue()).asText(null),
+                error.path(EnvelopeFields.REASON.getValue()).asText(null)
+            ));
+        }
+        return fieldErrors;
+    }
+}
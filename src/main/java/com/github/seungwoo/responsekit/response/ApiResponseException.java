@@ -0,0 +1,30 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 다른 서비스가 실패 응답(success=false)을 돌려줬을 때 ApiResponseDecoder가 던지는 예외
+ * <p>
+ * 응답 코드는 ResponseCodeRegistry에서 찾은 상수이며, 등록되지 않은 코드는 {@link RemoteResponseCode}입니다.
+ * CustomException이므로 따로 잡지 않으면 GlobalExceptionHandler가 같은 코드로 응답합니다.
+ * (message는 원격 서비스가 보낸 메시지로 로그에만 남고, 응답 본문에는 코드의 메시지가 쓰입니다.)
+ */
+@Getter
+public class ApiResponseException extends CustomException {
+
+    private final List<FieldError> errors;
+    private final int omittedErrors;
+
+    public ApiResponseException(BaseResponseCode responseCode, String message, List<FieldError> errors,
+        int omittedErrors) {
+        super(responseCode, message);
+        this.errors = errors;
+        this.omittedErrors = omittedErrors;
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 항목별 성공/실패를 함께 전달하는 일괄 처리 응답
+ * <p>
+ * 일부 항목이 실패해도 요청 전체를 실패로 만들지 않고, 항목마다 {@link ItemResult}로 결과를 담습니다.
+ * code/message는 일괄 처리 작업 자체의 코드이며, success는 모든 항목이 성공했을 때만 true입니다.
+ * <pre>
+ * {"success":false,"code":"USER_IMPORTED","message":"..","total":3,"succeeded":2,"failed":1,
+ *  "results":[{"index":0,"success":true,..},{"index":1,"success":false,"code":"BAD_REQUEST","errors":[..]},..]}
+ * </pre>
+ * 결과를 모두 모으지 않고 완료되는 대로 내려보내려면 BatchExecutor#stream으로 {@link StreamingBatchResponse}를 반환합니다.
+ */
+@Getter
+public class BatchApiResponse<T> {
+
+    private final boolean success;
+    private final String code;
+    private final String message;
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+    private final List<ItemResult<T>> results;
+
+    private BatchApiResponse(BaseResponseCode code, String message, List<ItemResult<T>> results) {
+        int succeededCount = 0;
+        for (ItemResult<T> result : results) {
+            if (result.isSuccess()) {
+                succeededCount++;
+            }
+        }
+        this.success = succeededCount == results.size();
+        this.code = code.getCode();
+        this.message = message;
+        this.total = results.size();
+        this.succeeded = succeededCount;
+        this.failed = results.size() - succeededCount;
+        this.results = results;
+    }
+
+    public static <T> BatchApiResponse<T> of(BaseResponseCode code, List<ItemResult<T>> results) {
+        return new BatchApiResponse<>(code, LocalizedMessages.global().message(code), results);
+    }
+
+    /**
+     * 지정한 메시지로 만든 응답 (요청 스레드에서 미리 구한 로케일별 메시지용)
+     */
+    public static <T> BatchApiResponse<T> of(BaseResponseCode code, String message, List<ItemResult<T>> results) {
+        return new BatchApiResponse<>(code, message, results);
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ApiResponse/ErrorResponse 본문의 인코딩 형식
+ * <p>
+ * CBOR/Smile은 jackson-dataformat-cbor / jackson-dataformat-smile 의존성이 클래스패스에 있을 때만 사용할 수 있으며,
+ * 애플리케이션 ObjectMapper 설정(모듈, Inclusion 등)을 그대로 복사한 매퍼로 직렬화하므로 JSON과 같은 구조의 본문이 만들어집니다.
+ * <p>
+ * 요청 형식은 Accept 헤더로 협상하며, 헤더가 없거나 cbor/smile을 포함하지 않는 대부분의 요청은 파싱 없이 JSON으로 결정됩니다.
+ */
+@Getter
+public enum EnvelopeFormat {
+
+    JSON(MediaType.APPLICATION_JSON, null),
+    CBOR(MediaType.APPLICATION_CBOR, "com.fasterxml.jackson.dataformat.cbor.CBORFactory"),
+    SMILE(new MediaType("application", "x-jackson-smile"), "com.fasterxml.jackson.dataformat.smile.SmileFactory");
+
+    private static final EnvelopeFormat[] VALUES = values();
+
+    private final MediaType mediaType;
+    private final String factoryClassName;
+    private final boolean available;
+
+    EnvelopeFormat(MediaType mediaType, String factoryClassName) {
+        this.mediaType = mediaType;
+        this.factoryClassName = factoryClassName;
+        this.available = factoryClassName == null
+            || ClassUtils.isPresent(factoryClassName, EnvelopeFormat.class.getClassLoader());
+    }
+
+    /**
+     * 애플리케이션 ObjectMapper의 설정을 유지한 이 형식의 매퍼 (JSON이면 그대로 반환)
+     */
+    public ObjectMapper mapper(ObjectMapper objectMapper) {
+        if (factoryClassName == null) {
+            return objectMapper;
+        }
+        if (!available) {
+            throw new IllegalStateException(name() + " 형식을 사용하려면 " + factoryClassName + " 의존성이 필요합니다.");
+        }
+        JsonFactory factory = BeanUtils.instantiateClass(
+            ClassUtils.resolveClassName(factoryClassName, EnvelopeFormat.class.getClassLoader()), JsonFactory.class);
+        return objectMapper.copyWith(factory);
+    }
+
+    /**
+     * Accept 헤더 값으로 응답 형식 결정
+     * <p>
+     * 사용 가능한 형식 중 품질 값(q)이 가장 높은 형식을 고르고, 같은 값이면 JSON을 우선합니다.
+     */
+    public static EnvelopeFormat negotiate(String accept) {
+        if (accept == null || (!accept.contains("cbor") && !accept.contains("smile"))) {
+            return JSON;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return JSON;
+        }
+        EnvelopeFormat selected = JSON;
+        double selectedQuality = -1;
+        for (MediaType acceptedType : acceptedTypes) {
+            double quality = acceptedType.getQualityValue();
+            for (EnvelopeFormat format : VALUES) {
+                if (format.available && quality > selectedQuality && acceptedType.includes(format.mediaType)) {
+                    selected = format;
+                    selectedQuality = quality;
+                }
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Content-Type으로 본문 형식 결정 (없거나 알 수 없는 형식이면 JSON)
+     */
+    public static EnvelopeFormat of(MediaType contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        for (EnvelopeFormat format : VALUES) {
+            if (format.mediaType.isCompatibleWith(contentType) && !contentType.isWildcardType()) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+}
@@ -1,8 +1,13 @@
 package com.github.seungwoo.responsekit.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
 import com.github.seungwoo.responsekit.shared.BaseResponseCode;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 
 /**
@@ -12,27 +17,77 @@ import lombok.Getter;
  * 실패(에러) 응답의 표준 구조를 정의하는 클래스
  * <p>
  * 검증 실패(@Valid), 비즈니스 예외(CustomException), 시스템 예외(Exception) 모두 이 클래스로 변환하여 응답에 전달할 수 있습니다.
+ * <p>
+ * errors가 없는 of(code) 응답은 Enum 코드별로 하나의 인스턴스만 만들어 재사용합니다. (Enum이 아닌 코드는 외부 입력에 따라
+ * 종류가 끝없이 늘어날 수 있으므로 매번 새로 만듦)
+ * (로케일별 메시지를 쓰는 요청은 {@link LocalizedMessages} 테이블의 메시지로 새 인스턴스를 만듭니다.)
+ * <p>
+ * {@link FieldErrorPolicy#getMaxErrors()}를 넘어 응답에서 빠진 FieldError 개수는 omittedErrors로 전달되며,
+ * 0이면 JSON에 포함되지 않습니다.
  */
 @Getter
 public class ErrorResponse {
 
+    private static final Map<BaseResponseCode, ErrorResponse> CACHE = new ConcurrentHashMap<>();
+
     private final boolean success;
     private final String code;
     private final String message;
     private final List<FieldError> errors;
 
-    private ErrorResponse(BaseResponseCode code, List<FieldError> errors) {
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final int omittedErrors;
+
+    private ErrorResponse(BaseResponseCode code, String message, List<FieldError> errors, int omittedErrors) {
         this.success = false;
         this.code = code.getCode();
-        this.message = code.getMessage();
+        this.message = message;
         this.errors = errors;
+        this.omittedErrors = omittedErrors;
     }
 
     public static ErrorResponse of(BaseResponseCode code) {
-        return new ErrorResponse(code, Collections.emptyList());
+        int localeIndex = LocalizedMessages.global().currentLocaleIndex();
+        if (localeIndex != 0) {
+            return localized(code, LocalizedMessages.global().message(code, localeIndex));
+        }
+        if (!(code instanceof Enum<?>)) {
+            return localized(code, code.getMessage());
+        }
+        return CACHE.computeIfAbsent(code, c -> localized(c, c.getMessage()));
     }
 
     public static ErrorResponse of(BaseResponseCode code, List<FieldError> errors) {
-        return new ErrorResponse(code, errors);
+        return of(code, errors, 0);
+    }
+
+    /**
+     * @param omittedErrors 개수 제한으로 errors에서 빠진 FieldError 개수
+     */
+    public static ErrorResponse of(BaseResponseCode code, List<FieldError> errors, int omittedErrors) {
+        return new ErrorResponse(code, LocalizedMessages.global().message(code), errors, Math.max(0, omittedErrors));
+    }
+
+    /**
+     * LocaleContextHolder 대신 지정한 로케일의 메시지를 사용 (WebFlux용)
+     */
+    public static ErrorResponse of(BaseResponseCode code, List<FieldError> errors, int omittedErrors, Locale locale) {
+        LocalizedMessages messages = LocalizedMessages.global();
+        return new ErrorResponse(code, messages.message(code, messages.localeIndex(locale)), errors,
+            Math.max(0, omittedErrors));
+    }
+
+    /**
+     * 인자가 있는 메시지 (ex: "{0}님을 찾을 수 없습니다.")를 현재 요청 로케일로 포맷팅한 응답
+     */
+    public static ErrorResponse formatted(BaseResponseCode code, Object... args) {
+        return localized(code, LocalizedMessages.global().format(code, args));
+    }
+
+    /**
+     * 지정한 메시지로 만든 errors 없는 응답 (ResponseBodyCache의 로케일별 사전 직렬화용)
+     */
+    static ErrorResponse localized(BaseResponseCode code, String message) {
+        return new ErrorResponse(code, message, Collections.emptyList(), 0);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package com.github.seungwoo.responsekit.response;
 
+import jakarta.validation.ConstraintViolation;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.validation.BindingResult;
@@ -12,25 +14,74 @@ import org.springframework.validation.BindingResult;
  * Licensed under the MIT License. See the LICENSE file for details.
  *
  * Validation 실패 시 어떤 필드에서 어떤 오류가 발생했는지 나타내는 DTO 클래스
+ * <p>
+ * from(...) 변환은 {@link FieldErrorPolicy}에 따라 rejectedValue 길이, FieldError 개수, 마스킹 필드를 제한합니다.
+ * 전역 정책은 {@link #configurePolicy(FieldErrorPolicy)} (response-kit.validation.* 프로퍼티)로 설정합니다.
  */
 @Getter
 @AllArgsConstructor
 public class FieldError {
 
+    private static volatile FieldErrorPolicy globalPolicy = FieldErrorPolicy.DEFAULT;
+
     private final String field;
     private final String rejectedValue;
     private final String reason;
 
+    /**
+     * 모든 from(...) 변환에 적용할 전역 정책 설정
+     */
+    public static void configurePolicy(FieldErrorPolicy fieldErrorPolicy) {
+        if (fieldErrorPolicy == null) {
+            throw new IllegalArgumentException("FieldErrorPolicy는 null일 수 없습니다.");
+        }
+        globalPolicy = fieldErrorPolicy;
+    }
+
     /**
      * BindingResult → FieldError 변환
      */
     public static List<FieldError> from(BindingResult bindingResult) {
-        return bindingResult.getFieldErrors().stream()
-            .map(error -> new FieldError(
+        return from(bindingResult, globalPolicy);
+    }
+
+    public static List<FieldError> from(BindingResult bindingResult, FieldErrorPolicy policy) {
+        List<org.springframework.validation.FieldError> fieldErrors = bindingResult.getFieldErrors();
+        int size = Math.min(fieldErrors.size(), policy.getMaxErrors());
+        List<FieldError> errors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            org.springframework.validation.FieldError error = fieldErrors.get(i);
+            errors.add(new FieldError(
                 error.getField(),
-                error.getRejectedValue() == null ? "" : error.getRejectedValue().toString(),
+                policy.rejectedValue(error.getField(), error.getRejectedValue()),
                 error.getDefaultMessage()
-            ))
-            .collect(Collectors.toList());
+            ));
+        }
+        return errors;
+    }
+
+    /**
+     * ConstraintViolation → FieldError 변환
+     */
+    public static List<FieldError> from(Collection<? extends ConstraintViolation<?>> violations) {
+        return from(violations, globalPolicy);
+    }
+
+    public static List<FieldError> from(Collection<? extends ConstraintViolation<?>> violations,
+        FieldErrorPolicy policy) {
+        int size = Math.min(violations.size(), policy.getMaxErrors());
+        List<FieldError> errors = new ArrayList<>(size);
+        for (ConstraintViolation<?> v : violations) {
+            if (errors.size() == size) {
+                break;
+            }
+            String field = v.getPropertyPath().toString();
+            errors.add(new FieldError(
+                field,
+                policy.rejectedValue(field, v.getInvalidValue()),
+                v.getMessage()
+            ));
+        }
+        return errors;
     }
 }
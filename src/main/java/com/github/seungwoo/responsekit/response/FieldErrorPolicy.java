@@ -0,0 +1,168 @@
+package com.github.seungwoo.responsekit.response;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * FieldError 변환 시 응답 크기를 제한하는 정책
+ * <ul>
+ *     <li>maxRejectedValueLength: rejectedValue 최대 길이. 넘으면 잘라낸 뒤 {@code ...(N chars)}를 붙입니다.</li>
+ *     <li>maxErrors: 응답에 담을 최대 FieldError 개수. 나머지는 ErrorResponse의 omittedErrors로 개수만 전달합니다.</li>
+ *     <li>maskedFields: rejectedValue를 {@link #MASK}로 대체할 필드 이름. {@code password}는 {@code user.password}에도 적용됩니다.</li>
+ * </ul>
+ * <p>
+ * 문자열은 잘라낼 부분만 복사하고, Collection/Map/배열은 최대 길이에 도달할 때까지만 요소를 순회하므로
+ * 수 MB 문자열이나 수만 개 요소 목록이 들어와도 변환 비용이 정책 크기에 비례합니다.
+ * 중첩된 요소는 남은 길이만큼만 출력하고, {@value #MAX_DEPTH}단계보다 깊은 중첩과 자기 자신을 담은 컨테이너는
+ * 펼치지 않습니다. 그 밖의 객체는 toString() 결과를 잘라냅니다.
+ */
+@Getter
+public final class FieldErrorPolicy {
+
+    // 마스킹된 rejectedValue
+    public static final String MASK = "******";
+
+    public static final FieldErrorPolicy DEFAULT = new FieldErrorPolicy(256, 100, Set.of());
+
+    // 펼쳐서 출력할 Collection/Map/배열의 최대 중첩 깊이
+    static final int MAX_DEPTH = 4;
+
+    private final int maxRejectedValueLength;
+    private final int maxErrors;
+    private final Set<String> maskedFields;
+
+    public FieldErrorPolicy(int maxRejectedValueLength, int maxErrors, Collection<String> maskedFields) {
+        if (maxRejectedValueLength < 1) {
+            throw new IllegalArgumentException("maxRejectedValueLength는 1 이상이어야 합니다: " + maxRejectedValueLength);
+        }
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors는 1 이상이어야 합니다: " + maxErrors);
+        }
+        this.maxRejectedValueLength = maxRejectedValueLength;
+        this.maxErrors = maxErrors;
+        this.maskedFields = Set.copyOf(maskedFields);
+    }
+
+    /**
+     * 응답에 담을 rejectedValue 문자열 (null이면 빈 문자열)
+     */
+    public String rejectedValue(String field, Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (isMasked(field)) {
+            return MASK;
+        }
+        return render(value, maxRejectedValueLength, 0);
+    }
+
+    /**
+     * 필드 경로 전체 또는 마지막 프로퍼티 이름이 maskedFields에 있는지 확인
+     */
+    public boolean isMasked(String field) {
+        if (maskedFields.isEmpty() || field == null) {
+            return false;
+        }
+        if (maskedFields.contains(field)) {
+            return true;
+        }
+        for (String name : maskedFields) {
+            int offset = field.length() - name.length();
+            if (offset > 0 && field.charAt(offset - 1) == '.'
+                && field.regionMatches(offset, name, 0, name.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String render(Object value, int max, int depth) {
+        if (value instanceof CharSequence chars) {
+            return truncate(chars, max);
+        }
+        boolean array = value.getClass().isArray();
+        if ((value instanceof Collection<?> || value instanceof Map<?, ?> || array) && depth >= MAX_DEPTH) {
+            return "[...]";
+        }
+        if (value instanceof Collection<?> collection) {
+            return renderElements(value, collection.iterator(), collection.size(), max, depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return renderElements(value, map.entrySet().iterator(), map.size(), max, depth);
+        }
+        if (array) {
+            return renderElements(value, arrayIterator(value), Array.getLength(value), max, depth);
+        }
+        return truncate(String.valueOf(value), max);
+    }
+
+    private static String truncate(CharSequence chars, int max) {
+        int length = chars.length();
+        if (length <= max) {
+            return chars.toString();
+        }
+        int end = Character.isHighSurrogate(chars.charAt(max - 1)) ? max - 1 : max;
+        return new StringBuilder(end + 24)
+            .append(chars, 0, end)
+            .append("...(").append(length).append(" chars)")
+            .toString();
+    }
+
+    private static String renderElements(Object owner, Iterator<?> elements, int size, int max, int depth) {
+        StringBuilder sb = new StringBuilder(Math.min(max, 64) + 24);
+        sb.append('[');
+        int written = 0;
+        while (elements.hasNext() && sb.length() < max) {
+            // 중첩된 요소도 전체 최대 길이 중 남은 만큼만 출력
+            int remaining = max - sb.length();
+            if (written > 0) {
+                sb.append(", ");
+            }
+            sb.append(renderElement(owner, elements.next(), remaining, depth));
+            written++;
+        }
+        if (written < size) {
+            sb.append(written > 0 ? ", " : "").append("...(").append(size - written).append(" more)");
+        }
+        return sb.append(']').toString();
+    }
+
+    // Map.Entry는 toString()이 key/value 전체를 문자열로 만들므로 key와 value를 각각 남은 길이만큼 출력
+    private static String renderElement(Object owner, Object element, int max, int depth) {
+        if (element == null) {
+            return "null";
+        }
+        if (element == owner) {
+            return "(this)";
+        }
+        if (owner instanceof Map<?, ?> && element instanceof Map.Entry<?, ?> entry) {
+            String key = renderElement(owner, entry.getKey(), max, depth);
+            return key + "=" + renderElement(owner, entry.getValue(), Math.max(1, max - key.length() - 1), depth);
+        }
+        return render(element, max, depth + 1);
+    }
+
+    private static Iterator<Object> arrayIterator(Object array) {
+        int length = Array.getLength(array);
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public Object next() {
+                return Array.get(array, index++);
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 일괄 처리(BatchApiResponse) 항목 하나의 처리 결과
+ * <p>
+ * index는 요청 목록에서의 위치이며, 결과를 완료 순서로 스트리밍하는 경우에도 요청 항목과 짝을 맞출 수 있습니다.
+ * 성공한 항목은 data를, 실패한 항목은 해당 응답 코드와 FieldError를 담습니다. (null/빈 값은 JSON에 포함되지 않습니다.)
+ */
+@Getter
+public class ItemResult<T> {
+
+    private final int index;
+    private final boolean success;
+    private final String code;
+    private final String message;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final T data;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<FieldError> errors;
+
+    private ItemResult(int index, boolean success, BaseResponseCode code, String message, T data,
+        List<FieldError> errors) {
+        this.index = index;
+        this.success = success;
+        this.code = code.getCode();
+        this.message = message;
+        this.data = data;
+        this.errors = errors;
+    }
+
+    public static <T> ItemResult<T> success(int index, BaseResponseCode code, String message, T data) {
+        return new ItemResult<>(index, true, code, message, data, Collections.emptyList());
+    }
+
+    public static <T> ItemResult<T> failure(int index, BaseResponseCode code, String message,
+        List<FieldError> errors) {
+        return new ItemResult<>(index, false, code, message, null, errors == null ? Collections.emptyList() : errors);
+    }
+}
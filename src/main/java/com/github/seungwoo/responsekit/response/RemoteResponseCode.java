@@ -0,0 +1,32 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 이 애플리케이션의 ResponseCodeRegistry에 없는 응답 코드 (다른 서비스에만 정의된 코드)
+ * <p>
+ * ApiResponseDecoder가 본문의 code와 응답 HTTP 상태로 만듭니다. 원격 서비스가 보낸 메시지는 이 애플리케이션의
+ * 클라이언트에 그대로 노출되지 않도록 코드에 담지 않으며(getMessage()는 HTTP 상태 문구),
+ * {@link ApiResponseException#getMessage()}로 로그에서만 확인할 수 있습니다.
+ */
+public record RemoteResponseCode(String code, HttpStatus httpStatus) implements BaseResponseCode {
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        return httpStatus.getReasonPhrase();
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * BaseResponseCode별 정적 응답 본문을 미리 직렬화해 두는 캐시
+ * <p>
+ * errors가 비어 있는 ErrorResponse, data가 없는 ApiResponse.success/fail 응답은 코드마다 항상 같은 바이트가 나오므로
+ * 최초 한 번만 직렬화하고 이후에는 읽기 전용 헤더(Content-Type/Content-Length)와 바이트를 재사용해 ResponseEntity를 만듭니다.
+ * <p>
+ * CommonResponseCode는 생성 시점에 모두 등록되며, 도메인별 Enum은 {@link #register(Class)}로 미리 등록하거나
+ * 처음 조회될 때 Enum 상수 전체가 한 번에 등록됩니다. Enum이 아닌 코드(다른 서비스에서 받은 RemoteResponseCode 등)는
+ * 종류가 외부 입력에 따라 끝없이 늘어날 수 있으므로 캐시하지 않고 요청마다 필요한 본문 하나만 직렬화합니다.
+ * <p>
+ * 로케일별 메시지({@link LocalizedMessages})를 쓰는 경우 코드마다 지원 로케일 수만큼 본문을 미리 직렬화해 두고,
+ * 요청 로케일에 맞는 본문을 배열 인덱스로 꺼냅니다. 이때 같은 URL이라도 본문이 Accept-Language에 따라 달라지므로
+ * 모든 응답에 {@code Vary: Accept-Language}를 붙입니다.
+ * <p>
+ * CBOR/Smile 의존성이 있으면 사용 가능한 {@link EnvelopeFormat}마다 같은 구조의 본문을 함께 직렬화해 두고,
+ * 형식을 지정하지 않은 조회는 JSON 본문을 반환합니다.
+ * <p>
+ * 캐시된 코드는 본문마다 ResponseEntity를 한 번만 만들어 두고 모든 요청이 같은 인스턴스를 공유합니다.
+ * 헤더는 읽기 전용이며, 본문 byte[]는 복사하지 않고 그대로 내보내므로 호출한 쪽은 응답으로 쓰기만 하고
+ * 배열 내용을 절대 수정해서는 안 됩니다. (수정하면 이후 같은 코드의 모든 응답이 오염됨)
+ */
+public class ResponseBodyCache {
+
+    private final ObjectMapper[] mappers = new ObjectMapper[EnvelopeFormat.values().length];
+    private final LocalizedMessages messages;
+    private final Map<BaseResponseCode, CachedBodies> bodies = new ConcurrentHashMap<>();
+
+    public ResponseBodyCache(ObjectMapper objectMapper) {
+        this(objectMapper, LocalizedMessages.global());
+    }
+
+    public ResponseBodyCache(ObjectMapper objectMapper, LocalizedMessages messages) {
+        for (EnvelopeFormat format : EnvelopeFormat.values()) {
+            if (format.isAvailable()) {
+                mappers[format.ordinal()] = format.mapper(objectMapper);
+            }
+        }
+        this.messages = messages;
+        register(CommonResponseCode.class);
+    }
+
+    /**
+     * 도메인 응답 코드 Enum의 모든 상수를 미리 직렬화
+     */
+    public void register(Class<? extends BaseResponseCode> codeType) {
+        BaseResponseCode[] codes = codeType.getEnumConstants();
+        if (codes == null) {
+            throw new IllegalArgumentException("BaseResponseCode Enum 타입만 등록할 수 있습니다: " + codeType.getName());
+        }
+        for (BaseResponseCode code : codes) {
+            bodies.computeIfAbsent(code, this::serializeAll);
+        }
+    }
+
+    /**
+     * ErrorResponse.of(code) 본문
+     */
+    public ResponseEntity<byte[]> error(BaseResponseCode code) {
+        return error(code, EnvelopeFormat.JSON);
+    }
+
+    public ResponseEntity<byte[]> error(BaseResponseCode code, EnvelopeFormat format) {
+        return error(code, format, messages.currentLocaleIndex());
+    }
+
+    /**
+     * 지정한 로케일의 ErrorResponse.of(code) 본문 (LocaleContextHolder를 쓰지 않는 WebFlux용)
+     */
+    public ResponseEntity<byte[]> error(BaseResponseCode code, Locale locale) {
+        return error(code, locale, EnvelopeFormat.JSON);
+    }
+
+    public ResponseEntity<byte[]> error(BaseResponseCode code, Locale locale, EnvelopeFormat format) {
+        return error(code, format, messages.localeIndex(locale));
+    }
+
+    /**
+     * ApiResponse.success(code) 본문
+     */
+    public ResponseEntity<byte[]> success(BaseResponseCode code) {
+        return success(code, EnvelopeFormat.JSON);
+    }
+
+    public ResponseEntity<byte[]> success(BaseResponseCode code, EnvelopeFormat format) {
+        int localeIndex = messages.currentLocaleIndex();
+        CachedBodies cached = lookup(code);
+        if (cached == null) {
+            return serialize(available(format), code, ApiResponse.localized(true, code,
+                messages.message(code, localeIndex))).toEntity();
+        }
+        return cached.success()[slot(format)][localeIndex].toEntity();
+    }
+
+    /**
+     * ApiResponse.fail(code) 본문
+     */
+    public ResponseEntity<byte[]> fail(BaseResponseCode code) {
+        return fail(code, EnvelopeFormat.JSON);
+    }
+
+    public ResponseEntity<byte[]> fail(BaseResponseCode code, EnvelopeFormat format) {
+        int localeIndex = messages.currentLocaleIndex();
+        CachedBodies cached = lookup(code);
+        if (cached == null) {
+            return serialize(available(format), code, ApiResponse.localized(false, code,
+                messages.message(code, localeIndex))).toEntity();
+        }
+        return cached.fail()[slot(format)][localeIndex].toEntity();
+    }
+
+    /**
+     * 메시지가 요청 로케일에 따라 달라지는지 여부 (본문을 직접 쓰는 곳도 Vary: Accept-Language를 붙여야 함)
+     */
+    public boolean isLocalized() {
+        return messages.localeCount() > 1;
+    }
+
+    /**
+     * 미리 직렬화해 둔 응답 코드 수 (Enum 상수만 캐시됨)
+     */
+    public int size() {
+        return bodies.size();
+    }
+
+    /**
+     * 형식별 ObjectMapper (사용할 수 없는 형식이면 JSON 매퍼)
+     */
+    public ObjectMapper mapper(EnvelopeFormat format) {
+        return mappers[slot(format)];
+    }
+
+    // 의존성이 없어 직렬화해 두지 않은 형식은 JSON으로 대체
+    private int slot(EnvelopeFormat format) {
+        return mappers[format.ordinal()] != null ? format.ordinal() : EnvelopeFormat.JSON.ordinal();
+    }
+
+    private EnvelopeFormat available(EnvelopeFormat format) {
+        return mappers[format.ordinal()] != null ? format : EnvelopeFormat.JSON;
+    }
+
+    private ResponseEntity<byte[]> error(BaseResponseCode code, EnvelopeFormat format, int localeIndex) {
+        CachedBodies cached = lookup(code);
+        if (cached == null) {
+            return serialize(available(format), code, ErrorResponse.localized(code,
+                messages.message(code, localeIndex))).toEntity();
+        }
+        return cached.error()[slot(format)][localeIndex].toEntity();
+    }
+
+    // Enum이 아닌 코드는 null (캐시하지 않음)
+    private CachedBodies lookup(BaseResponseCode code) {
+        CachedBodies cached = bodies.get(code);
+        if (cached != null) {
+            return cached;
+        }
+        if (code instanceof Enum<?> constant) {
+            @SuppressWarnings("unchecked")
+            Class<? extends BaseResponseCode> codeType =
+                (Class<? extends BaseResponseCode>) constant.getDeclaringClass();
+            register(codeType);
+            return bodies.get(code);
+        }
+        return null;
+    }
+
+    private CachedBodies serializeAll(BaseResponseCode code) {
+        int localeCount = messages.localeCount();
+        CachedBody[][] error = new CachedBody[mappers.length][];
+        CachedBody[][] success = new CachedBody[mappers.length][];
+        CachedBody[][] fail = new CachedBody[mappers.length][];
+        for (EnvelopeFormat format : EnvelopeFormat.values()) {
+            if (mappers[format.ordinal()] == null) {
+                continue;
+            }
+            int f = format.ordinal();
+            error[f] = new CachedBody[localeCount];
+            success[f] = new CachedBody[localeCount];
+            fail[f] = new CachedBody[localeCount];
+            for (int i = 0; i < localeCount; i++) {
+                String message = messages.message(code, i);
+                error[f][i] = serialize(format, code, ErrorResponse.localized(code, message));
+                success[f][i] = serialize(format, code, ApiResponse.localized(true, code, message));
+                fail[f][i] = serialize(format, code, ApiResponse.localized(false, code, message));
+            }
+        }
+        return new CachedBodies(error, success, fail);
+    }
+
+    private CachedBody serialize(EnvelopeFormat format, BaseResponseCode code, Object body) {
+        byte[] bytes;
+        try {
+            bytes = mappers[format.ordinal()].writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 본문 직렬화에 실패했습니다: " + code.getCode(), e);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(format.getMediaType());
+        headers.setContentLength(bytes.length);
+        if (isLocalized()) {
+            headers.setVary(List.of(HttpHeaders.ACCEPT_LANGUAGE));
+        }
+        return new CachedBody(new ResponseEntity<>(bytes, HttpHeaders.readOnlyHttpHeaders(headers),
+            code.getHttpStatus()));
+    }
+
+    // 직렬화된 본문과 읽기 전용 헤더를 담은 공유 ResponseEntity (본문 byte[]는 호출한 쪽이 수정하지 않는다는 전제로 공유)
+    private record CachedBody(ResponseEntity<byte[]> entity) {
+
+        ResponseEntity<byte[]> toEntity() {
+            return entity;
+        }
+    }
+
+    // [형식(EnvelopeFormat#ordinal)][로케일 슬롯(LocalizedMessages#localeIndex)]별 본문
+    private record CachedBodies(
+        CachedBody[][] error,
+        CachedBody[][] success,
+        CachedBody[][] fail
+    ) {}
+}
@@ -0,0 +1,173 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
+import com.github.seungwoo.responsekit.response.jackson.EnvelopeFields;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * data를 메모리에 모으지 않고 요소 단위로 바로 써 내려가는 ApiResponse
+ * <p>
+ * {@code ApiResponse.stream(code, stream)}으로 만들고 컨트롤러에서 그대로 반환하면
+ * StreamingApiResponseHttpMessageConverter가 다음 형식으로 출력합니다.
+ * <ul>
+ *     <li>application/json: {@code {"success":true,"code":..,"message":..,"data":[...]}}</li>
+ *     <li>application/x-ndjson: 첫 줄에 success/code/message, 이후 한 줄에 요소 하나</li>
+ * </ul>
+ * 출력 도중 예외가 발생하면 JSON은 data 배열을 닫고 {@code "error":{"code":..,"message":..}} 필드를,
+ * NDJSON은 {@code {"success":false,"code":..,"message":..}} 줄을 마지막에 씁니다.
+ * CustomException이면 해당 응답 코드를, 그 외에는 INTERNAL_ERROR를 사용합니다.
+ * <p>
+ * 원본 Stream은 출력이 끝나거나 실패하면 닫힙니다.
+ */
+public final class StreamingApiResponse<T> implements AutoCloseable {
+
+    private static final int DEFAULT_FLUSH_EVERY = 100;
+
+    private final BaseResponseCode code;
+    private final Iterator<? extends T> items;
+    private final Runnable onClose;
+    private final int flushEvery;
+
+    StreamingApiResponse(BaseResponseCode code, Iterator<? extends T> items, Runnable onClose, int flushEvery) {
+        if (flushEvery < 1) {
+            throw new IllegalArgumentException("flushEvery는 1 이상이어야 합니다: " + flushEvery);
+        }
+        this.code = code;
+        this.items = items;
+        this.onClose = onClose;
+        this.flushEvery = flushEvery;
+    }
+
+    static <T> StreamingApiResponse<T> of(BaseResponseCode code, Iterator<? extends T> items, Runnable onClose) {
+        return new StreamingApiResponse<>(code, items, onClose, DEFAULT_FLUSH_EVERY);
+    }
+
+    /**
+     * N개 요소마다 출력 버퍼를 flush (기본 100)
+     */
+    public StreamingApiResponse<T> flushEvery(int elements) {
+        return new StreamingApiResponse<>(code, items, onClose, elements);
+    }
+
+    public BaseResponseCode getCode() {
+        return code;
+    }
+
+    /**
+     * JSON 객체 하나로 출력
+     *
+     * @param onError trailing error 필드에 쓴 응답 코드와 요소 출력 중 발생한 예외 (필드를 쓴 뒤 호출)
+     */
+    public void writeJson(JsonGenerator gen, ObjectWriter elementWriter,
+        BiConsumer<BaseResponseCode, RuntimeException> onError) throws IOException {
+        gen.writeStartObject();
+        writeHeader(gen, true, code);
+        gen.writeFieldName(EnvelopeFields.DATA);
+        gen.writeStartArray();
+        JsonStreamContext arrayContext = gen.getOutputContext();
+        try {
+            writeElements(gen, elementWriter, false);
+        } catch (RuntimeException ex) {
+            if (gen.getOutputContext() != arrayContext) {
+                // 요소 직렬화 도중 실패해 JSON을 복구할 수 없는 경우
+                throw ex;
+            }
+            BaseResponseCode errorCode = errorCode(ex);
+            gen.writeEndArray();
+            gen.writeFieldName(EnvelopeFields.ERROR);
+            gen.writeStartObject();
+            gen.writeFieldName(EnvelopeFields.CODE);
+            gen.writeString(errorCode.getCode());
+            gen.writeFieldName(EnvelopeFields.MESSAGE);
+            gen.writeString(LocalizedMessages.global().message(errorCode));
+            gen.writeEndObject();
+            gen.writeEndObject();
+            gen.flush();
+            onError.accept(errorCode, ex);
+            return;
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+        gen.flush();
+    }
+
+    /**
+     * 줄 단위 JSON(NDJSON)으로 출력
+     *
+     * @param onError trailing error 줄에 쓴 응답 코드와 요소 출력 중 발생한 예외 (줄을 쓴 뒤 호출)
+     */
+    public void writeNdjson(JsonGenerator gen, ObjectWriter elementWriter,
+        BiConsumer<BaseResponseCode, RuntimeException> onError) throws IOException {
+        gen.setRootValueSeparator(null);
+        writeEnvelopeLine(gen, true, code);
+        try {
+            writeElements(gen, elementWriter, true);
+        } catch (RuntimeException ex) {
+            if (gen.getOutputContext().inRoot()) {
+                BaseResponseCode errorCode = errorCode(ex);
+                writeEnvelopeLine(gen, false, errorCode);
+                gen.flush();
+                onError.accept(errorCode, ex);
+                return;
+            }
+            throw ex;
+        }
+        gen.flush();
+    }
+
+    @Override
+    public void close() {
+        if (onClose != null) {
+            onClose.run();
+        }
+    }
+
+    private void writeElements(JsonGenerator gen, ObjectWriter elementWriter, boolean lineDelimited)
+        throws IOException {
+        int written = 0;
+        while (items.hasNext()) {
+            elementWriter.writeValue(gen, items.next());
+            if (lineDelimited) {
+                gen.writeRaw('\n');
+            }
+            if (++written % flushEvery == 0) {
+                gen.flush();
+            }
+        }
+    }
+
+    private static void writeEnvelopeLine(JsonGenerator gen, boolean success, BaseResponseCode code)
+        throws IOException {
+        gen.writeStartObject();
+        writeHeader(gen, success, code);
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    private static void writeHeader(JsonGenerator gen, boolean success, BaseResponseCode code) throws IOException {
+        gen.writeFieldName(EnvelopeFields.SUCCESS);
+        gen.writeBoolean(success);
+        gen.writeFieldName(EnvelopeFields.CODE);
+        gen.writeString(code.getCode());
+        gen.writeFieldName(EnvelopeFields.MESSAGE);
+        gen.writeString(LocalizedMessages.global().message(code));
+    }
+
+    private static BaseResponseCode errorCode(RuntimeException ex) {
+        if (ex instanceof CustomException customException) {
+            return customException.getResponseCode();
+        }
+        return CommonResponseCode.INTERNAL_ERROR;
+    }
+}
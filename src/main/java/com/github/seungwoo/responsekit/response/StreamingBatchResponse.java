@@ -0,0 +1,129 @@
+package com.github.seungwoo.responsekit.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.seungwoo.responsekit.response.jackson.EnvelopeFields;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 항목 결과를 완료되는 대로 써 내려가는 BatchApiResponse
+ * <p>
+ * 집계 값(success/total/succeeded/failed)은 모든 항목을 쓴 뒤에야 알 수 있으므로 results 뒤에 출력되며,
+ * 필드 구성은 BatchApiResponse와 같습니다.
+ * <ul>
+ *     <li>application/json: {@code {"code":..,"message":..,"results":[...],"total":..,"succeeded":..,"failed":..,"success":..}}</li>
+ *     <li>application/x-ndjson: 첫 줄에 code/message, 이후 한 줄에 항목 결과 하나, 마지막 줄에 집계 값</li>
+ * </ul>
+ * StreamingBatchResponseHttpMessageConverter가 출력하며, 출력이 끝나거나 실패하면 남은 작업을 정리하도록 닫힙니다.
+ */
+public final class StreamingBatchResponse<T> implements AutoCloseable {
+
+    private final BaseResponseCode code;
+    private final String message;
+    private final Iterator<ItemResult<T>> results;
+    private final Runnable onClose;
+
+    private StreamingBatchResponse(BaseResponseCode code, String message, Iterator<ItemResult<T>> results,
+        Runnable onClose) {
+        this.code = code;
+        this.message = message;
+        this.results = results;
+        this.onClose = onClose;
+    }
+
+    /**
+     * @param results 완료 순서로 항목 결과를 돌려주는 Iterator (다음 결과가 나올 때까지 블로킹할 수 있음)
+     * @param onClose 출력이 끝나거나 실패했을 때 호출 (null 가능)
+     */
+    public static <T> StreamingBatchResponse<T> of(BaseResponseCode code, String message,
+        Iterator<ItemResult<T>> results, Runnable onClose) {
+        return new StreamingBatchResponse<>(code, message, results, onClose);
+    }
+
+    public BaseResponseCode getCode() {
+        return code;
+    }
+
+    /**
+     * JSON 객체 하나로 출력 (항목 하나를 쓸 때마다 flush)
+     */
+    public void writeJson(JsonGenerator gen, ObjectWriter elementWriter) throws IOException {
+        gen.writeStartObject();
+        writeHeader(gen);
+        gen.writeFieldName(EnvelopeFields.RESULTS);
+        gen.writeStartArray();
+        int[] counts = writeResults(gen, elementWriter, false);
+        gen.writeEndArray();
+        writeSummary(gen, counts[0], counts[1]);
+        gen.writeEndObject();
+        gen.flush();
+    }
+
+    /**
+     * 줄 단위 JSON(NDJSON)으로 출력
+     */
+    public void writeNdjson(JsonGenerator gen, ObjectWriter elementWriter) throws IOException {
+        gen.setRootValueSeparator(null);
+        gen.writeStartObject();
+        writeHeader(gen);
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+        int[] counts = writeResults(gen, elementWriter, true);
+        gen.writeStartObject();
+        writeSummary(gen, counts[0], counts[1]);
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+        gen.flush();
+    }
+
+    @Override
+    public void close() {
+        if (onClose != null) {
+            onClose.run();
+        }
+    }
+
+    // [succeeded, failed]
+    private int[] writeResults(JsonGenerator gen, ObjectWriter elementWriter, boolean lineDelimited)
+        throws IOException {
+        int succeeded = 0;
+        int failed = 0;
+        while (results.hasNext()) {
+            ItemResult<T> result = results.next();
+            elementWriter.writeValue(gen, result);
+            if (lineDelimited) {
+                gen.writeRaw('\n');
+            }
+            if (result.isSuccess()) {
+                succeeded++;
+            } else {
+                failed++;
+            }
+            gen.flush();
+        }
+        return new int[]{succeeded, failed};
+    }
+
+    private void writeHeader(JsonGenerator gen) throws IOException {
+        gen.writeFieldName(EnvelopeFields.CODE);
+        gen.writeString(code.getCode());
+        gen.writeFieldName(EnvelopeFields.MESSAGE);
+        gen.writeString(message);
+    }
+
+    private static void writeSummary(JsonGenerator gen, int succeeded, int failed) throws IOException {
+        gen.writeFieldName(EnvelopeFields.TOTAL);
+        gen.writeNumber(succeeded + failed);
+        gen.writeFieldName(EnvelopeFields.SUCCEEDED);
+        gen.writeNumber(succeeded);
+        gen.writeFieldName(EnvelopeFields.FAILED);
+        gen.writeNumber(failed);
+        gen.writeFieldName(EnvelopeFields.SUCCESS);
+        gen.writeBoolean(failed == 0);
+    }
+}
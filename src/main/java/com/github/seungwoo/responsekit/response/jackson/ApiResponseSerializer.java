@@ -0,0 +1,81 @@
+package com.github.seungwoo.responsekit.response.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.seungwoo.responsekit.fields.FieldSelection;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import java.io.IOException;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ApiResponse 전용 직렬화기
+ * <p>
+ * success/code/message는 직접 출력하고 data만 ObjectMapper의 일반 직렬화기에 위임합니다.
+ * fields가 선택된 응답은 data만 FilteringGeneratorDelegate로 감싸 선택한 경로만 출력합니다.
+ * 필드 이름과 null 값(message/data) 포함 여부는 {@link ResponseKitJacksonModule}이 ObjectMapper 설정으로 정합니다.
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private final SerializableString successName;
+    private final SerializableString codeName;
+    private final SerializableString messageName;
+    private final SerializableString dataName;
+    private final boolean includeNulls;
+
+    /**
+     * 기본 필드 이름, null 값 포함
+     */
+    public ApiResponseSerializer() {
+        super(ApiResponse.class, false);
+        this.successName = EnvelopeFields.SUCCESS;
+        this.codeName = EnvelopeFields.CODE;
+        this.messageName = EnvelopeFields.MESSAGE;
+        this.dataName = EnvelopeFields.DATA;
+        this.includeNulls = true;
+    }
+
+    ApiResponseSerializer(BeanDescription beanDesc, boolean includeNulls) {
+        super(ApiResponse.class, false);
+        this.successName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.SUCCESS);
+        this.codeName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.CODE);
+        this.messageName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.MESSAGE);
+        this.dataName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.DATA);
+        this.includeNulls = includeNulls;
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(successName);
+        gen.writeBoolean(value.isSuccess());
+        gen.writeFieldName(codeName);
+        gen.writeString(value.getCode());
+        if (value.getMessage() != null || includeNulls) {
+            gen.writeFieldName(messageName);
+            gen.writeString(value.getMessage());
+        }
+        Object data = value.getData();
+        if (data != null) {
+            gen.writeFieldName(dataName);
+            FieldSelection fields = value.getFields();
+            if (fields == null) {
+                provider.defaultSerializeValue(data, gen);
+            } else {
+                // data 값만 필터링 생성기로 출력 (success/code/message는 그대로)
+                provider.defaultSerializeValue(data, new FilteringGeneratorDelegate(gen, fields.filter(),
+                    TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true));
+            }
+        } else if (includeNulls) {
+            gen.writeFieldName(dataName);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.seungwoo.responsekit.response.jackson;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ApiResponse/ErrorResponse/FieldError/BatchApiResponse 필드 이름
+ * <p>
+ * SerializedString은 처음 사용할 때 인코딩된 바이트/문자를 캐시하므로, 필드 이름을 매번 이스케이프/인코딩하지 않습니다.
+ */
+public final class EnvelopeFields {
+
+    public static final SerializableString SUCCESS = new SerializedString("success");
+    public static final SerializableString CODE = new SerializedString("code");
+    public static final SerializableString MESSAGE = new SerializedString("message");
+    public static final SerializableString DATA = new SerializedString("data");
+    public static final SerializableString ERRORS = new SerializedString("errors");
+    public static final SerializableString OMITTED_ERRORS = new SerializedString("omittedErrors");
+    public static final SerializableString ERROR = new SerializedString("error");
+    public static final SerializableString FIELD = new SerializedString("field");
+    public static final SerializableString REJECTED_VALUE = new SerializedString("rejectedValue");
+    public static final SerializableString REASON = new SerializedString("reason");
+    public static final SerializableString TOTAL = new SerializedString("total");
+    public static final SerializableString SUCCEEDED = new SerializedString("succeeded");
+    public static final SerializableString FAILED = new SerializedString("failed");
+    public static final SerializableString RESULTS = new SerializedString("results");
+
+    private EnvelopeFields() {
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.seungwoo.responsekit.response.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ErrorResponse 전용 직렬화기
+ * <p>
+ * errors 요소는 ObjectMapper가 FieldError에 쓰는 직렬화기로 출력하므로, FieldError만 기본 Bean 직렬화로 바뀌어도
+ * 같은 설정이 적용됩니다.
+ */
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    private final SerializableString successName;
+    private final SerializableString codeName;
+    private final SerializableString messageName;
+    private final SerializableString errorsName;
+    private final SerializableString omittedErrorsName;
+    private final boolean includeNulls;
+
+    /**
+     * 기본 필드 이름, null 값 포함
+     */
+    public ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+        this.successName = EnvelopeFields.SUCCESS;
+        this.codeName = EnvelopeFields.CODE;
+        this.messageName = EnvelopeFields.MESSAGE;
+        this.errorsName = EnvelopeFields.ERRORS;
+        this.omittedErrorsName = EnvelopeFields.OMITTED_ERRORS;
+        this.includeNulls = true;
+    }
+
+    ErrorResponseSerializer(BeanDescription beanDesc, boolean includeNulls) {
+        super(ErrorResponse.class);
+        this.successName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.SUCCESS);
+        this.codeName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.CODE);
+        this.messageName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.MESSAGE);
+        this.errorsName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.ERRORS);
+        this.omittedErrorsName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.OMITTED_ERRORS);
+        this.includeNulls = includeNulls;
+    }
+
+    @Override
+    public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(successName);
+        gen.writeBoolean(value.isSuccess());
+        gen.writeFieldName(codeName);
+        gen.writeString(value.getCode());
+        if (value.getMessage() != null || includeNulls) {
+            gen.writeFieldName(messageName);
+            gen.writeString(value.getMessage());
+        }
+        List<FieldError> errors = value.getErrors();
+        if (errors != null || includeNulls) {
+            gen.writeFieldName(errorsName);
+            writeErrors(errors, gen, provider);
+        }
+        if (value.getOmittedErrors() > 0) {
+            gen.writeFieldName(omittedErrorsName);
+            gen.writeNumber(value.getOmittedErrors());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeErrors(List<FieldError> errors, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+        if (errors == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(errors, errors.size());
+        if (!errors.isEmpty()) {
+            JsonSerializer<Object> serializer = provider.findValueSerializer(FieldError.class);
+            for (FieldError error : errors) {
+                serializer.serialize(error, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.seungwoo.responsekit.response.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.seungwoo.responsekit.response.FieldError;
+import java.io.IOException;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * FieldError 전용 직렬화기 (field, rejectedValue, reason을 순서대로 직접 출력)
+ * <p>
+ * 필드 이름과 null 값 포함 여부는 {@link ResponseKitJacksonModule}이 ObjectMapper 설정으로 정합니다.
+ */
+public class FieldErrorSerializer extends StdSerializer<FieldError> {
+
+    private final SerializableString fieldName;
+    private final SerializableString rejectedValueName;
+    private final SerializableString reasonName;
+    private final boolean includeNulls;
+
+    /**
+     * 기본 필드 이름, null 값 포함
+     */
+    public FieldErrorSerializer() {
+        super(FieldError.class);
+        this.fieldName = EnvelopeFields.FIELD;
+        this.rejectedValueName = EnvelopeFields.REJECTED_VALUE;
+        this.reasonName = EnvelopeFields.REASON;
+        this.includeNulls = true;
+    }
+
+    FieldErrorSerializer(BeanDescription beanDesc, boolean includeNulls) {
+        super(FieldError.class);
+        this.fieldName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.FIELD);
+        this.rejectedValueName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.REJECTED_VALUE);
+        this.reasonName = ResponseKitJacksonModule.name(beanDesc, EnvelopeFields.REASON);
+        this.includeNulls = includeNulls;
+    }
+
+    @Override
+    public void serialize(FieldError value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeString(gen, fieldName, value.getField());
+        writeString(gen, rejectedValueName, value.getRejectedValue());
+        writeString(gen, reasonName, value.getReason());
+        gen.writeEndObject();
+    }
+
+    private void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null || includeNulls) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.seungwoo.responsekit.response.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * ApiResponse/ErrorResponse/FieldError 전용 직렬화기를 등록하는 Jackson Module
+ * <p>
+ * 응답 봉투 구조는 고정되어 있으므로 Bean 프로퍼티 탐색과 리플렉션 접근 없이 필드를 직접 출력합니다.
+ * Spring Boot에서는 Bean으로 등록되어 자동 구성된 ObjectMapper에 적용되며, 직접 만든 ObjectMapper에는
+ * {@code objectMapper.registerModule(new ResponseKitJacksonModule())}로 등록할 수 있습니다.
+ * <p>
+ * 직렬화기는 타입별로 처음 조회될 때 ObjectMapper 설정으로 만들어집니다.
+ * <ul>
+ *     <li>PropertyNamingStrategy, &#64;JsonProperty 믹스인으로 바뀐 프로퍼티 이름을 그대로 사용합니다.</li>
+ *     <li>포함 규칙(default-property-inclusion, 타입별 &#64;JsonInclude)이 ALWAYS면 null도 쓰고,
+ *     NON_NULL/NON_ABSENT면 null 값을 생략합니다.</li>
+ *     <li>NON_EMPTY/NON_DEFAULT/CUSTOM은 값별 판단이 필요하므로 해당 타입에는 전용 직렬화기를 쓰지 않고
+ *     Jackson 기본 Bean 직렬화로 출력합니다. (이 경우 fields 필드 선택은 적용되지 않음)</li>
+ * </ul>
+ * ApiResponse.stream(...)/배치 스트리밍 응답은 이 설정과 무관하게 고정된 필드 이름({@link EnvelopeFields})으로 출력합니다.
+ */
+public class ResponseKitJacksonModule extends SimpleModule {
+
+    public ResponseKitJacksonModule() {
+        super("response-kit");
+        setSerializers(new EnvelopeSerializers());
+    }
+
+    /**
+     * 이 ObjectMapper 설정에서 ApiResponse에 전용 직렬화기가 쓰이는지 여부 (모듈 등록 여부와 별개)
+     */
+    public static boolean appliesTo(SerializationConfig config) {
+        return includeNulls(config, config.introspect(config.constructType(ApiResponse.class))) != null;
+    }
+
+    /**
+     * 타입의 포함 규칙을 null 포함 여부로 변환. 전용 직렬화기로 재현할 수 없는 규칙이면 null
+     */
+    static Boolean includeNulls(SerializationConfig config, BeanDescription beanDesc) {
+        JsonInclude.Include inclusion = beanDesc
+            .findPropertyInclusion(config.getDefaultPropertyInclusion(beanDesc.getBeanClass()))
+            .getValueInclusion();
+        return switch (inclusion) {
+            case ALWAYS, USE_DEFAULTS -> Boolean.TRUE;
+            case NON_NULL, NON_ABSENT -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    /**
+     * PropertyNamingStrategy/&#64;JsonProperty가 적용된 프로퍼티 이름. 프로퍼티를 찾지 못하면 기본 이름
+     */
+    static SerializableString name(BeanDescription beanDesc, SerializableString field) {
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            if (field.getValue().equals(property.getInternalName())) {
+                return field.getValue().equals(property.getName()) ? field : new SerializedString(property.getName());
+            }
+        }
+        return field;
+    }
+
+    private static final class EnvelopeSerializers extends SimpleSerializers {
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            Class<?> raw = type.getRawClass();
+            if (raw != ApiResponse.class && raw != ErrorResponse.class && raw != FieldError.class) {
+                return null;
+            }
+            Boolean includeNulls = includeNulls(config, beanDesc);
+            if (includeNulls == null) {
+                return null;
+            }
+            if (raw == ApiResponse.class) {
+                return new ApiResponseSerializer(beanDesc, includeNulls);
+            }
+            if (raw == ErrorResponse.class) {
+                return new ErrorResponseSerializer(beanDesc, includeNulls);
+            }
+            return new FieldErrorSerializer(beanDesc, includeNulls);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.seungwoo.responsekit.shared;
 
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.Getter;
 
 /**
@@ -16,14 +17,62 @@ import lombok.Getter;
  *     }
  * }
  * </pre>
+ * <p>
+ * 스택 트레이스 수집 여부는 {@link #configureStackTrace(StackTraceMode, int)}
+ * (response-kit.exception.stack-trace 프로퍼티)로 전역 설정할 수 있고, 호출마다 달라지는 데이터가 없는 예외는
+ * {@link ResponseCodeException#of(BaseResponseCode)}로 미리 만들어진 인스턴스를 재사용할 수 있습니다.
  */
 @Getter
 public abstract class CustomException extends RuntimeException {
 
+    private static volatile StackTraceMode stackTraceMode = StackTraceMode.FULL;
+    private static volatile int stackTraceSampleRate = 1;
+
     private final BaseResponseCode responseCode;
 
     protected CustomException(BaseResponseCode responseCode, String message) {
         super(message);
         this.responseCode = responseCode;
     }
-}
\ No newline at end of file
+
+    /**
+     * writableStackTrace가 false이면 전역 설정과 관계없이 스택 트레이스와 suppressed 예외를 기록하지 않습니다.
+     */
+    protected CustomException(BaseResponseCode responseCode, String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.responseCode = responseCode;
+    }
+
+    /**
+     * 모든 CustomException 하위 클래스의 스택 트레이스 수집 방식 설정
+     *
+     * @param mode       수집 방식
+     * @param sampleRate SAMPLED 모드에서 N번 중 1번 수집할 때의 N
+     */
+    public static void configureStackTrace(StackTraceMode mode, int sampleRate) {
+        if (mode == null) {
+            throw new IllegalArgumentException("StackTraceMode는 null일 수 없습니다.");
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate는 1 이상이어야 합니다: " + sampleRate);
+        }
+        stackTraceSampleRate = sampleRate;
+        stackTraceMode = mode;
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        if (!shouldCaptureStackTrace()) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
+    private static boolean shouldCaptureStackTrace() {
+        return switch (stackTraceMode) {
+            case FULL -> true;
+            case NONE -> false;
+            case SAMPLED -> ThreadLocalRandom.current().nextInt(stackTraceSampleRate) == 0;
+        };
+    }
+}
@@ -1,14 +1,23 @@
 package com.github.seungwoo.responsekit.shared;
 
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.fields.InvalidFieldsException;
+import com.github.seungwoo.responsekit.logging.ExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMapping;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
 import com.github.seungwoo.responsekit.response.ErrorResponse;
 import com.github.seungwoo.responsekit.response.FieldError;
-import jakarta.validation.ConstraintViolation;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
-import java.util.ArrayList;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
 import org.springframework.core.annotation.Order;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
@@ -19,7 +28,11 @@ import org.springframework.web.bind.MissingPathVariableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 /**
  * Copyright (c) 2025 seungwoo
@@ -31,23 +44,43 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
  * 각각 ErrorResponse로 변환하여 응답합니다.</p>
  * <p>
  * 사용자의 필요에 따라 직접 @RestControllerAdvice + @Order(1) 핸들러를 정의하면, 이 기본 핸들러보다 높은 우선순위로 적용되어 쉽게 오버라이드할 수 있습니다.
+ * <p>
+ * errors가 없는 응답은 ResponseBodyCache에 미리 직렬화된 본문을 그대로 내려보냅니다.
+ * 본문 형식(JSON/CBOR/Smile)은 요청 Accept 헤더로 결정되며, FieldError가 있는 응답은 메시지 컨버터가 같은 방식으로 협상합니다.
+ * 로그는 ExceptionLogStrategy를 거쳐 기록되며, 응답 코드(또는 예외 타입)를 레이트 리밋 키로 사용합니다.
+ * 모든 핸들러는 응답 코드/HTTP 상태/예외 타입 카운트와 핸들러별 지연시간을 ResponseKitMetrics에 기록하고,
+ * 처리한 에러를 요청 경로와 함께 RecentErrors 링 버퍼에 남깁니다.
+ * <p>
+ * 서블릿 애플리케이션에서 ResponseKitWebMvcConfiguration이 Bean으로 등록하며(같은 타입의 Bean이 있으면 등록하지 않음),
+ * WebFlux에서는 ReactiveGlobalExceptionHandler가 같은 역할을 합니다.
  */
 @Slf4j
 @RestControllerAdvice
 @Order(100)
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ResponseBodyCache responseBodyCache;
+    private final ExceptionLogStrategy logStrategy;
+    private final ResponseKitMetrics metrics;
+    private final ExceptionMappings exceptionMappings;
+    private final RecentErrors recentErrors;
+
     /**
      * '@Valid' '@RequestBody' 검증 실패
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(
         MethodArgumentNotValidException ex) {
+        long start = System.nanoTime();
         List<FieldError> errors = FieldError.from(ex.getBindingResult());
-        log.warn("[Validation] Body validation failed: {}", errors);
-        return ResponseEntity
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[Validation] Body validation failed: {}", errors);
+        ResponseEntity<ErrorResponse> response = ResponseEntity
             .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, errors));
+            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, errors,
+                ex.getBindingResult().getFieldErrorCount() - errors.size()));
+        return respond("handleMethodArgumentNotValid", start, CommonResponseCode.BAD_REQUEST, ex, response);
     }
 
     /**
@@ -55,11 +88,15 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BindException.class)
     public ResponseEntity<ErrorResponse> handleBindException(BindException ex) {
+        long start = System.nanoTime();
         List<FieldError> errors = FieldError.from(ex.getBindingResult());
-        log.warn("[Validation] Parameter validation failed: {}", errors);
-        return ResponseEntity
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[Validation] Parameter validation failed: {}", errors);
+        ResponseEntity<ErrorResponse> response = ResponseEntity
             .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, errors));
+            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, errors,
+                ex.getBindingResult().getFieldErrorCount() - errors.size()));
+        return respond("handleBindException", start, CommonResponseCode.BAD_REQUEST, ex, response);
     }
 
     /**
@@ -68,116 +105,184 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolation(
         ConstraintViolationException ex) {
-        List<FieldError> errors = new ArrayList<>();
-        for (ConstraintViolation<?> v : ex.getConstraintViolations()) {
-            errors.add(new FieldError(
-                v.getPropertyPath().toString(),
-                v.getInvalidValue() == null ? "" : v.getInvalidValue().toString(),
-                v.getMessage()
-            ));
-        }
-        log.warn("[Validation] Constraint violation: {}", errors);
-        return ResponseEntity
+        long start = System.nanoTime();
+        List<FieldError> errors = FieldError.from(ex.getConstraintViolations());
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[Validation] Constraint violation: {}", errors);
+        ResponseEntity<ErrorResponse> response = ResponseEntity
+            .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
+            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, errors,
+                ex.getConstraintViolations().size() - errors.size()));
+        return respond("handleConstraintViolation", start, CommonResponseCode.BAD_REQUEST, ex, response);
+    }
+
+    /**
+     * fields 파라미터 오류 (형식 오류, 응답 data에 없는 경로)
+     */
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFields(InvalidFieldsException ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[Validation] Invalid fields parameter: {}", ex.getFieldErrors());
+        ResponseEntity<ErrorResponse> response = ResponseEntity
             .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, errors));
+            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, ex.getFieldErrors()));
+        return respond("handleInvalidFields", start, CommonResponseCode.BAD_REQUEST, ex, response);
+    }
+
+    /**
+     * 매핑된 핸들러나 정적 리소스가 없는 경로 (ReactiveGlobalExceptionHandler의 404 처리와 동일)
+     */
+    @ExceptionHandler({NoHandlerFoundException.class, NoResourceFoundException.class})
+    public ResponseEntity<byte[]> handleNotFound(Exception ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.NOT_FOUND.getCode(), "[Not Found] {}", ex.getMessage());
+        return respond("handleNotFound", start, CommonResponseCode.NOT_FOUND, ex,
+            cachedError(CommonResponseCode.NOT_FOUND));
     }
 
     /**
      * HTTP Method 불일치 (ex: GET만 지원하는데 POST 요청)
      */
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    public ResponseEntity<ErrorResponse> handleMethodNotSupported(HttpRequestMethodNotSupportedException ex) {
-        log.warn("[HTTP Method Not Supported] {}", ex.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.METHOD_NOT_ALLOWED)
-            .body(ErrorResponse.of(CommonResponseCode.METHOD_NOT_ALLOWED));
+    public ResponseEntity<byte[]> handleMethodNotSupported(HttpRequestMethodNotSupportedException ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.METHOD_NOT_ALLOWED.getCode(),
+            "[HTTP Method Not Supported] {}", ex.getMessage());
+        return respond("handleMethodNotSupported", start, CommonResponseCode.METHOD_NOT_ALLOWED, ex,
+            cachedError(CommonResponseCode.METHOD_NOT_ALLOWED));
     }
 
     /**
      * Content-Type 불일치 (ex: application/json이 아닌 경우)
      */
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
-    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex) {
-        log.warn("[Unsupported Media Type] {}", ex.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
-            .body(ErrorResponse.of(CommonResponseCode.UNSUPPORTED_MEDIA_TYPE));
+    public ResponseEntity<byte[]> handleMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.UNSUPPORTED_MEDIA_TYPE.getCode(),
+            "[Unsupported Media Type] {}", ex.getMessage());
+        return respond("handleMediaTypeNotSupported", start, CommonResponseCode.UNSUPPORTED_MEDIA_TYPE, ex,
+            cachedError(CommonResponseCode.UNSUPPORTED_MEDIA_TYPE));
     }
 
     /**
      * 필수 요청 파라미터 누락
      */
     @ExceptionHandler(MissingServletRequestParameterException.class)
-    public ResponseEntity<ErrorResponse> handleMissingRequestParameter(MissingServletRequestParameterException ex) {
-        log.warn("[Missing Request Parameter] {}", ex.getParameterName());
-        return ResponseEntity
-            .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST));
+    public ResponseEntity<byte[]> handleMissingRequestParameter(MissingServletRequestParameterException ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[Missing Request Parameter] {}", ex.getParameterName());
+        return respond("handleMissingRequestParameter", start, CommonResponseCode.BAD_REQUEST, ex,
+            cachedError(CommonResponseCode.BAD_REQUEST));
     }
 
     /**
      * PathVariable 누락
      */
     @ExceptionHandler(MissingPathVariableException.class)
-    public ResponseEntity<ErrorResponse> handleMissingPathVariable(MissingPathVariableException ex) {
-        log.warn("[Missing Path Variable] {}", ex.getVariableName());
-        return ResponseEntity
-            .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST));
+    public ResponseEntity<byte[]> handleMissingPathVariable(MissingPathVariableException ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[Missing Path Variable] {}", ex.getVariableName());
+        return respond("handleMissingPathVariable", start, CommonResponseCode.BAD_REQUEST, ex,
+            cachedError(CommonResponseCode.BAD_REQUEST));
     }
 
     /**
      * 요청 파라미터 타입 불일치 (ex: String → Integer 매핑 실패)
      */
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
-        log.warn("[Type Mismatch] param: {}, requiredType: {}", ex.getName(), ex.getRequiredType());
-        return ResponseEntity
-            .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST));
+    public ResponseEntity<byte[]> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[Type Mismatch] param: {}, requiredType: {}", ex.getName(), ex.getRequiredType());
+        return respond("handleTypeMismatch", start, CommonResponseCode.BAD_REQUEST, ex,
+            cachedError(CommonResponseCode.BAD_REQUEST));
     }
 
     /**
      * JSON 파싱 실패 (ex: JSON 형식 오류, 타입 불일치 등)
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ErrorResponse> handleJsonParseError(HttpMessageNotReadableException ex) {
-        log.warn("[JSON Parse Error] {}", ex.getMessage());
-        return ResponseEntity
-            .status(CommonResponseCode.BAD_REQUEST.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.BAD_REQUEST));
+    public ResponseEntity<byte[]> handleJsonParseError(HttpMessageNotReadableException ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, CommonResponseCode.BAD_REQUEST.getCode(),
+            "[JSON Parse Error] {}", ex.getMessage());
+        return respond("handleJsonParseError", start, CommonResponseCode.BAD_REQUEST, ex,
+            cachedError(CommonResponseCode.BAD_REQUEST));
     }
 
     /**
      * IllegalArgumentException / IllegalStateException 등 비즈니스 로직 위반
      */
     @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
-    public ResponseEntity<ErrorResponse> handleIllegalState(Exception ex) {
-        log.warn("[Illegal State] {}", ex.getMessage());
-        return ResponseEntity
-            .status(HttpStatus.CONFLICT)
-            .body(ErrorResponse.of(CommonResponseCode.CONFLICT));
+    public ResponseEntity<byte[]> handleIllegalState(Exception ex) {
+        long start = System.nanoTime();
+        logStrategy.log(log, Level.WARN, ex.getClass().getName(), "[Illegal State] {}", ex.getMessage());
+        return respond("handleIllegalState", start, CommonResponseCode.CONFLICT, ex,
+            cachedError(CommonResponseCode.CONFLICT));
     }
 
     /**
      * 사용자 정의 예외 (CustomException)
      */
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<ErrorResponse> handleCustomException(CustomException ex) {
-        log.warn("[CustomException] {}: {}", ex.getResponseCode().getCode(), ex.getMessage());
-        return ResponseEntity
-            .status(ex.getResponseCode().getHttpStatus())
-            .body(ErrorResponse.of(ex.getResponseCode()));
+    public ResponseEntity<byte[]> handleCustomException(CustomException ex) {
+        long start = System.nanoTime();
+        String code = ex.getResponseCode().getCode();
+        logStrategy.log(log, Level.WARN, code, "[CustomException] {}: {}", code, ex.getMessage());
+        return respond("handleCustomException", start, ex.getResponseCode(), ex,
+            cachedError(ex.getResponseCode()));
     }
 
     /**
      * GlobalExceptionHandler에서 처리하지 못한 예외 최종 캐치
+     * <p>
+     * ExceptionMappings(response-kit.exception.mappings, ResponseCodeMapper)에 매핑된 예외는 매핑된 코드로 응답합니다.
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleUnExpectedException(Exception ex) {
-        log.error("[Server Error]", ex);
-        return ResponseEntity
-            .status(CommonResponseCode.INTERNAL_ERROR.getHttpStatus())
-            .body(ErrorResponse.of(CommonResponseCode.INTERNAL_ERROR));
+    public ResponseEntity<byte[]> handleUnExpectedException(Exception ex) {
+        long start = System.nanoTime();
+        ExceptionMapping mapping = exceptionMappings.resolve(ex);
+        if (mapping != null) {
+            return handleMappedException(ex, mapping, start);
+        }
+        logStrategy.logWithStackTrace(log, Level.ERROR, ex.getClass().getName(), "[Server Error]", ex);
+        return respond("handleUnExpectedException", start, CommonResponseCode.INTERNAL_ERROR, ex,
+            cachedError(CommonResponseCode.INTERNAL_ERROR));
+    }
+
+    private ResponseEntity<byte[]> handleMappedException(Exception ex, ExceptionMapping mapping, long start) {
+        BaseResponseCode code = mapping.code();
+        if (mapping.stackTrace()) {
+            logStrategy.logWithStackTrace(log, mapping.level(), code.getCode(), "[Mapped Exception]", ex);
+        } else {
+            logStrategy.log(log, mapping.level(), code.getCode(), "[Mapped Exception] {}: {}",
+                ex.getClass().getName(), ex.getMessage());
+        }
+        return respond("handleMappedException", start, code, ex, cachedError(code));
+    }
+
+    private ResponseEntity<byte[]> cachedError(BaseResponseCode code) {
+        HttpServletRequest request = currentRequest();
+        String accept = request == null ? null : request.getHeader(HttpHeaders.ACCEPT);
+        return responseBodyCache.error(code, EnvelopeFormat.negotiate(accept));
+    }
+
+    private static HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+
+    private <T> ResponseEntity<T> respond(String handler, long startNanos, BaseResponseCode code, Exception ex,
+        ResponseEntity<T> response) {
+        metrics.recordError(code, ex);
+        HttpServletRequest request = currentRequest();
+        recentErrors.record(code, ex, request == null ? null : request.getRequestURI());
+        metrics.recordHandlerLatency(handler, startNanos);
+        return response;
     }
 }
\ No newline at end of file
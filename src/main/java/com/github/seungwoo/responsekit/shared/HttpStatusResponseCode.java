@@ -0,0 +1,30 @@
+package com.github.seungwoo.responsekit.shared;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 등록된 응답 코드가 없는 HTTP 상태를 그대로 나타내는 코드 (ex: 406 → NOT_ACCEPTABLE)
+ * <p>
+ * 프레임워크가 던진 ResponseStatusException처럼 상태만 있는 예외를 응답할 때 사용합니다.
+ * 상태 종류가 한정되어 있으므로 이 코드로 만든 본문이 무한히 늘어나지 않습니다.
+ */
+public record HttpStatusResponseCode(HttpStatus httpStatus) implements BaseResponseCode {
+
+    @Override
+    public String getCode() {
+        return httpStatus.name();
+    }
+
+    @Override
+    public String getMessage() {
+        return httpStatus.getReasonPhrase();
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+}
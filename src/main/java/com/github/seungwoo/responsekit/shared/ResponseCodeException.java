@@ -0,0 +1,43 @@
+package com.github.seungwoo.responsekit.shared;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * BaseResponseCode 하나만으로 표현되는 예외를 코드별 싱글턴으로 재사용하기 위한 CustomException
+ * <p>
+ * 스택 트레이스와 suppressed 예외를 기록하지 않으므로 여러 스레드에서 같은 인스턴스를 던져도 안전합니다.
+ * 싱글턴은 Enum 상수에만 만들고, Enum이 아닌 코드(다른 서비스에서 받은 RemoteResponseCode 등)는 종류가 외부 입력에 따라
+ * 끝없이 늘어날 수 있으므로 호출마다 새 인스턴스(역시 스택 트레이스 없음)를 만듭니다.
+ * <pre>
+ * throw ResponseCodeException.of(UserResponseCode.USER_NOT_FOUND);
+ * </pre>
+ * 도메인 예외 타입을 유지하고 싶다면 스택 트레이스를 끄는 생성자로 직접 싱글턴을 선언할 수 있습니다.
+ * <pre>
+ * public class UserNotFoundException extends CustomException {
+ *     public static final UserNotFoundException INSTANCE = new UserNotFoundException();
+ *
+ *     private UserNotFoundException() {
+ *         super(UserResponseCode.USER_NOT_FOUND, "해당 사용자를 찾을 수 없습니다.", false);
+ *     }
+ * }
+ * </pre>
+ */
+public final class ResponseCodeException extends CustomException {
+
+    private static final Map<BaseResponseCode, ResponseCodeException> INSTANCES = new ConcurrentHashMap<>();
+
+    private ResponseCodeException(BaseResponseCode responseCode) {
+        super(responseCode, responseCode.getMessage(), false);
+    }
+
+    public static ResponseCodeException of(BaseResponseCode responseCode) {
+        if (!(responseCode instanceof Enum<?>)) {
+            return new ResponseCodeException(responseCode);
+        }
+        return INSTANCES.computeIfAbsent(responseCode, ResponseCodeException::new);
+    }
+}
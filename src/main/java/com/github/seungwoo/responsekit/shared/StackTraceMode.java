@@ -0,0 +1,22 @@
+package com.github.seungwoo.responsekit.shared;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * CustomException 생성 시 스택 트레이스 수집 방식
+ * <p>
+ * GlobalExceptionHandler는 CustomException의 코드와 메시지만 로그로 남기므로, 흐름 제어용 비즈니스 예외라면
+ * 스택 트레이스를 수집하지 않거나(NONE) 일부만 수집(SAMPLED)해 fillInStackTrace() 비용을 줄일 수 있습니다.
+ */
+public enum StackTraceMode {
+
+    // 항상 수집 (기본값, RuntimeException과 동일)
+    FULL,
+
+    // 수집하지 않음
+    NONE,
+
+    // N번 중 1번만 수집
+    SAMPLED
+}
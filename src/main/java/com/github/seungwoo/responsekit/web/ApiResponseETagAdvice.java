@@ -0,0 +1,177 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * GET/HEAD 요청의 성공 ApiResponse에 강한 ETag를 붙이고, If-None-Match가 일치하면 본문 없이 304로 응답하는 advice
+ * <p>
+ * version이 있는 ApiResponse는 형식/코드/메시지/버전(+fields 선택)으로 ETag를 만들어 data를 직렬화하기 전에 비교합니다.
+ * version이 없으면 본문을 직렬화하면서 바로 다이제스트를 갱신하고(다시 읽지 않음), 일치하지 않을 때만 같은 버퍼를
+ * 응답에 씁니다. 실패 응답(success=false)과 ErrorResponse, 스트리밍/&#64;WrapResponse 응답, 200이 아닌 응답에는
+ * 관여하지 않습니다.
+ * <p>
+ * &#64;JsonView 메서드와 이미 MappingJacksonValue로 감싼 본문은 직렬화 방식(뷰/필터)을 이 advice가 재현할 수 없으므로
+ * ETag를 붙이지 않습니다. 메시지가 Accept-Language에 따라 달라지므로 ETag를 붙인 응답(304 포함)에는
+ * Vary: Accept-Language를 추가합니다.
+ * <p>
+ * 서블릿 애플리케이션에서 response-kit.etag.enabled=true일 때 ResponseKitWebMvcConfiguration이 Bean으로 등록합니다.
+ */
+@RestControllerAdvice
+public class ApiResponseETagAdvice implements ResponseBodyAdvice<Object> {
+
+    // SHA-256 앞 16byte (128bit)
+    private static final int ETAG_BYTES = 16;
+
+    private final ResponseBodyCache responseBodyCache;
+
+    public ApiResponseETagAdvice(ResponseBodyCache responseBodyCache) {
+        this.responseBodyCache = responseBodyCache;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        // @JsonView는 뒤이어 실행되는 JsonViewResponseBodyAdvice가 적용하므로, 여기서 직렬화하면 뷰가 무시됨
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+            && !returnType.hasMethodAnnotation(JsonView.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+        ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !apiResponse.isSuccess()
+            || !(request instanceof ServletServerHttpRequest servletRequest)
+            || !(response instanceof ServletServerHttpResponse servletResponse)
+            || !(HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod()))) {
+            return body;
+        }
+        HttpServletResponse nativeResponse = servletResponse.getServletResponse();
+        EnvelopeFormat format = EnvelopeFormat.of(selectedContentType);
+        if (nativeResponse.getStatus() != HttpServletResponse.SC_OK
+            || !format.getMediaType().isCompatibleWith(selectedContentType)) {
+            return body;
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(servletRequest.getServletRequest(), nativeResponse);
+        // 304는 본문을 쓰지 않아 response.getHeaders()가 반영되지 않으므로 서블릿 응답에 직접 추가
+        varyOnAcceptLanguage(nativeResponse);
+
+        if (apiResponse.getVersion() != null) {
+            return webRequest.checkNotModified(versionETag(apiResponse, format)) ? null : body;
+        }
+
+        DigestingBuffer buffer = new DigestingBuffer(newDigest());
+        try {
+            responseBodyCache.mapper(format).writeValue(buffer, apiResponse);
+            if (webRequest.checkNotModified(buffer.etag())) {
+                return null;
+            }
+            response.getHeaders().setContentType(selectedContentType);
+            response.getHeaders().setContentLength(buffer.size());
+            buffer.writeTo(response.getBody());
+            response.flush();
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("ApiResponse를 직렬화할 수 없습니다: " + e.getMessage(), e);
+        }
+        // 이미 응답에 썼으므로 메시지 컨버터가 다시 쓰지 않도록 null 반환
+        return null;
+    }
+
+    private static void varyOnAcceptLanguage(HttpServletResponse response) {
+        for (String vary : response.getHeaders(HttpHeaders.VARY)) {
+            for (String token : vary.split(",")) {
+                String name = token.trim();
+                if (name.equals("*") || name.equalsIgnoreCase(HttpHeaders.ACCEPT_LANGUAGE)) {
+                    return;
+                }
+            }
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+    }
+
+    private static String versionETag(ApiResponse<?> apiResponse, EnvelopeFormat format) {
+        MessageDigest digest = newDigest();
+        update(digest, format.name());
+        update(digest, apiResponse.getCode());
+        update(digest, apiResponse.getMessage());
+        update(digest, apiResponse.getVersion());
+        // 같은 버전이라도 fields 선택이 다르면 다른 표현
+        if (apiResponse.getFields() != null) {
+            update(digest, apiResponse.getFields().expression());
+        }
+        return etag(digest);
+    }
+
+    // 구분자를 넣어 ("ab", "c")와 ("a", "bc")가 같은 다이제스트가 되지 않도록
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String etag(MessageDigest digest) {
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, ETAG_BYTES) + "\"";
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 쓰는 즉시 다이제스트를 갱신하는 버퍼 - 직렬화가 끝나면 다시 읽지 않고 ETag를 얻을 수 있음
+     */
+    private static final class DigestingBuffer extends ByteArrayOutputStream {
+
+        private final MessageDigest digest;
+
+        private DigestingBuffer(MessageDigest digest) {
+            super(1024);
+            this.digest = digest;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            super.write(b);
+            digest.update((byte) b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            super.write(b, off, len);
+            digest.update(b, off, len);
+        }
+
+        private String etag() {
+            return ApiResponseETagAdvice.etag(digest);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.fields.FieldSelection;
+import com.github.seungwoo.responsekit.fields.FieldSelections;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * fields 쿼리 파라미터(ex: {@code ?fields=id,name,orders.total})로 성공 ApiResponse의 data 중 선택한 필드만
+ * 출력하도록 하는 advice
+ * <p>
+ * 식은 {@link FieldSelections}에서 한 번만 컴파일되고, 컨트롤러 반환 타입의 data 타입(제네릭으로 알 수 없으면 실제
+ * 타입)에 없는 경로가 있으면 {@link com.github.seungwoo.responsekit.fields.InvalidFieldsException}으로 BAD_REQUEST
+ * ErrorResponse를 돌려줍니다. 실패 응답과 data가 없는 응답, 스트리밍/&#64;WrapResponse 응답에는 적용하지 않습니다.
+ * <p>
+ * 본문을 직렬화하는 ETag advice보다 먼저 실행되어야 하므로 우선순위를 높게 둡니다.
+ * 서블릿 애플리케이션에서 response-kit.fields.enabled=true일 때 ResponseKitWebMvcConfiguration이 Bean으로 등록합니다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RestControllerAdvice
+public class ApiResponseFieldsAdvice implements ResponseBodyAdvice<Object> {
+
+    private final FieldSelections selections;
+    private final ObjectMapper objectMapper;
+
+    public ApiResponseFieldsAdvice(FieldSelections selections, ObjectMapper objectMapper) {
+        this.selections = selections;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+        ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !apiResponse.isSuccess()
+            || apiResponse.getData() == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        String expression = servletRequest.getServletRequest().getParameter(selections.getParameterName());
+        if (expression == null) {
+            return body;
+        }
+        FieldSelection selection = selections.compile(expression);
+        selection.validate(objectMapper, dataType(returnType, apiResponse.getData()));
+        return apiResponse.selectFields(selection);
+    }
+
+    // ApiResponse<T> / ResponseEntity<ApiResponse<T>>의 T (Object이거나 알 수 없으면 data의 실제 타입)
+    private JavaType dataType(MethodParameter returnType, Object data) {
+        if (returnType != null) {
+            ResolvableType type = ResolvableType.forMethodParameter(returnType);
+            if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+                type = type.getGeneric(0);
+            }
+            if (ApiResponse.class == type.toClass()) {
+                ResolvableType dataType = type.getGeneric(0);
+                Class<?> resolved = dataType.resolve();
+                if (resolved != null && resolved != Object.class && resolved.isInstance(data)) {
+                    return objectMapper.constructType(dataType.getType());
+                }
+            }
+        }
+        return objectMapper.constructType(data.getClass());
+    }
+}
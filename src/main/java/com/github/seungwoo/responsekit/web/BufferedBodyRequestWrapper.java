@@ -0,0 +1,119 @@
+package com.github.seungwoo.responsekit.web;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 요청 본문을 maxBytes까지 먼저 읽어 두고, 이후 체인에는 읽어 둔 부분 + 남은 스트림을 이어서 돌려주는 래퍼
+ * <p>
+ * 본문이 maxBytes를 넘으면 overflowed()가 true가 되며, 이때 body()는 앞부분만 담고 있으므로 본문 전체를 대신할 수 없습니다.
+ */
+class BufferedBodyRequestWrapper extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final boolean overflowed;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    private BufferedBodyRequestWrapper(HttpServletRequest request, byte[] body, boolean overflowed) {
+        super(request);
+        this.body = body;
+        this.overflowed = overflowed;
+    }
+
+    static BufferedBodyRequestWrapper read(HttpServletRequest request, int maxBytes) throws IOException {
+        byte[] read = request.getInputStream().readNBytes(maxBytes + 1);
+        return new BufferedBodyRequestWrapper(request, read, read.length > maxBytes);
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    boolean overflowed() {
+        return overflowed;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (reader != null) {
+            throw new IllegalStateException("getReader()가 이미 호출되었습니다.");
+        }
+        if (inputStream == null) {
+            inputStream = new PrefixedInputStream(overflowed ? super.getInputStream() : null);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (inputStream != null && reader == null) {
+            throw new IllegalStateException("getInputStream()이 이미 호출되었습니다.");
+        }
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+            reader = new BufferedReader(new InputStreamReader(new PrefixedInputStream(
+                overflowed ? super.getInputStream() : null), charset));
+        }
+        return reader;
+    }
+
+    private final class PrefixedInputStream extends ServletInputStream {
+
+        // 본문이 maxBytes 안에 다 들어왔으면 null (남은 스트림 없음)
+        private final ServletInputStream remaining;
+        private int position;
+
+        private PrefixedInputStream(ServletInputStream remaining) {
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position < body.length) {
+                return body[position++] & 0xFF;
+            }
+            return remaining == null ? -1 : remaining.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position < body.length) {
+                int count = Math.min(len, body.length - position);
+                System.arraycopy(body, position, b, off, count);
+                position += count;
+                return count;
+            }
+            return remaining == null ? -1 : remaining.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position >= body.length && (remaining == null || remaining.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return position < body.length || remaining == null || remaining.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Idempotency-Key 요청은 비동기 읽기를 지원하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * DispatcherServlet 밖(서블릿 필터)에서 ResponseBodyCache에 미리 직렬화된 ErrorResponse를 그대로 쓰는 헬퍼
+ */
+final class CachedErrorWriter {
+
+    private CachedErrorWriter() {
+    }
+
+    static void write(HttpServletRequest request, HttpServletResponse response, ResponseBodyCache responseBodyCache,
+        BaseResponseCode code) throws IOException {
+        EnvelopeFormat format = EnvelopeFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        ResponseEntity<byte[]> cached = responseBodyCache.error(code, request.getLocale(), format);
+        byte[] body = cached.getBody();
+        response.setStatus(cached.getStatusCode().value());
+        response.setContentType(cached.getHeaders().getContentType().toString());
+        response.setContentLength(body.length);
+        if (responseBodyCache.isLocalized()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+        }
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.seungwoo.responsekit.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 응답 본문을 실제 응답에 그대로 쓰면서 maxBytes까지 복사해 두는 래퍼
+ * <p>
+ * ContentCachingResponseWrapper와 달리 본문을 붙잡아 두지 않으므로 스트리밍/비동기 응답도 평소처럼 전송되고,
+ * 비동기 처리가 끝난 뒤에도 복사본을 읽을 수 있습니다. maxBytes를 넘으면 복사를 멈추고 overflowed()가 true가 됩니다.
+ */
+class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxBytes;
+    private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    private boolean overflowed;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CapturingResponseWrapper(HttpServletResponse response, int maxBytes) {
+        super(response);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter()가 이미 호출되었습니다.");
+        }
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다.");
+        }
+        if (writer == null) {
+            ServletOutputStream tee = new TeeOutputStream(super.getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(tee, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * 지금까지 쓴 본문 (writer로 쓴 내용도 포함하도록 먼저 flush)
+     */
+    byte[] capturedBody() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return copy.toByteArray();
+    }
+
+    boolean overflowed() {
+        return overflowed;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (overflowed) {
+            return;
+        }
+        if (copy.size() + length > maxBytes) {
+            overflowed = true;
+            copy.reset();
+            return;
+        }
+        copy.write(bytes, offset, length);
+    }
+
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
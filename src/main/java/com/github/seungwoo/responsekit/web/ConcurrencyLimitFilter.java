@@ -0,0 +1,113 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.github.seungwoo.responsekit.limit.ConcurrencyLimiter;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 동시 처리 요청 수가 한도에 도달하면 DispatcherServlet에 들어가기 전에 즉시 거절하는 필터
+ * <p>
+ * 거절 응답은 ResponseBodyCache에 미리 직렬화된 ErrorResponse 본문(Accept 헤더로 형식 협상)과 Retry-After 헤더만
+ * 쓰므로, 포화 상태에서도 컨트롤러 조회·바인딩·검증·직렬화 비용이 들지 않습니다.
+ * <p>
+ * 비동기 요청(DeferredResult, SseEmitter 등)은 비동기 처리가 끝날 때 슬롯을 반환하며, 연결 유지 시간이 서버 부하를
+ * 나타내지 않으므로 처리 시간은 한도 조정에 반영하지 않습니다. excludedPaths로 시작하는 경로(ex: /actuator)는
+ * 한도와 관계없이 통과시킵니다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiter limiter;
+    private final ResponseBodyCache responseBodyCache;
+    private final ResponseKitMetrics metrics;
+    private final BaseResponseCode rejectCode;
+    private final String retryAfter;
+    private final String[] excludedPaths;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiter limiter, ResponseBodyCache responseBodyCache,
+        ResponseKitMetrics metrics, BaseResponseCode rejectCode, Duration retryAfter, List<String> excludedPaths) {
+        this.limiter = limiter;
+        this.responseBodyCache = responseBodyCache;
+        this.metrics = metrics;
+        this.rejectCode = rejectCode;
+        this.retryAfter = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.excludedPaths = excludedPaths.toArray(String[]::new);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (excludedPaths.length == 0) {
+            return false;
+        }
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        for (String excludedPath : excludedPaths) {
+            if (uri.startsWith(excludedPath, offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // 비동기 처리가 시작됐으면 요청 스레드가 반환돼도 아직 처리 중이므로 완료 시점에 반환
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter));
+            } else {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        CachedErrorWriter.write(request, response, responseBodyCache, rejectCode);
+        metrics.recordError(rejectCode, null);
+    }
+
+    private record ReleaseOnComplete(ConcurrencyLimiter limiter) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        // 비동기 처리가 다시 시작되면 등록된 리스너가 지워지므로 다시 등록
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
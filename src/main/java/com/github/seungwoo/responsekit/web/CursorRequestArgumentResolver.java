@@ -0,0 +1,71 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.github.seungwoo.responsekit.pagination.Cursor;
+import com.github.seungwoo.responsekit.pagination.CursorCodec;
+import com.github.seungwoo.responsekit.pagination.CursorRequest;
+import com.github.seungwoo.responsekit.pagination.InvalidCursorException;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * cursor / limit / includeTotal 쿼리 파라미터를 CursorRequest로 변환
+ * <p>
+ * limit이 없으면 defaultLimit, maxLimit보다 크면 maxLimit을 사용합니다.
+ * 숫자가 아니거나 1보다 작은 limit, 위·변조된 cursor는 InvalidCursorException(BAD_REQUEST)이 됩니다.
+ */
+public class CursorRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String CURSOR_PARAMETER = "cursor";
+    public static final String LIMIT_PARAMETER = "limit";
+    public static final String INCLUDE_TOTAL_PARAMETER = "includeTotal";
+
+    private final CursorCodec codec;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public CursorRequestArgumentResolver(CursorCodec codec, int defaultLimit, int maxLimit) {
+        if (defaultLimit < 1 || maxLimit < defaultLimit) {
+            throw new IllegalArgumentException(
+                "1 <= defaultLimit <= maxLimit 이어야 합니다: " + defaultLimit + ", " + maxLimit);
+        }
+        this.codec = codec;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return CursorRequest.class == parameter.getParameterType();
+    }
+
+    @Override
+    public CursorRequest resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        String token = webRequest.getParameter(CURSOR_PARAMETER);
+        Cursor cursor = token == null || token.isEmpty() ? null : codec.decode(token);
+        return new CursorRequest(cursor, limit(webRequest.getParameter(LIMIT_PARAMETER)),
+            Boolean.parseBoolean(webRequest.getParameter(INCLUDE_TOTAL_PARAMETER)), codec);
+    }
+
+    private int limit(String value) {
+        if (value == null || value.isEmpty()) {
+            return defaultLimit;
+        }
+        int limit;
+        try {
+            limit = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("limit은 숫자여야 합니다: " + value);
+        }
+        if (limit < 1) {
+            throw new InvalidCursorException("limit은 1 이상이어야 합니다: " + limit);
+        }
+        return Math.min(limit, maxLimit);
+    }
+}
@@ -0,0 +1,283 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.github.seungwoo.responsekit.idempotency.IdempotencyScopeResolver;
+import com.github.seungwoo.responsekit.idempotency.IdempotencyStore;
+import com.github.seungwoo.responsekit.idempotency.IdempotentResponse;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.HttpStatusResponseCode;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * Idempotency-Key 헤더가 있는 POST/PATCH 요청의 응답을 저장해 두었다가, 같은 키로 재시도하면 컨트롤러를 다시 실행하지
+ * 않고 저장된 상태 코드와 본문을 그대로 돌려주는 필터
+ * <p>
+ * 키는 사용자 범위(IdempotencyScopeResolver) + 메서드 + 경로 + Idempotency-Key로 구분합니다. 성공 응답과
+ * ErrorResponse(4xx) 모두 저장하며, 5xx는 일시적인 실패일 수 있으므로 저장하지 않아 재시도 시 다시 실행합니다.
+ * 재생된 응답에는 Idempotent-Replayed: true 헤더가 붙습니다.
+ * <p>
+ * 같은 키를 다른 요청 본문(SHA-256 지문)으로 재사용하면 저장된 응답을 재생하지 않고 422 UNPROCESSABLE_ENTITY로
+ * 응답합니다. 지문을 계산하려고 본문을 maxBodyBytes까지 먼저 읽으며, 이보다 큰 요청은 저장/재생하지 않습니다.
+ * <p>
+ * IdempotencyScopeResolver가 null이나 빈 문자열을 돌려준 요청(기본 구현에서는 인증되지 않은 요청)은 모든 익명
+ * 클라이언트가 같은 범위를 공유하게 되므로 저장/재생하지 않고 그대로 실행합니다.
+ * <p>
+ * 같은 키의 요청이 처리 중일 때 들어온 중복 요청은 실행하지 않고 먼저 들어온 요청의 결과를 waitTimeout까지 기다렸다가
+ * 같은 응답을 돌려주며, 기다리는 시간을 넘기면 CONFLICT로 응답합니다. 이 합치기는 인스턴스 안에서만 동작합니다.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    // Spring Security 필터 체인(-100) 다음에 실행해야 인증된 사용자로 범위를 나눌 수 있음
+    public static final int ORDER = -90;
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final char SEPARATOR = '\u001F';
+    private static final BaseResponseCode FINGERPRINT_MISMATCH =
+        new HttpStatusResponseCode(HttpStatus.UNPROCESSABLE_ENTITY);
+
+    private final IdempotencyStore store;
+    private final IdempotencyScopeResolver scopeResolver;
+    private final ResponseBodyCache responseBodyCache;
+    private final ResponseKitMetrics metrics;
+    private final String headerName;
+    private final Set<String> methods;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final int maxBodyBytes;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentResponse>> inFlight =
+        new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyScopeResolver scopeResolver,
+        ResponseBodyCache responseBodyCache, ResponseKitMetrics metrics, String headerName,
+        Collection<String> methods, Duration ttl, Duration waitTimeout, int maxBodyBytes) {
+        this.store = store;
+        this.scopeResolver = scopeResolver;
+        this.responseBodyCache = responseBodyCache;
+        this.metrics = metrics;
+        this.headerName = headerName;
+        this.methods = methods.stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !methods.contains(request.getMethod()) || request.getHeader(headerName) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(headerName);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, CommonResponseCode.BAD_REQUEST);
+            return;
+        }
+        String scope = scopeResolver.resolve(request);
+        if (scope == null || scope.isEmpty()) {
+            // 사용자를 구분할 수 없는 요청 - 다른 클라이언트의 응답이 재생되지 않도록 저장/재생하지 않음
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest target = request;
+        byte[] fingerprint;
+        if (isForm(request)) {
+            // 폼 본문은 컨테이너가 파라미터로 읽으므로 스트림을 먼저 소비하지 않고 파라미터로 지문 계산
+            fingerprint = fingerprint(request.getParameterMap());
+        } else {
+            BufferedBodyRequestWrapper buffered = BufferedBodyRequestWrapper.read(request, maxBodyBytes);
+            if (buffered.overflowed()) {
+                // 지문을 계산할 수 없는 큰 본문 - 저장/재생하지 않음
+                chain.doFilter(buffered, response);
+                return;
+            }
+            target = buffered;
+            fingerprint = fingerprint(buffered.body());
+        }
+        String key = scope + SEPARATOR + request.getMethod() + SEPARATOR + request.getRequestURI() + SEPARATOR
+            + idempotencyKey;
+
+        IdempotentResponse stored = store.get(key);
+        if (stored != null) {
+            replay(request, response, stored, fingerprint);
+            return;
+        }
+        CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, result);
+        if (running != null) {
+            awaitAndReplay(request, response, running, fingerprint);
+            return;
+        }
+        // get과 putIfAbsent 사이에 먼저 실행한 요청이 저장을 끝내고 빠졌을 수 있으므로 한 번 더 확인
+        stored = store.get(key);
+        if (stored != null) {
+            complete(key, result, stored);
+            replay(request, response, stored, fingerprint);
+            return;
+        }
+        execute(target, response, chain, key, fingerprint, result);
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain, String key,
+        byte[] fingerprint, CompletableFuture<IdempotentResponse> result) throws ServletException, IOException {
+        CapturingResponseWrapper capturing = new CapturingResponseWrapper(response, maxBodyBytes);
+        boolean finished = false;
+        try {
+            chain.doFilter(request, capturing);
+            finished = true;
+        } finally {
+            if (!finished) {
+                // 처리 중 예외 - 기다리던 중복 요청은 CONFLICT를 받고, 다음 재시도는 다시 실행됨
+                inFlight.remove(key, result);
+                result.completeExceptionally(new IllegalStateException("idempotent request failed: " + key));
+            }
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new FinishOnComplete(this, key, fingerprint, result, capturing));
+        } else {
+            finish(key, fingerprint, result, capturing);
+        }
+    }
+
+    private void finish(String key, byte[] fingerprint, CompletableFuture<IdempotentResponse> result,
+        CapturingResponseWrapper capturing) {
+        if (capturing.overflowed()) {
+            // 본문이 너무 커서 저장할 수 없는 응답 - 기다리던 요청도 재생할 수 없음
+            inFlight.remove(key, result);
+            result.completeExceptionally(new IllegalStateException("response too large to store: " + key));
+            return;
+        }
+        IdempotentResponse captured = new IdempotentResponse(capturing.getStatus(), capturing.getContentType(),
+            capturing.capturedBody(), fingerprint);
+        if (captured.status() < 500) {
+            store.put(key, captured, ttl);
+        }
+        complete(key, result, captured);
+    }
+
+    private void complete(String key, CompletableFuture<IdempotentResponse> result, IdempotentResponse response) {
+        inFlight.remove(key, result);
+        result.complete(response);
+    }
+
+    private void awaitAndReplay(HttpServletRequest request, HttpServletResponse response,
+        CompletableFuture<IdempotentResponse> running, byte[] fingerprint) throws IOException {
+        try {
+            replay(request, response, running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS), fingerprint);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(request, response, CommonResponseCode.CONFLICT);
+        } catch (ExecutionException | TimeoutException e) {
+            writeError(request, response, CommonResponseCode.CONFLICT);
+        }
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, IdempotentResponse stored,
+        byte[] fingerprint) throws IOException {
+        if (!MessageDigest.isEqual(stored.requestFingerprint(), fingerprint)) {
+            // 같은 키를 다른 요청 본문에 재사용 - 저장된 응답은 이 요청의 결과가 아님
+            writeError(request, response, FINGERPRINT_MISMATCH);
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.regionMatches(true, 0,
+            MediaType.APPLICATION_FORM_URLENCODED_VALUE, 0, MediaType.APPLICATION_FORM_URLENCODED_VALUE.length());
+    }
+
+    private static byte[] fingerprint(byte[] body) {
+        return sha256().digest(body);
+    }
+
+    private static byte[] fingerprint(Map<String, String[]> parameters) {
+        MessageDigest digest = sha256();
+        new TreeMap<>(parameters).forEach((name, values) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            for (String value : values) {
+                digest.update((byte) SEPARATOR);
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+        });
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, BaseResponseCode code)
+        throws IOException {
+        CachedErrorWriter.write(request, response, responseBodyCache, code);
+        metrics.recordError(code, null);
+    }
+
+    private record FinishOnComplete(IdempotencyFilter filter, String key, byte[] fingerprint,
+                                    CompletableFuture<IdempotentResponse> result,
+                                    CapturingResponseWrapper capturing) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            filter.finish(key, fingerprint, result, capturing);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        // 비동기 처리가 다시 시작되면 등록된 리스너가 지워지므로 다시 등록
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
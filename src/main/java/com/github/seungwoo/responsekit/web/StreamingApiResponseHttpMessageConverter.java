@@ -0,0 +1,101 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.logging.ExceptionLogStrategy;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.StreamingApiResponse;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * StreamingApiResponse를 서블릿 출력 스트림에 JsonGenerator로 바로 쓰는 컨버터
+ * <p>
+ * Accept가 application/x-ndjson이면 NDJSON으로, 그 외에는 JSON 객체 하나로 출력합니다.
+ * Content-Length 없이 chunked로 전송되며, 요소는 StreamingApiResponse에 지정한 개수마다 flush됩니다.
+ * <p>
+ * 출력 도중 발생한 예외는 응답 상태가 이미 전송된 뒤라 GlobalExceptionHandler를 거치지 않으므로, 같은 방식으로
+ * ExceptionLogStrategy로 로그를 남기고 ResponseKitMetrics와 RecentErrors에 trailing error 코드로 기록합니다.
+ */
+@Slf4j
+public class StreamingApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<StreamingApiResponse<?>> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter elementWriter;
+    private final ExceptionLogStrategy logStrategy;
+    private final ResponseKitMetrics metrics;
+    private final RecentErrors recentErrors;
+
+    public StreamingApiResponseHttpMessageConverter(ObjectMapper objectMapper, ExceptionLogStrategy logStrategy,
+        ResponseKitMetrics metrics, RecentErrors recentErrors) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+        this.objectMapper = objectMapper;
+        this.elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.logStrategy = logStrategy;
+        this.metrics = metrics;
+        this.recentErrors = recentErrors;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StreamingApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected StreamingApiResponse<?> readInternal(Class<? extends StreamingApiResponse<?>> clazz,
+        HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("StreamingApiResponse는 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(StreamingApiResponse<?> response, HttpOutputMessage outputMessage)
+        throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        boolean ndjson = contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        try (response;
+             JsonGenerator gen = objectMapper.getFactory()
+                 .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            if (ndjson) {
+                response.writeNdjson(gen, elementWriter, this::recordStreamingError);
+            } else {
+                response.writeJson(gen, elementWriter, this::recordStreamingError);
+            }
+        }
+    }
+
+    private void recordStreamingError(BaseResponseCode code, RuntimeException ex) {
+        if (ex instanceof CustomException) {
+            logStrategy.log(log, Level.WARN, code.getCode(), "[Streaming Error] {}: {}", code.getCode(),
+                ex.getMessage());
+        } else {
+            logStrategy.logWithStackTrace(log, Level.ERROR, ex.getClass().getName(), "[Streaming Error]", ex);
+        }
+        metrics.recordError(code, ex);
+        String path = RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+            ? attributes.getRequest().getRequestURI() : null;
+        recentErrors.record(code, ex, path);
+    }
+}
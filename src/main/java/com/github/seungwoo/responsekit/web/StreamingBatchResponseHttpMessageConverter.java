@@ -0,0 +1,68 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.seungwoo.responsekit.response.StreamingBatchResponse;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * StreamingBatchResponse를 서블릿 출력 스트림에 JsonGenerator로 바로 쓰는 컨버터
+ * <p>
+ * Accept가 application/x-ndjson이면 NDJSON으로, 그 외에는 JSON 객체 하나로 출력하며 항목 결과마다 flush합니다.
+ */
+public class StreamingBatchResponseHttpMessageConverter
+    extends AbstractHttpMessageConverter<StreamingBatchResponse<?>> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter elementWriter;
+
+    public StreamingBatchResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+        this.objectMapper = objectMapper;
+        this.elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StreamingBatchResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected StreamingBatchResponse<?> readInternal(Class<? extends StreamingBatchResponse<?>> clazz,
+        HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("StreamingBatchResponse는 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(StreamingBatchResponse<?> response, HttpOutputMessage outputMessage)
+        throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        boolean ndjson = contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        try (response;
+             JsonGenerator gen = objectMapper.getFactory()
+                 .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            if (ndjson) {
+                response.writeNdjson(gen, elementWriter);
+            } else {
+                response.writeJson(gen, elementWriter);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.seungwoo.responsekit.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 컨트롤러 반환 값을 ApiResponse.success(code, data) 형식으로 감싸서 응답
+ * <p>
+ * 컨트롤러 클래스 또는 메소드에 선언하며, 메소드 선언이 클래스 선언보다 우선합니다.
+ * 감싼 ApiResponse는 직접 반환한 ApiResponse와 같이 메시지 컨버터, produces/Accept 협상, ResponseBodyAdvice를 거칩니다.
+ * 반환 타입을 ApiResponse로 바꾸지 않아도 되게 하는 편의 기능으로, 비용은 ApiResponse를 직접 반환할 때와 같습니다.
+ * <pre>
+ * &#64;WrapResponse("USER_CREATED")
+ * &#64;PostMapping
+ * public UserDto create(&#64;Valid &#64;RequestBody UserCreateRequest request) {
+ *     return userService.create(request);
+ * }
+ * </pre>
+ * ApiResponse/ErrorResponse/BatchApiResponse, String, Resource, byte[]처럼 이미 형식이 정해진 값은 감싸지 않고,
+ * Stream/Iterator는 ApiResponse.stream(code, ...)으로 요소 단위 출력합니다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WrapResponse {
+
+    /**
+     * 응답 코드 문자열 (ResponseCodeRegistry 색인에서 조회)
+     */
+    String value() default "SUCCESS";
+}
@@ -0,0 +1,146 @@
+package com.github.seungwoo.responsekit.web;
+
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.BatchApiResponse;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.StreamingApiResponse;
+import com.github.seungwoo.responsekit.response.StreamingBatchResponse;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+/**
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * {@link WrapResponse}가 선언된 &#64;ResponseBody 메소드의 반환 값을 ApiResponse로 감싸는 처리기
+ * <p>
+ * 반환 값을 ApiResponse.success(code, data)로 감싸 기존 RequestResponseBodyMethodProcessor에 넘기므로,
+ * ApiResponse를 직접 반환한 것과 같이 메시지 컨버터, produces/Accept 협상(JSON/CBOR/Smile), ResponseBodyAdvice
+ * (ETag, fields 등)를 모두 거칩니다. 응답마다 ApiResponse 객체를 하나 만드는, ApiResponse를 직접 반환하는 것과 같은 비용의
+ * 편의 기능이며 별도의 할당 최적화는 없습니다. 성공 응답 집계도 ApiResponseMetricsAdvice가 같은 방식으로 처리합니다.
+ * <p>
+ * 감싸지 않는 값(ApiResponse, String 등)은 그대로, Stream/Iterator는 ApiResponse.stream(...)으로 감싸 위임합니다.
+ * <p>
+ * CompletableFuture/DeferredResult 같은 비동기 반환 값은 앞선 처리기가 처리하고, 완료된 값이 다시 이 처리기로 전달됩니다.
+ */
+public class WrapResponseReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final HandlerMethodReturnValueHandler delegate;
+    private final ResponseCodeRegistry registry;
+    // 비동기 반환 값은 완료될 때마다 새 MethodParameter로 전달되므로 컨트롤러 타입 + 메소드로 캐시
+    private final Map<HandlerKey, Optional<BaseResponseCode>> codes = new ConcurrentHashMap<>();
+
+    public WrapResponseReturnValueHandler(HandlerMethodReturnValueHandler delegate, ResponseCodeRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    /**
+     * RequestMappingHandlerAdapter의 RequestResponseBodyMethodProcessor 바로 앞에 등록
+     */
+    public static void install(RequestMappingHandlerAdapter adapter, ResponseCodeRegistry registry) {
+        List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+        if (handlers == null) {
+            return;
+        }
+        List<HandlerMethodReturnValueHandler> installed = new ArrayList<>(handlers);
+        for (int i = 0; i < installed.size(); i++) {
+            if (installed.get(i) instanceof RequestResponseBodyMethodProcessor processor) {
+                installed.add(i, new WrapResponseReturnValueHandler(processor, registry));
+                adapter.setReturnValueHandlers(installed);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return code(returnType).isPresent() && delegate.supportsReturnType(returnType);
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest) throws Exception {
+        BaseResponseCode code = code(returnType).orElseThrow();
+        if (isPreformatted(returnValue)) {
+            delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+            return;
+        }
+        if (returnValue instanceof Stream<?> stream) {
+            delegate.handleReturnValue(ApiResponse.stream(code, stream), returnType, mavContainer, webRequest);
+            return;
+        }
+        if (returnValue instanceof Iterator<?> iterator) {
+            delegate.handleReturnValue(ApiResponse.stream(code, iterator), returnType, mavContainer, webRequest);
+            return;
+        }
+        delegate.handleReturnValue(ApiResponse.success(code, returnValue), returnType, mavContainer, webRequest);
+    }
+
+    private Optional<BaseResponseCode> code(MethodParameter returnType) {
+        HandlerKey key = new HandlerKey(returnType.getContainingClass(), returnType.getExecutable());
+        Optional<BaseResponseCode> code = codes.get(key);
+        if (code != null) {
+            return code;
+        }
+        return codes.computeIfAbsent(key, k -> resolve(returnType));
+    }
+
+    private Optional<BaseResponseCode> resolve(MethodParameter returnType) {
+        WrapResponse annotation = returnType.getMethodAnnotation(WrapResponse.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(returnType.getContainingClass(),
+                WrapResponse.class);
+        }
+        if (annotation == null) {
+            return Optional.empty();
+        }
+        String code = annotation.value();
+        BaseResponseCode resolved = registry.find(code).orElseGet(() -> common(code));
+        if (resolved == null) {
+            throw new IllegalStateException("@WrapResponse 응답 코드를 찾을 수 없습니다: " + code + " ("
+                + returnType.getExecutable() + ")");
+        }
+        return Optional.of(resolved);
+    }
+
+    // 색인이 없는 환경(IDE 실행 등)에서도 기본 코드는 사용할 수 있도록
+    private static BaseResponseCode common(String code) {
+        for (CommonResponseCode candidate : CommonResponseCode.values()) {
+            if (candidate.getCode().equals(code)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPreformatted(Object value) {
+        return value instanceof ApiResponse<?>
+            || value instanceof ErrorResponse
+            || value instanceof BatchApiResponse<?>
+            || value instanceof StreamingApiResponse<?>
+            || value instanceof StreamingBatchResponse<?>
+            || value instanceof CharSequence
+            || value instanceof Resource
+            || value instanceof byte[];
+    }
+
+    private record HandlerKey(Class<?> type, Executable method) {}
+}
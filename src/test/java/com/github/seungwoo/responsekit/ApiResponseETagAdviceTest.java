@@ -0,0 +1,147 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.web.ApiResponseETagAdvice;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ApiResponseETagAdviceTest {
+
+    private final ApiResponseETagAdvice advice = new ApiResponseETagAdvice(new ResponseBodyCache(new ObjectMapper()));
+
+    @Test
+    @DisplayName("본문으로 만든 ETag가 If-None-Match와 일치하면 본문 없이 304로 응답한다")
+    void not_modified_when_body_etag_matches() throws Exception {
+        ApiResponse<Map<String, Object>> body = ApiResponse.success(CommonResponseCode.SUCCESS, Map.of("id", 1));
+
+        MockHttpServletResponse first = write(body, null);
+        String etag = first.getHeader("ETag");
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).startsWith("\"").hasSize(34);
+        assertThat(first.getContentAsString()).contains("\"data\":{\"id\":1}");
+
+        MockHttpServletResponse second = write(body, etag);
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletResponse changed = write(ApiResponse.success(CommonResponseCode.SUCCESS, Map.of("id", 2)), etag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader("ETag")).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("version이 있는 응답은 data를 직렬화하지 않고 버전으로 비교한다")
+    void versioned_response_short_circuits_before_serializing_data() throws Exception {
+        MockHttpServletResponse first = write(ApiResponse.success(CommonResponseCode.SUCCESS, "v1-data", 7L), null);
+        String etag = first.getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        Object unserializable = new Object() {
+            public Object getSelf() {
+                throw new AssertionError("304 응답에서는 data를 직렬화하면 안 됩니다.");
+            }
+        };
+        MockHttpServletResponse second = write(ApiResponse.success(CommonResponseCode.SUCCESS, unserializable, 7L),
+            etag);
+        assertThat(second.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("실패 응답과 GET이 아닌 요청은 그대로 통과시킨다")
+    void ignores_failures_and_unsafe_methods() {
+        ApiResponse<Void> fail = ApiResponse.fail(CommonResponseCode.BAD_REQUEST);
+        assertThat(advice.beforeBodyWrite(fail, null, MediaType.APPLICATION_JSON,
+            MappingJackson2HttpMessageConverter.class, request("GET", null),
+            new ServletServerHttpResponse(new MockHttpServletResponse()))).isSameAs(fail);
+
+        ApiResponse<String> success = ApiResponse.success(CommonResponseCode.SUCCESS, "created");
+        assertThat(advice.beforeBodyWrite(success, null, MediaType.APPLICATION_JSON,
+            MappingJackson2HttpMessageConverter.class, request("POST", null),
+            new ServletServerHttpResponse(new MockHttpServletResponse()))).isSameAs(success);
+    }
+
+    @Test
+    @DisplayName("ETag를 붙인 응답은 304를 포함해 Vary: Accept-Language를 갖는다")
+    void varies_on_accept_language() throws Exception {
+        ApiResponse<String> body = ApiResponse.success(CommonResponseCode.SUCCESS, "data");
+
+        MockHttpServletResponse first = write(body, null);
+        MockHttpServletResponse second = write(body, first.getHeader("ETag"));
+
+        assertThat(first.getHeaders("Vary")).containsExactly("Accept-Language");
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getHeaders("Vary")).containsExactly("Accept-Language");
+    }
+
+    @Test
+    @DisplayName("version이 null이면 \"null\" 버전이 아니라 본문으로 ETag를 만든다")
+    void null_version_falls_back_to_body_etag() throws Exception {
+        String first = write(ApiResponse.success(CommonResponseCode.SUCCESS, "a", null), null).getHeader("ETag");
+        String second = write(ApiResponse.success(CommonResponseCode.SUCCESS, "b", null), null).getHeader("ETag");
+
+        assertThat(ApiResponse.success(CommonResponseCode.SUCCESS, "a", null).getVersion()).isNull();
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("@JsonView 메서드와 MappingJacksonValue 본문에는 관여하지 않는다")
+    void ignores_json_view_and_mapping_jackson_value() throws Exception {
+        MethodParameter viewMethod = new MethodParameter(Views.class.getDeclaredMethod("summary"), -1);
+        assertThat(advice.supports(viewMethod, MappingJackson2HttpMessageConverter.class)).isFalse();
+
+        MappingJacksonValue wrapped = new MappingJacksonValue(ApiResponse.success(CommonResponseCode.SUCCESS, "a"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(advice.beforeBodyWrite(wrapped, null, MediaType.APPLICATION_JSON,
+            MappingJackson2HttpMessageConverter.class, request("GET", null),
+            new ServletServerHttpResponse(response))).isSameAs(wrapped);
+        assertThat(response.getHeader("ETag")).isNull();
+    }
+
+    private MockHttpServletResponse write(ApiResponse<?> body, String ifNoneMatch) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+        Object result = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+            MappingJackson2HttpMessageConverter.class, request("GET", ifNoneMatch), output);
+        if (result != null) {
+            // 버전 응답이 304가 아니면 메시지 컨버터가 쓰는 경로이므로 여기서는 헤더만 확인
+            output.flush();
+        }
+        return response;
+    }
+
+    private static ServletServerHttpRequest request(String method, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/users/1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletServerHttpRequest(request);
+    }
+
+    static class Views {
+
+        @JsonView(Views.class)
+        ApiResponse<String> summary() {
+            return ApiResponse.success(CommonResponseCode.SUCCESS, "summary");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.batch.BatchExecutor;
+import com.github.seungwoo.responsekit.response.ApiResponseException;
+import com.github.seungwoo.responsekit.response.BatchApiResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.ItemResult;
+import com.github.seungwoo.responsekit.response.RemoteResponseCode;
+import com.github.seungwoo.responsekit.response.StreamingBatchResponse;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.ResponseCodeException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class BatchExecutorTest {
+
+    private final BatchExecutor executor = BatchExecutor.fixedPool(8, 4);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("실패한 항목은 해당 응답 코드의 결과가 되고 나머지 항목은 성공한다")
+    void execute_reports_partial_failure() {
+        BatchApiResponse<Integer> response = executor.execute(CommonResponseCode.SUCCESS, List.of(1, 2, 3, 4),
+            number -> {
+                if (number == 2) {
+                    throw ResponseCodeException.of(CommonResponseCode.CONFLICT);
+                }
+                if (number == 4) {
+                    throw new IllegalStateException("boom");
+                }
+                return number * 10;
+            });
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(ItemResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(response.getResults()).extracting(ItemResult::getCode)
+            .containsExactly("SUCCESS", "CONFLICT", "SUCCESS", "INTERNAL_ERROR");
+        assertThat(response.getResults().get(2).getData()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("ApiResponseException으로 실패한 항목은 원격 메시지 대신 코드의 메시지와 FieldError를 결과에 담는다")
+    void api_response_exception_item_hides_remote_message() {
+        RemoteResponseCode remote = new RemoteResponseCode("REMOTE_CONFLICT", HttpStatus.CONFLICT);
+        List<FieldError> errors = List.of(new FieldError("name", "", "must not be blank"));
+
+        BatchApiResponse<Integer> response = executor.execute(CommonResponseCode.SUCCESS, List.of(1), number -> {
+            throw new ApiResponseException(remote, "secret-remote-message", errors, 0);
+        });
+
+        ItemResult<Integer> result = response.getResults().get(0);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getCode()).isEqualTo("REMOTE_CONFLICT");
+        assertThat(result.getMessage()).isEqualTo(HttpStatus.CONFLICT.getReasonPhrase())
+            .doesNotContain("secret-remote-message");
+        assertThat(result.getErrors()).isEqualTo(errors);
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 항목 수는 maxConcurrency를 넘지 않는다")
+    void execute_limits_concurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        executor.execute(CommonResponseCode.SUCCESS, IntStream.range(0, 50).boxed().toList(), number -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return number;
+        });
+
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
+    @Test
+    @DisplayName("stream 응답은 항목 결과 뒤에 집계 값을 출력한다")
+    void stream_writes_results_and_summary() throws Exception {
+        StreamingBatchResponse<Integer> response = executor.stream(CommonResponseCode.SUCCESS, List.of(1, 2, 3),
+            number -> {
+                if (number == 3) {
+                    throw ResponseCodeException.of(CommonResponseCode.NOT_FOUND);
+                }
+                return number;
+            });
+
+        StringWriter writer = new StringWriter();
+        try (response; JsonGenerator gen = objectMapper.getFactory().createGenerator(writer)) {
+            response.writeJson(gen, objectMapper.writer());
+        }
+        JsonNode body = objectMapper.readTree(writer.toString());
+
+        assertThat(body.get("code").asText()).isEqualTo("SUCCESS");
+        assertThat(body.get("results")).hasSize(3);
+        assertThat(body.get("total").asInt()).isEqualTo(3);
+        assertThat(body.get("succeeded").asInt()).isEqualTo(2);
+        assertThat(body.get("failed").asInt()).isEqualTo(1);
+        assertThat(body.get("success").asBoolean()).isFalse();
+    }
+}
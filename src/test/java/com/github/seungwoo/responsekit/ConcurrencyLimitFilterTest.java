@@ -0,0 +1,85 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.limit.ConcurrencyLimiter;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.web.ConcurrencyLimitFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ConcurrencyLimitFilterTest {
+
+    private final ResponseKitMetrics metrics = new ResponseKitMetrics(true);
+    private final ResponseBodyCache responseBodyCache = new ResponseBodyCache(new ObjectMapper());
+
+    @Test
+    @DisplayName("한도에 도달하면 체인을 호출하지 않고 미리 직렬화된 ErrorResponse와 Retry-After로 거절한다")
+    void rejects_when_limit_reached() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1);
+        ConcurrencyLimitFilter filter = filter(limiter, List.of());
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        // 첫 요청이 처리 중인 동안 두 번째 요청 도착
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(),
+            (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), rejected,
+                (r, s) -> {
+                    throw new AssertionError("거절된 요청은 체인을 호출하면 안 됩니다.");
+                }));
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getContentAsString()).contains("\"code\":\"SERVICE_UNAVAILABLE\"");
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.rejectedCount()).isEqualTo(1);
+        assertThat(metrics.count(CommonResponseCode.SERVICE_UNAVAILABLE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제외 경로는 한도와 관계없이 통과한다")
+    void excluded_paths_bypass_limit() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1);
+        ConcurrencyLimitFilter filter = filter(limiter, List.of("/actuator"));
+        MockHttpServletResponse health = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(),
+            (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health,
+                (r, s) -> ((MockHttpServletResponse) s).setStatus(200)));
+
+        assertThat(health.getStatus()).isEqualTo(200);
+        assertThat(limiter.rejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("AIMD 리미터는 느린 처리에서 한도를 줄이고 빠른 처리에서 1씩 늘린다")
+    void aimd_limit_adjusts_to_latency() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(100, 10, 200, Duration.ofMillis(100), 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(limiter.getLimit()).isEqualTo(50);
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(limiter.getLimit()).isEqualTo(51);
+    }
+
+    private ConcurrencyLimitFilter filter(ConcurrencyLimiter limiter, List<String> excludedPaths) {
+        return new ConcurrencyLimitFilter(limiter, responseBodyCache, metrics, CommonResponseCode.SERVICE_UNAVAILABLE,
+            Duration.ofSeconds(2), excludedPaths);
+    }
+}
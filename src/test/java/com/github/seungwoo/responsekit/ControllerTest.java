@@ -1,6 +1,9 @@
 package com.github.seungwoo.responsekit;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -67,4 +70,24 @@ class ControllerTest {
             .andExpect(jsonPath("$.errors").isArray())
             .andExpect(jsonPath("$.errors[0].field").value("password"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("errors가 없는 에러 응답은 미리 직렬화된 본문과 Content-Length로 내려온다")
+    void method_not_allowed_returns_cached_body() throws Exception {
+        mvc.perform(get("/api/signup"))
+            .andExpect(status().isMethodNotAllowed())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().exists("Content-Length"))
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.code").value("METHOD_NOT_ALLOWED"))
+            .andExpect(jsonPath("$.errors").isEmpty());
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 경로는 500이 아닌 NOT_FOUND 응답으로 내려온다")
+    void unmapped_path_returns_not_found() throws Exception {
+        mvc.perform(get("/api/unknown"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.seungwoo.responsekit.pagination.Cursor;
+import com.github.seungwoo.responsekit.pagination.CursorCodec;
+import com.github.seungwoo.responsekit.pagination.CursorPage;
+import com.github.seungwoo.responsekit.pagination.CursorRequest;
+import com.github.seungwoo.responsekit.pagination.InvalidCursorException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class CursorPaginationTest {
+
+    private final CursorCodec codec = CursorCodec.withRandomSecret();
+
+    @Test
+    @DisplayName("cursor는 인코딩 후 같은 방향과 키로 복원된다")
+    void codec_round_trip() {
+        Cursor cursor = Cursor.next("2025-01-01T00:00:00Z", 42L);
+
+        Cursor decoded = codec.decode(codec.encode(cursor));
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.longKey(1)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("변조되거나 다른 키로 서명된 cursor는 거부한다")
+    void codec_rejects_tampered_cursor() {
+        String token = codec.encode(Cursor.next(42L));
+        char c = token.charAt(3);
+        String tampered = token.substring(0, 3) + (c == 'A' ? 'B' : 'A') + token.substring(4);
+
+        assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.withRandomSecret().decode(token))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> codec.decode("not a cursor")).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("limit + 1개를 조회하면 hasNext와 nextCursor를 만들고 초과분은 제외한다")
+    void page_uses_extra_row_for_has_next() {
+        CursorRequest request = new CursorRequest(null, 3, false, codec);
+
+        CursorPage<Long> page = CursorPage.of(request, List.of(1L, 2L, 3L, 4L), id -> id);
+
+        assertThat(page.getItems()).containsExactly(1L, 2L, 3L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getPrevCursor()).isNull();
+        assertThat(codec.decode(page.getNextCursor())).isEqualTo(Cursor.next(3L));
+    }
+
+    @Test
+    @DisplayName("이전 페이지 조회 결과는 원래 순서로 뒤집고 다음 페이지 cursor를 만든다")
+    void previous_page_is_reversed() {
+        CursorRequest request = new CursorRequest(Cursor.previous(7L), 2, false, codec);
+
+        CursorPage<Long> page = CursorPage.of(request, List.of(6L, 5L), id -> id);
+
+        assertThat(page.getItems()).containsExactly(5L, 6L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getPrevCursor()).isNull();
+        assertThat(codec.decode(page.getNextCursor())).isEqualTo(Cursor.next(6L));
+    }
+
+    @Test
+    @DisplayName("전체 개수는 includeTotal 요청에서만 계산한다")
+    void total_count_only_on_request() {
+        AtomicInteger counted = new AtomicInteger();
+
+        CursorPage<Long> withoutTotal = CursorPage.of(new CursorRequest(null, 2, false, codec), List.of(1L),
+            id -> id, () -> counted.incrementAndGet());
+        CursorPage<Long> withTotal = CursorPage.of(new CursorRequest(null, 2, true, codec), List.of(1L),
+            id -> id, () -> counted.incrementAndGet());
+
+        assertThat(withoutTotal.getTotalCount()).isNull();
+        assertThat(withTotal.getTotalCount()).isEqualTo(1L);
+        assertThat(counted.get()).isEqualTo(1);
+    }
+}
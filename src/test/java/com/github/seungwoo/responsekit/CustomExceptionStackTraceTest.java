@@ -0,0 +1,92 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.seungwoo.responsekit.example.UserNotFoundException;
+import com.github.seungwoo.responsekit.example.UserResponseCode;
+import com.github.seungwoo.responsekit.shared.CustomException;
+import com.github.seungwoo.responsekit.shared.HttpStatusResponseCode;
+import com.github.seungwoo.responsekit.shared.ResponseCodeException;
+import com.github.seungwoo.responsekit.shared.StackTraceMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class CustomExceptionStackTraceTest {
+
+    @AfterEach
+    void reset() {
+        CustomException.configureStackTrace(StackTraceMode.FULL, 1);
+    }
+
+    @Test
+    @DisplayName("FULL 모드는 스택 트레이스를 채운다")
+    void full_mode_fills_stack_trace() {
+        assertThat(new UserNotFoundException().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("NONE 모드의 예외는 스택 트레이스가 채워지지 않는다")
+    void none_mode_leaves_stack_trace_empty() {
+        CustomException.configureStackTrace(StackTraceMode.NONE, 1);
+
+        assertThat(new UserNotFoundException().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스택 트레이스를 끈 예외는 FULL 모드에서도 스택 트레이스와 suppressed 예외를 기록하지 않는다")
+    void stackless_exception_ignores_full_mode() {
+        ResponseCodeException exception = ResponseCodeException.of(UserResponseCode.USER_NOT_FOUND);
+        exception.addSuppressed(new IllegalStateException());
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(ResponseCodeException.of(UserResponseCode.USER_NOT_FOUND)).isSameAs(exception);
+    }
+
+    @Test
+    @DisplayName("Enum이 아닌 코드는 싱글턴으로 보관하지 않고 호출마다 스택 트레이스 없는 새 인스턴스를 만든다")
+    void non_enum_code_is_not_kept_as_singleton() {
+        HttpStatusResponseCode code = new HttpStatusResponseCode(HttpStatus.CONFLICT);
+
+        ResponseCodeException first = ResponseCodeException.of(code);
+        ResponseCodeException second = ResponseCodeException.of(new HttpStatusResponseCode(HttpStatus.CONFLICT));
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getResponseCode()).isEqualTo(code);
+        assertThat(first.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SAMPLED 모드는 N번 중 약 1번만 스택 트레이스를 채운다")
+    void sampled_mode_hits_expected_rate() {
+        int sampleRate = 10;
+        int total = 20_000;
+        CustomException.configureStackTrace(StackTraceMode.SAMPLED, sampleRate);
+
+        int captured = 0;
+        for (int i = 0; i < total; i++) {
+            if (new UserNotFoundException().getStackTrace().length > 0) {
+                captured++;
+            }
+        }
+
+        // 기대값 2,000건, 표준편차 약 42건 → ±10%는 4.7σ 밖이므로 우연히 실패할 확률은 무시할 수 있음
+        assertThat(captured).isBetween(total / sampleRate * 9 / 10, total / sampleRate * 11 / 10);
+    }
+
+    @Test
+    @DisplayName("SAMPLED 모드의 sampleRate가 1이면 매번 스택 트레이스를 채운다")
+    void sampled_mode_with_rate_one_always_captures() {
+        CustomException.configureStackTrace(StackTraceMode.SAMPLED, 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(new UserNotFoundException().getStackTrace()).isNotEmpty();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.ApiResponseDecoder;
+import com.github.seungwoo.responsekit.response.ApiResponseException;
+import com.github.seungwoo.responsekit.response.EnvelopeFormat;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.RemoteResponseCode;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.response.jackson.ResponseKitJacksonModule;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.ResponseCodeException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class EnvelopeFormatTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseKitJacksonModule());
+    private final ApiResponseDecoder decoder = new ApiResponseDecoder(objectMapper, ResponseCodeRegistry.of(List.of()));
+
+    @Test
+    @DisplayName("Accept 헤더의 품질 값으로 응답 형식을 고르고, 알 수 없으면 JSON을 사용한다")
+    void negotiate_by_accept_header() {
+        assertThat(EnvelopeFormat.negotiate(null)).isEqualTo(EnvelopeFormat.JSON);
+        assertThat(EnvelopeFormat.negotiate("application/json, */*")).isEqualTo(EnvelopeFormat.JSON);
+        assertThat(EnvelopeFormat.negotiate("application/cbor")).isEqualTo(EnvelopeFormat.CBOR);
+        assertThat(EnvelopeFormat.negotiate("application/json;q=0.5, application/x-jackson-smile"))
+            .isEqualTo(EnvelopeFormat.SMILE);
+        assertThat(EnvelopeFormat.negotiate("application/cbor;q=0.1, application/json")).isEqualTo(EnvelopeFormat.JSON);
+        assertThat(EnvelopeFormat.negotiate("application/cbor;q=high")).isEqualTo(EnvelopeFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("캐시된 응답은 조회마다 복사하지 않고 공유하며, 헤더는 수정할 수 없다")
+    void cached_entity_is_shared_read_only() {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper);
+        ResponseEntity<byte[]> first = cache.error(CommonResponseCode.NOT_FOUND);
+
+        assertThatThrownBy(() -> first.getHeaders().set("X-Leak", "1"))
+            .isInstanceOf(UnsupportedOperationException.class);
+
+        ResponseEntity<byte[]> second = cache.error(CommonResponseCode.NOT_FOUND);
+        assertThat(second).isSameAs(first);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(second.getHeaders().containsKey("X-Leak")).isFalse();
+    }
+
+    @Test
+    @DisplayName("CBOR/Smile 캐시 본문은 JSON 본문과 같은 구조다")
+    void cached_binary_bodies_have_json_shape() throws Exception {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper);
+        Object json = objectMapper.readTree(cache.error(CommonResponseCode.NOT_FOUND).getBody());
+
+        for (EnvelopeFormat format : List.of(EnvelopeFormat.CBOR, EnvelopeFormat.SMILE)) {
+            ResponseEntity<byte[]> entity = cache.error(CommonResponseCode.NOT_FOUND, format);
+
+            assertThat(entity.getHeaders().getContentType()).isEqualTo(format.getMediaType());
+            assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(cache.mapper(format).readTree(entity.getBody())).isEqualTo(json);
+        }
+    }
+
+    @Test
+    @DisplayName("성공 본문은 ApiResponse로 복원된다")
+    void decode_success() throws Exception {
+        byte[] body = EnvelopeFormat.CBOR.mapper(objectMapper)
+            .writeValueAsBytes(ApiResponse.success(CommonResponseCode.SUCCESS, Map.of("email", "test@example.com")));
+
+        ApiResponse<Map> response = decoder.decode(body, EnvelopeFormat.CBOR.getMediaType(), Map.class);
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getCode()).isEqualTo(CommonResponseCode.SUCCESS.getCode());
+        assertThat(response.getData()).containsEntry("email", "test@example.com");
+    }
+
+    @Test
+    @DisplayName("실패 본문은 응답 코드와 FieldError를 담은 ApiResponseException으로 던진다")
+    void decode_failure() throws Exception {
+        byte[] body = EnvelopeFormat.SMILE.mapper(objectMapper).writeValueAsBytes(ErrorResponse.of(
+            CommonResponseCode.BAD_REQUEST, List.of(new FieldError("email", "wrongemail", "이메일 형식이 아닙니다.")), 2));
+
+        assertThatThrownBy(() -> decoder.decode(body, EnvelopeFormat.SMILE.getMediaType(), Map.class))
+            .isInstanceOfSatisfying(ApiResponseException.class, e -> {
+                assertThat(e.getResponseCode()).isInstanceOf(RemoteResponseCode.class);
+                assertThat(e.getResponseCode().getCode()).isEqualTo(CommonResponseCode.BAD_REQUEST.getCode());
+                assertThat(e.getResponseCode().getHttpStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+                assertThat(e.getErrors()).extracting(FieldError::getField).containsExactly("email");
+                assertThat(e.getOmittedErrors()).isEqualTo(2);
+            });
+    }
+
+    @Test
+    @DisplayName("원격 코드/메시지가 계속 달라져도 캐시가 늘지 않고 원격 메시지를 응답 본문에 노출하지 않는다")
+    void remote_codes_are_not_cached() throws Exception {
+        ResponseBodyCache cache = new ResponseBodyCache(objectMapper);
+        ResponseKitMetrics metrics = new ResponseKitMetrics(true);
+        int cachedBefore = cache.size();
+        int errorResponsesBefore = staticMapSize(ErrorResponse.class, "CACHE");
+        int successResponsesBefore = staticMapSize(ApiResponse.class, "SUCCESS_CACHE");
+        int failResponsesBefore = staticMapSize(ApiResponse.class, "FAIL_CACHE");
+        int exceptionsBefore = staticMapSize(ResponseCodeException.class, "INSTANCES");
+
+        for (int i = 0; i < 1000; i++) {
+            String remoteMessage = "secret-" + i;
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("success", false, "code", "REMOTE_" + i,
+                "message", remoteMessage));
+
+            assertThatThrownBy(() -> decoder.decode(body, null, HttpStatus.CONFLICT,
+                objectMapper.constructType(Map.class)))
+                .isInstanceOfSatisfying(ApiResponseException.class, e -> {
+                    assertThat(e.getMessage()).isEqualTo(remoteMessage);
+                    ResponseEntity<byte[]> entity = cache.error(e.getResponseCode());
+                    assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    assertThat(new String(entity.getBody(), StandardCharsets.UTF_8)).doesNotContain(remoteMessage);
+                    BaseResponseCode code = e.getResponseCode();
+                    assertThat(ErrorResponse.of(code)).isNotSameAs(ErrorResponse.of(code));
+                    assertThat(ApiResponse.success(code)).isNotSameAs(ApiResponse.success(code));
+                    assertThat(ApiResponse.fail(code)).isNotSameAs(ApiResponse.fail(code));
+                    assertThat(ResponseCodeException.of(code)).isNotSameAs(ResponseCodeException.of(code));
+                    metrics.recordError(code, e);
+                });
+        }
+
+        assertThat(cache.size()).isEqualTo(cachedBefore);
+        assertThat(staticMapSize(ErrorResponse.class, "CACHE")).isEqualTo(errorResponsesBefore);
+        assertThat(staticMapSize(ApiResponse.class, "SUCCESS_CACHE")).isEqualTo(successResponsesBefore);
+        assertThat(staticMapSize(ApiResponse.class, "FAIL_CACHE")).isEqualTo(failResponsesBefore);
+        assertThat(staticMapSize(ResponseCodeException.class, "INSTANCES")).isEqualTo(exceptionsBefore);
+        List<String> countedCodes = new ArrayList<>();
+        metrics.forEachCode((code, counter) -> {
+            if (!(code instanceof Enum<?>)) {
+                countedCodes.add(code.getCode());
+            }
+        });
+        assertThat(countedCodes).containsExactly(ResponseKitMetrics.OTHER_CODE);
+    }
+
+    // 원격 코드가 정적 캐시에 쌓이지 않는지 확인하기 위한 private static Map 크기
+    private static int staticMapSize(Class<?> type, String fieldName) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return ((Map<?, ?>) field.get(null)).size();
+    }
+
+    @Test
+    @DisplayName("Content-Type이 없으면 JSON으로 해석한다")
+    void decode_without_content_type() throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(CommonResponseCode.SUCCESS));
+
+        ApiResponse<Void> response = decoder.decode(body, null, Void.class);
+
+        assertThat(response.getCode()).isEqualTo(CommonResponseCode.SUCCESS.getCode());
+        assertThat(response.getData()).isNull();
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.seungwoo.responsekit.mapping.ExceptionMapping;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ExceptionMappingsTest {
+
+    private final ExceptionMappings mappings = ExceptionMappings.builder()
+        .map(IOException.class, CommonResponseCode.INTERNAL_ERROR, Level.ERROR, true)
+        .map(FileNotFoundException.class, CommonResponseCode.NOT_FOUND)
+        .build();
+
+    @Test
+    @DisplayName("상위 클래스를 따라 올라가며 가장 가까운 매핑을 사용한다")
+    void resolves_nearest_mapping() {
+        ExceptionMapping notFound = mappings.resolve(new FileNotFoundException("missing"));
+        ExceptionMapping io = mappings.resolve(new NoSuchFileException("missing"));
+
+        assertThat(notFound.code()).isEqualTo(CommonResponseCode.NOT_FOUND);
+        assertThat(notFound.level()).isEqualTo(Level.WARN);
+        assertThat(io.code()).isEqualTo(CommonResponseCode.INTERNAL_ERROR);
+        assertThat(io.stackTrace()).isTrue();
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 예외는 null을 반환한다")
+    void returns_null_for_unmapped_exception() {
+        assertThat(mappings.resolve(new UncheckedIOException(new IOException()))).isNull();
+        assertThat(ExceptionMappings.empty().resolve(new IOException())).isNull();
+    }
+}
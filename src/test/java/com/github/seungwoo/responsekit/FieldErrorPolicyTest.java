@@ -0,0 +1,138 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.seungwoo.responsekit.config.ResponseKitConfiguration;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.FieldErrorPolicy;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class FieldErrorPolicyTest {
+
+    private final FieldErrorPolicy policy = new FieldErrorPolicy(10, 5, Set.of("password"));
+
+    @Test
+    @DisplayName("최대 길이를 넘는 rejectedValue는 잘라내고 원래 길이를 표시한다")
+    void truncates_long_value() {
+        assertThat(policy.rejectedValue("name", "a".repeat(1_000_000)))
+            .isEqualTo("aaaaaaaaaa...(1000000 chars)");
+        assertThat(policy.rejectedValue("name", "short")).isEqualTo("short");
+    }
+
+    @Test
+    @DisplayName("목록은 최대 길이에 도달할 때까지만 요소를 출력하고 남은 개수를 표시한다")
+    void truncates_large_collection() {
+        List<String> items = Collections.nCopies(10_000, "item");
+
+        assertThat(policy.rejectedValue("items", items)).isEqualTo("[item, item, ...(9998 more)]");
+    }
+
+    @Test
+    @DisplayName("중첩된 요소도 전체 최대 길이 안에서 남은 길이만큼만 출력한다")
+    void nested_elements_share_length_budget() {
+        assertThat(policy.rejectedValue("items", List.of("a".repeat(1000), "b")))
+            .isEqualTo("[aaaaaaaaa...(1000 chars), ...(1 more)]");
+    }
+
+    @Test
+    @DisplayName("자기 자신을 담은 컨테이너와 깊은 중첩은 펼치지 않는다")
+    void self_containing_collections_terminate() {
+        List<Object> self = new ArrayList<>();
+        self.add(1);
+        self.add(self);
+        Map<String, Object> map = new HashMap<>();
+        map.put("k", map);
+        List<Object> first = new ArrayList<>();
+        List<Object> second = new ArrayList<>();
+        first.add(second);
+        second.add(first);
+
+        assertThat(policy.rejectedValue("items", self)).isEqualTo("[1, (this)]");
+        assertThat(policy.rejectedValue("items", map)).isEqualTo("[k=(this)]");
+        assertThat(new FieldErrorPolicy(100, 5, Set.of()).rejectedValue("items", first))
+            .isEqualTo("[[[[[...]]]]]");
+    }
+
+    @Test
+    @DisplayName("maxErrors를 넘는 FieldError는 응답에서 빼고 omittedErrors로 개수만 전달한다")
+    void limits_errors_and_reports_omitted_count() {
+        MapBindingResult bindingResult = new MapBindingResult(new HashMap<>(), "form");
+        for (int i = 0; i < 8; i++) {
+            bindingResult.addError(new org.springframework.validation.FieldError("form", "field" + i, "bad"));
+        }
+        Set<ConstraintViolation<Form>> violations;
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            violations = factory.getValidator().validate(new Form());
+        }
+
+        List<FieldError> bindErrors = FieldError.from(bindingResult, policy);
+        List<FieldError> violationErrors = FieldError.from(violations, policy);
+        ErrorResponse response = ErrorResponse.of(CommonResponseCode.BAD_REQUEST, bindErrors,
+            bindingResult.getFieldErrorCount() - bindErrors.size());
+
+        assertThat(bindErrors).hasSize(5).extracting(FieldError::getField).startsWith("field0");
+        assertThat(response.getErrors()).hasSize(5);
+        assertThat(response.getOmittedErrors()).isEqualTo(3);
+        assertThat(violations).hasSize(6);
+        assertThat(violationErrors).hasSize(5);
+        assertThat(ErrorResponse.of(CommonResponseCode.BAD_REQUEST, violationErrors,
+            violations.size() - violationErrors.size()).getOmittedErrors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("fail-fast 설정이면 첫 번째 제약 조건 위반에서 검증을 멈춘다")
+    void fail_fast_stops_at_first_violation() {
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        ResponseKitConfiguration.failFastValidatorPostProcessor()
+            .postProcessBeforeInitialization(validator, "validator");
+        validator.afterPropertiesSet();
+        try {
+            assertThat(validator.validate(new Form())).hasSize(1);
+        } finally {
+            validator.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("마스킹 필드는 중첩 경로의 마지막 프로퍼티 이름으로도 매칭된다")
+    void masks_sensitive_fields() {
+        assertThat(policy.rejectedValue("password", "secret")).isEqualTo(FieldErrorPolicy.MASK);
+        assertThat(policy.rejectedValue("user.password", "secret")).isEqualTo(FieldErrorPolicy.MASK);
+        assertThat(policy.rejectedValue("newpassword", "secret")).isEqualTo("secret");
+    }
+
+    static class Form {
+
+        @NotBlank
+        String a;
+        @NotBlank
+        String b;
+        @NotBlank
+        String c;
+        @NotBlank
+        String d;
+        @NotBlank
+        String e;
+        @NotBlank
+        String f;
+    }
+}
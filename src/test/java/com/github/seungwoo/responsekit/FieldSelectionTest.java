@@ -0,0 +1,114 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.fields.FieldSelection;
+import com.github.seungwoo.responsekit.fields.FieldSelections;
+import com.github.seungwoo.responsekit.fields.InvalidFieldsException;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.jackson.ResponseKitJacksonModule;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class FieldSelectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ResponseKitJacksonModule());
+    private final FieldSelections selections = new FieldSelections("fields", 2, 8, 4);
+
+    record Order(long id, int total, String memo) {
+    }
+
+    record User(long id, String name, String email, List<Order> orders) {
+    }
+
+    private final User user = new User(1, "홍길동", "test@example.com",
+        List.of(new Order(10, 1000, "a"), new Order(11, 2000, "b")));
+
+    @Test
+    @DisplayName("선택한 경로만 data에 출력하고 배열 요소마다 같은 선택을 적용한다")
+    void serializes_only_selected_paths() throws Exception {
+        FieldSelection selection = selections.compile("id,name,orders.total");
+
+        String json = objectMapper.writeValueAsString(
+            ApiResponse.success(CommonResponseCode.SUCCESS, user).selectFields(selection));
+
+        assertThat(json).isEqualTo("{\"success\":true,\"code\":\"SUCCESS\",\"message\":\""
+            + CommonResponseCode.SUCCESS.getMessage()
+            + "\",\"data\":{\"id\":1,\"name\":\"홍길동\",\"orders\":[{\"total\":1000},{\"total\":2000}]}}");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 경로와 data에 없는 경로는 FieldError로 알려준다")
+    void rejects_invalid_paths() {
+        assertThatThrownBy(() -> selections.compile("id,,orders..total"))
+            .isInstanceOf(InvalidFieldsException.class)
+            .satisfies(ex -> assertThat(((InvalidFieldsException) ex).getFieldErrors())
+                .extracting(FieldError::getRejectedValue)
+                .containsExactly("", "orders..total"));
+
+        FieldSelection selection = selections.compile("id,password,orders.price");
+        assertThatThrownBy(() -> selection.validate(objectMapper, objectMapper.constructType(User.class)))
+            .isInstanceOf(InvalidFieldsException.class)
+            .satisfies(ex -> assertThat(((InvalidFieldsException) ex).getFieldErrors())
+                .extracting(FieldError::getRejectedValue)
+                .containsExactly("password", "orders.price"));
+    }
+
+    @Test
+    @DisplayName("같은 식은 한 번만 컴파일하고 캐시 크기를 넘으면 가장 오래 쓰지 않은 식을 버린다")
+    void caches_compiled_selections_with_lru_bound() {
+        FieldSelection first = selections.compile("id");
+        assertThat(selections.compile("id")).isSameAs(first);
+
+        selections.compile("name");
+        selections.compile("id");
+        selections.compile("email");
+
+        assertThat(selections.size()).isEqualTo(2);
+        assertThat(selections.compile("id")).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 임의의 식을 컴파일해도 캐시 크기는 제한되고 자주 쓰는 식은 남는다")
+    void concurrent_compiles_stay_bounded() throws Exception {
+        FieldSelections bounded = new FieldSelections("fields", 64, 8, 4);
+        FieldSelection hot = bounded.compile("id");
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 10_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        bounded.compile("f" + (offset + i));
+                        bounded.compile("id");
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 정리 중에 동시에 들어온 항목만큼은 잠시 넘을 수 있음
+        assertThat(bounded.size()).isLessThanOrEqualTo(64 + threads);
+        assertThat(bounded.compile("id")).isSameAs(hot);
+    }
+}
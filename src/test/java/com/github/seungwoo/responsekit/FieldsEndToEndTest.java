@@ -0,0 +1,83 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.seungwoo.responsekit.config.ResponseKitConfiguration;
+import com.github.seungwoo.responsekit.config.ResponseKitWebMvcConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+@SpringBootTest(properties = {"response-kit.fields.enabled=true", "response-kit.etag.enabled=true"})
+@AutoConfigureMockMvc
+class FieldsEndToEndTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Test
+    @DisplayName("fields 파라미터로 선택한 data 필드만 응답한다")
+    void selects_fields() throws Exception {
+        mvc.perform(get("/api/profiles/1").param("fields", "id,address.city"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.id").value(1))
+            .andExpect(jsonPath("$.data.address.city").value("서울"))
+            .andExpect(jsonPath("$.data.name").doesNotExist())
+            .andExpect(jsonPath("$.data.address.zipCode").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("data에 없는 필드를 선택하면 파라미터 이름과 경로를 담은 FieldError와 함께 BAD_REQUEST로 응답한다")
+    void unknown_field_returns_field_errors() throws Exception {
+        mvc.perform(get("/api/profiles/1").param("fields", "id,password"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.code").value("BAD_REQUEST"))
+            .andExpect(jsonPath("$.errors[0].field").value("fields"))
+            .andExpect(jsonPath("$.errors[0].rejectedValue").value("password"));
+    }
+
+    @Test
+    @DisplayName("ETag는 선택한 필드 기준으로 만들어져 같은 선택이면 304, 다른 선택이면 새 본문을 받는다")
+    void etag_follows_selected_fields() throws Exception {
+        String etag = mvc.perform(get("/api/profiles/1").param("fields", "id"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(get("/api/profiles/1").param("fields", "id").header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+
+        String other = mvc.perform(get("/api/profiles/1").param("fields", "name").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.name").value("홍길동"))
+            .andReturn().getResponse().getHeader("ETag");
+        assertThat(other).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Jackson 모듈을 끄고 fields를 켜면 선택이 조용히 무시되지 않도록 시작 시 실패한다")
+    void fails_without_jackson_module() {
+        new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, ResponseKitConfiguration.class,
+                ResponseKitWebMvcConfiguration.class))
+            .withPropertyValues("response-kit.fields.enabled=true", "response-kit.jackson.enabled=false")
+            .run(context -> assertThat(context).hasFailed()
+                .getFailure().rootCause().hasMessageContaining("response-kit.jackson.enabled"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.idempotency.IdempotencyScopeResolver;
+import com.github.seungwoo.responsekit.idempotency.IdempotentResponse;
+import com.github.seungwoo.responsekit.idempotency.InMemoryIdempotencyStore;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.web.IdempotencyFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class IdempotencyFilterTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(1024 * 1024);
+    private final ResponseKitMetrics metrics = new ResponseKitMetrics(true);
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, IdempotencyScopeResolver.principal(),
+        new ResponseBodyCache(new ObjectMapper()), metrics, "Idempotency-Key", List.of("POST"),
+        Duration.ofHours(1), Duration.ofSeconds(5), 1024);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 실행하지 않고 저장된 상태 코드와 본문을 재생한다")
+    void replays_stored_response() throws Exception {
+        FilterChain chain = respond(201, "{\"status\":201}");
+
+        MockHttpServletResponse first = post("key-1", chain);
+        MockHttpServletResponse retry = post("key-1", chain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getContentAsString()).isEqualTo("{\"status\":201}");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo("{\"status\":201}");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(post("key-2", chain).getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("4xx ErrorResponse는 저장하고 5xx는 저장하지 않아 재시도 시 다시 실행한다")
+    void stores_client_errors_but_not_server_errors() throws Exception {
+        post("conflict", respond(409, "{\"code\":\"DUPLICATED_EMAIL\"}"));
+        post("conflict", respond(409, "{\"code\":\"DUPLICATED_EMAIL\"}"));
+        assertThat(executions).hasValue(1);
+
+        post("failure", respond(500, "{\"code\":\"INTERNAL_ERROR\"}"));
+        post("failure", respond(500, "{\"code\":\"INTERNAL_ERROR\"}"));
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 들어온 중복 요청은 실행하지 않고 먼저 실행된 결과를 받는다")
+    void coalesces_in_flight_duplicates() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.getOutputStream().write("{\"status\":200}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        CompletableFuture<MockHttpServletResponse> owner = CompletableFuture.supplyAsync(() -> postQuietly(slow));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> postQuietly(slow));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(owner.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"status\":200}");
+        MockHttpServletResponse replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getContentAsString()).isEqualTo("{\"status\":200}");
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 본문으로 재사용하면 저장된 응답을 재생하지 않고 422로 응답한다")
+    void rejects_key_reuse_with_different_body() throws Exception {
+        FilterChain chain = respond(201, "{\"status\":201}");
+
+        post("key-1", "{\"email\":\"a@example.com\"}", chain);
+        MockHttpServletResponse reused = post("key-1", "{\"email\":\"b@example.com\"}", chain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(reused.getContentAsString()).contains("\"code\":\"UNPROCESSABLE_ENTITY\"");
+    }
+
+    @Test
+    @DisplayName("컨트롤러는 지문 계산에 먼저 읽은 요청 본문을 그대로 다시 읽는다")
+    void chain_reads_buffered_body() throws Exception {
+        FilterChain echo = (request, response) -> {
+            executions.incrementAndGet();
+            response.getOutputStream().write(request.getInputStream().readAllBytes());
+        };
+
+        MockHttpServletResponse first = post("key-1", "{\"email\":\"a@example.com\"}", echo);
+
+        assertThat(first.getContentAsString()).isEqualTo("{\"email\":\"a@example.com\"}");
+    }
+
+    @Test
+    @DisplayName("사용자를 구분할 수 없는 익명 요청은 저장/재생하지 않고 매번 실행한다")
+    void anonymous_requests_are_not_replayed() throws Exception {
+        FilterChain chain = respond(201, "{\"status\":201}");
+
+        MockHttpServletResponse first = anonymousPost(chain);
+        MockHttpServletResponse second = anonymousPost(chain);
+
+        assertThat(executions).hasValue(2);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(first.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 재조회된 응답보다 한 번도 재조회되지 않은 응답을 먼저 버린다")
+    void evicts_probation_before_protected() {
+        AtomicLong now = new AtomicLong();
+        InMemoryIdempotencyStore small = new InMemoryIdempotencyStore(1000, now::get);
+        small.put("hot", response(200), Duration.ofMinutes(1));
+        assertThat(small.get("hot")).isNotNull();
+
+        for (int i = 0; i < 10; i++) {
+            small.put("cold-" + i, response(200), Duration.ofMinutes(1));
+        }
+
+        assertThat(small.get("hot")).isNotNull();
+        assertThat(small.get("cold-0")).isNull();
+        assertThat(small.usedBytes()).isLessThanOrEqualTo(1000);
+
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        assertThat(small.get("hot")).isNull();
+    }
+
+    private FilterChain respond(int status, String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse post(String key, FilterChain chain) throws Exception {
+        return post(key, "{}", chain);
+    }
+
+    private MockHttpServletResponse post(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/signup");
+        request.setUserPrincipal(() -> "user-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.addHeader("Idempotency-Key", key);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse anonymousPost(FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/signup");
+        request.addHeader("Idempotency-Key", "anonymous-key");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse postQuietly(FilterChain chain) {
+        try {
+            return post("same-key", chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static IdempotentResponse response(int status) {
+        return new IdempotentResponse(status, "application/json", new byte[100], new byte[32]);
+    }
+}
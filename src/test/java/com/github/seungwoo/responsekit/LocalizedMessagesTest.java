@@ -0,0 +1,78 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.seungwoo.responsekit.example.UserResponseCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.seungwoo.responsekit.message.LocalizedMessages;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.HttpStatusResponseCode;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class LocalizedMessagesTest {
+
+    private final StaticMessageSource messageSource = messageSource();
+    private final LocalizedMessages messages = new LocalizedMessages(messageSource, List.of(Locale.ENGLISH), "");
+
+    @Test
+    @DisplayName("지원 로케일은 언어가 같으면 MessageSource 메시지를, 아니면 기본 메시지를 사용한다")
+    void resolves_message_per_locale() {
+        int english = messages.localeIndex(Locale.US);
+        int japanese = messages.localeIndex(Locale.JAPANESE);
+
+        assertThat(messages.message(CommonResponseCode.NOT_FOUND, english)).isEqualTo("Resource not found.");
+        assertThat(messages.message(CommonResponseCode.NOT_FOUND, japanese))
+            .isEqualTo(CommonResponseCode.NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("MessageSource에 없는 코드는 기본 메시지로 대체된다")
+    void falls_back_to_default_message() {
+        int english = messages.localeIndex(Locale.ENGLISH);
+
+        assertThat(messages.message(UserResponseCode.USER_NOT_FOUND, english))
+            .isEqualTo(UserResponseCode.USER_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("Enum이 아닌 코드는 테이블에 보관하지 않고 호출마다 MessageSource에서 조회한다")
+    void resolves_non_enum_code_per_call() {
+        int english = messages.localeIndex(Locale.ENGLISH);
+        BaseResponseCode remote = new HttpStatusResponseCode(HttpStatus.NOT_FOUND);
+
+        assertThat(messages.message(remote, english)).isEqualTo("Resource not found.");
+        messageSource.addMessage("NOT_FOUND", Locale.ENGLISH, "Not found.");
+        assertThat(messages.message(remote, english)).isEqualTo("Not found.");
+    }
+
+    @Test
+    @DisplayName("로케일별 메시지를 쓰면 캐시된 에러 응답에 Vary: Accept-Language가 붙는다")
+    void localized_cached_errors_vary_on_accept_language() {
+        ResponseBodyCache localized = new ResponseBodyCache(new ObjectMapper(), messages);
+        ResponseBodyCache plain = new ResponseBodyCache(new ObjectMapper(), LocalizedMessages.none());
+
+        assertThat(localized.error(CommonResponseCode.NOT_FOUND, Locale.ENGLISH).getHeaders().getVary())
+            .containsExactly(HttpHeaders.ACCEPT_LANGUAGE);
+        assertThat(localized.error(new HttpStatusResponseCode(HttpStatus.GONE), Locale.ENGLISH).getHeaders().getVary())
+            .containsExactly(HttpHeaders.ACCEPT_LANGUAGE);
+        assertThat(plain.error(CommonResponseCode.NOT_FOUND, Locale.ENGLISH).getHeaders().getVary()).isEmpty();
+    }
+
+    private static StaticMessageSource messageSource() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("NOT_FOUND", Locale.ENGLISH, "Resource not found.");
+        return messageSource;
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.github.seungwoo.responsekit.logging.RateLimitedExceptionLogStrategy;
+import com.github.seungwoo.responsekit.logging.StackTraceFingerprint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class RateLimitedExceptionLogStrategyTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(RateLimitedExceptionLogStrategyTest.class);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("키마다 burst개까지 기록하고, 초과분은 개수만 셌다가 다음 기록 뒤에 요약한다")
+    void burst_then_refill_reports_suppressed_count() {
+        RateLimitedExceptionLogStrategy strategy = strategy(1, 3, Duration.ofSeconds(10), 100);
+
+        for (int i = 0; i < 5; i++) {
+            strategy.log(logger, Level.WARN, "NOT_FOUND", "missing {}", i);
+        }
+        assertThat(messages()).containsExactly("missing 0", "missing 1", "missing 2");
+
+        // 1초에 한 개씩 다시 채워짐
+        advance(1, TimeUnit.SECONDS);
+        strategy.log(logger, Level.WARN, "NOT_FOUND", "missing {}", 5);
+        strategy.log(logger, Level.WARN, "NOT_FOUND", "missing {}", 6);
+
+        assertThat(messages()).containsExactly("missing 0", "missing 1", "missing 2", "missing 5",
+            "[NOT_FOUND] 2 more occurrences suppressed");
+    }
+
+    @Test
+    @DisplayName("같은 지문의 스택 트레이스는 창마다 한 번만 출력하고, 창이 바뀌면 이전 창의 생략 횟수를 요약한다")
+    void stack_trace_once_per_window() {
+        RateLimitedExceptionLogStrategy strategy = strategy(1, 3, Duration.ofSeconds(10), 100);
+        List<RuntimeException> failures = sameSiteExceptions(4);
+
+        for (int i = 0; i < 3; i++) {
+            strategy.logWithStackTrace(logger, Level.ERROR, "INTERNAL_ERROR", "[Server Error]", failures.get(i));
+        }
+        advance(10, TimeUnit.SECONDS);
+        strategy.logWithStackTrace(logger, Level.ERROR, "INTERNAL_ERROR", "[Server Error]", failures.get(3));
+
+        List<ILoggingEvent> events = appender.list;
+        assertThat(events).hasSize(5);
+        assertThat(events.get(0).getThrowableProxy()).isNotNull();
+        assertThat(events.get(1).getThrowableProxy()).isNull();
+        assertThat(events.get(1).getFormattedMessage()).contains("stack trace already logged");
+        assertThat(events.get(3).getFormattedMessage()).endsWith("2 more occurrences in the last window");
+        assertThat(events.get(4).getThrowableProxy()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키 개수가 maxKeys를 넘으면 새 키는 하나의 공용 버킷을 함께 사용하고, 생략 요약은 공용 버킷 이름으로 남긴다")
+    void overflow_keys_share_one_bucket() {
+        RateLimitedExceptionLogStrategy strategy = strategy(1, 1, Duration.ofSeconds(10), 2);
+
+        for (String key : List.of("A", "B", "C", "D")) {
+            strategy.log(logger, Level.WARN, key, "event {}", key);
+        }
+        assertThat(messages()).containsExactly("event A", "event B", "event C");
+
+        advance(1, TimeUnit.SECONDS);
+        strategy.log(logger, Level.WARN, "E", "event {}", "E");
+        assertThat(messages()).endsWith("event E",
+            "[" + RateLimitedExceptionLogStrategy.OVERFLOW_KEY + "] 1 more occurrences suppressed");
+    }
+
+    @Test
+    @DisplayName("지문은 메시지가 달라도 같은 위치의 같은 예외면 같고, 위치나 원인이 다르면 달라진다")
+    void fingerprint_ignores_message() {
+        List<RuntimeException> sameSite = sameSiteExceptions(3);
+        RuntimeException otherSite = new IllegalStateException("failure 0");
+        long fingerprint = StackTraceFingerprint.of(sameSite.get(0));
+
+        assertThat(StackTraceFingerprint.of(sameSite.get(1))).isEqualTo(fingerprint);
+        assertThat(StackTraceFingerprint.of(otherSite)).isNotEqualTo(fingerprint);
+
+        sameSite.get(2).initCause(new IllegalArgumentException());
+        assertThat(StackTraceFingerprint.of(sameSite.get(2))).isNotEqualTo(fingerprint);
+    }
+
+    private RateLimitedExceptionLogStrategy strategy(double permitsPerSecond, int burst, Duration window,
+        int maxKeys) {
+        return new RateLimitedExceptionLogStrategy(permitsPerSecond, burst, window, maxKeys, now::get);
+    }
+
+    private void advance(long amount, TimeUnit unit) {
+        now.addAndGet(unit.toNanos(amount));
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+
+    // 같은 줄에서 만들어 스택 트레이스가 같고 메시지만 다른 예외
+    private static List<RuntimeException> sameSiteExceptions(int count) {
+        List<RuntimeException> exceptions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            exceptions.add(new IllegalStateException("failure " + i));
+        }
+        return exceptions;
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.seungwoo.responsekit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.example.UserNotFoundException;
+import com.github.seungwoo.responsekit.logging.DefaultExceptionLogStrategy;
+import com.github.seungwoo.responsekit.mapping.ExceptionMappings;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.reactive.ReactiveGlobalExceptionHandler;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.ResponseBodyCache;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.server.ResponseStatusException;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ReactiveGlobalExceptionHandlerTest {
+
+    private AnnotationConfigApplicationContext context;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(ReactiveTestConfig.class);
+        client = WebTestClient.bindToApplicationContext(context).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("매핑되지 않은 경로는 NOT_FOUND로 응답한다")
+    void not_found() {
+        client.get().uri("/reactive/missing").exchange()
+            .expectStatus().isNotFound()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody().jsonPath("$.code").isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 메서드는 Allow 헤더와 함께 METHOD_NOT_ALLOWED로 응답한다")
+    void method_not_allowed() {
+        client.delete().uri("/reactive/users").exchange()
+            .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED)
+            .expectHeader().exists("Allow")
+            .expectBody().jsonPath("$.code").isEqualTo("METHOD_NOT_ALLOWED");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 Content-Type은 UNSUPPORTED_MEDIA_TYPE으로 응답한다")
+    void unsupported_media_type() {
+        client.post().uri("/reactive/users").contentType(MediaType.TEXT_PLAIN).bodyValue("name").exchange()
+            .expectStatus().isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+            .expectBody().jsonPath("$.code").isEqualTo("UNSUPPORTED_MEDIA_TYPE");
+    }
+
+    @Test
+    @DisplayName("ResponseStatusException은 예외의 상태 그대로 공통 코드 또는 상태 이름 코드로 응답한다")
+    void response_status_exception_keeps_status() {
+        client.get().uri("/reactive/unavailable").exchange()
+            .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE)
+            .expectBody().jsonPath("$.code").isEqualTo("SERVICE_UNAVAILABLE");
+
+        client.get().uri("/reactive/not-acceptable").exchange()
+            .expectStatus().isEqualTo(HttpStatus.NOT_ACCEPTABLE)
+            .expectBody()
+            .jsonPath("$.code").isEqualTo("NOT_ACCEPTABLE")
+            .jsonPath("$.message").isEqualTo("Not Acceptable");
+    }
+
+    @Test
+    @DisplayName("CustomException은 예외의 응답 코드로 응답한다")
+    void custom_exception() {
+        client.get().uri("/reactive/users/unknown").exchange()
+            .expectStatus().isNotFound()
+            .expectBody().jsonPath("$.code").isEqualTo("USER_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 예외는 INTERNAL_ERROR로 응답한다")
+    void unexpected_exception() {
+        client.get().uri("/reactive/boom").exchange()
+            .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+            .expectBody().jsonPath("$.code").isEqualTo("INTERNAL_ERROR");
+    }
+
+    @Test
+    @DisplayName("FieldError 응답 직렬화에 실패하면 캐시된 INTERNAL_ERROR 본문으로 응답한다")
+    void field_error_serialization_failure_falls_back_to_internal_error() {
+        try (AnnotationConfigApplicationContext failing =
+                 new AnnotationConfigApplicationContext(FailingSerializationConfig.class)) {
+            WebTestClient.bindToApplicationContext(failing).build()
+                .get().uri("/reactive/invalid").exchange()
+                .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                .expectBody().jsonPath("$.code").isEqualTo("INTERNAL_ERROR");
+        }
+    }
+
+    @Configuration
+    @EnableWebFlux
+    static class ReactiveTestConfig {
+
+        @Bean
+        ReactiveGlobalExceptionHandler reactiveGlobalExceptionHandler() {
+            return new ReactiveGlobalExceptionHandler(new ResponseBodyCache(new ObjectMapper()),
+                new DefaultExceptionLogStrategy(), new ResponseKitMetrics(true), ExceptionMappings.empty(),
+                RecentErrors.disabled());
+        }
+
+        @Bean
+        ReactiveTestController reactiveTestController() {
+            return new ReactiveTestController();
+        }
+    }
+
+    @Configuration
+    @EnableWebFlux
+    static class FailingSerializationConfig {
+
+        @Bean
+        ReactiveGlobalExceptionHandler reactiveGlobalExceptionHandler() {
+            // 캐시 본문(errors 없음)은 정상 직렬화되고 FieldError가 있는 본문만 실패하는 매퍼
+            ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+                .addSerializer(FieldError.class, new JsonSerializer<>() {
+                    @Override
+                    public void serialize(FieldError value, JsonGenerator gen, SerializerProvider provider)
+                        throws IOException {
+                        throw new JsonMappingException(gen, "broken");
+                    }
+                }));
+            return new ReactiveGlobalExceptionHandler(new ResponseBodyCache(objectMapper),
+                new DefaultExceptionLogStrategy(), new ResponseKitMetrics(true), ExceptionMappings.empty(),
+                RecentErrors.disabled());
+        }
+
+        @Bean
+        ReactiveTestController reactiveTestController() {
+            return new ReactiveTestController();
+        }
+    }
+
+    @RestController
+    static class ReactiveTestController {
+
+        @PostMapping("/reactive/users")
+        Map<String, String> create(@RequestBody Map<String, String> user) {
+            return user;
+        }
+
+        @GetMapping("/reactive/users/unknown")
+        String unknownUser() {
+            throw new UserNotFoundException();
+        }
+
+        @GetMapping("/reactive/unavailable")
+        String unavailable() {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "maintenance");
+        }
+
+        @GetMapping("/reactive/not-acceptable")
+        String notAcceptable() {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE);
+        }
+
+        @GetMapping("/reactive/invalid")
+        String invalid() {
+            try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+                throw new ConstraintViolationException(factory.getValidator().validate(new NamedUser("")));
+            }
+        }
+
+        @GetMapping("/reactive/boom")
+        String boom() {
+            throw new UnsupportedOperationException("boom");
+        }
+    }
+
+    record NamedUser(@NotBlank String name) {
+    }
+}
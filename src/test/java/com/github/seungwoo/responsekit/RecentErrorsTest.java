@@ -0,0 +1,94 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.seungwoo.responsekit.diagnostics.RecentError;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.ResponseCodeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class RecentErrorsTest {
+
+    @Test
+    @DisplayName("기록한 에러를 최신순으로 조회하고 응답 코드로 거를 수 있다")
+    void snapshot_filters_by_code() {
+        RecentErrors recentErrors = new RecentErrors(8);
+        recentErrors.record(CommonResponseCode.NOT_FOUND, ResponseCodeException.of(CommonResponseCode.NOT_FOUND),
+            "/api/users/1");
+        recentErrors.record(CommonResponseCode.INTERNAL_ERROR, new IllegalStateException("boom"), "/api/orders");
+
+        List<RecentError> all = recentErrors.snapshot(null, null, 10);
+        List<RecentError> notFound = recentErrors.snapshot("NOT_FOUND", Instant.now().minusSeconds(60), 10);
+
+        assertThat(all).hasSize(2);
+        assertThat(notFound).singleElement().satisfies(error -> {
+            assertThat(error.status()).isEqualTo(404);
+            assertThat(error.path()).isEqualTo("/api/users/1");
+            assertThat(error.exception()).isEqualTo(ResponseCodeException.class.getName());
+            assertThat(error.fingerprint()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("버퍼 크기를 넘으면 오래된 에러를 덮어쓰고 메모리는 늘어나지 않는다")
+    void overwrites_oldest_when_full() {
+        RecentErrors recentErrors = new RecentErrors(4);
+        for (int i = 0; i < 10; i++) {
+            recentErrors.record(CommonResponseCode.BAD_REQUEST, null, "/api/" + i);
+        }
+
+        assertThat(recentErrors.capacity()).isEqualTo(4);
+        assertThat(recentErrors.recordedCount()).isEqualTo(10);
+        assertThat(recentErrors.snapshot(null, null, 10)).extracting(RecentError::path)
+            .containsExactlyInAnyOrder("/api/6", "/api/7", "/api/8", "/api/9");
+    }
+
+    @Test
+    @DisplayName("코드별 발생률은 구간 안의 에러 수를 초 단위로 나눈 값이다")
+    void rates_per_code() {
+        RecentErrors recentErrors = new RecentErrors(16);
+        for (int i = 0; i < 6; i++) {
+            recentErrors.record(CommonResponseCode.CONFLICT, null, "/api/orders");
+        }
+        recentErrors.record(CommonResponseCode.NOT_FOUND, null, "/api/users/1");
+
+        RecentErrors.Rates rates = recentErrors.rates(Duration.ofMinutes(1));
+
+        assertThat(rates.truncated()).isFalse();
+        assertThat(rates.codes()).extracting(RecentErrors.CodeRate::code).containsExactly("CONFLICT", "NOT_FOUND");
+        assertThat(rates.codes().get(0).perSecond()).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 조회 결과의 필드가 서로 섞이지 않는다")
+    void concurrent_writes_are_never_torn() throws Exception {
+        RecentErrors recentErrors = new RecentErrors(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            CommonResponseCode code = t % 2 == 0 ? CommonResponseCode.NOT_FOUND : CommonResponseCode.CONFLICT;
+            executor.execute(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    recentErrors.record(code, null, code.getCode());
+                }
+            });
+        }
+        for (int i = 0; i < 200; i++) {
+            assertThat(recentErrors.snapshot(null, null, 64))
+                .allSatisfy(error -> assertThat(error.path()).isEqualTo(error.code()));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
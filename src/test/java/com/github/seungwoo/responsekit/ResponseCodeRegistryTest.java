@@ -0,0 +1,87 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.seungwoo.responsekit.example.UserResponseCode;
+import com.github.seungwoo.responsekit.registry.ResponseCodeIndex;
+import com.github.seungwoo.responsekit.registry.ResponseCodeRegistry;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ResponseCodeRegistryTest {
+
+    @Test
+    @DisplayName("빌드 시 생성된 색인으로 공통 코드와 도메인 코드를 코드 문자열로 찾는다")
+    void finds_codes_from_generated_indexes() {
+        ResponseCodeRegistry registry = ResponseCodeRegistry.getInstance();
+
+        assertThat(registry.find("NOT_FOUND")).containsSame(CommonResponseCode.NOT_FOUND);
+        assertThat(registry.find("USER_NOT_FOUND")).containsSame(UserResponseCode.USER_NOT_FOUND);
+        assertThat(registry.find("NO_SUCH_CODE")).isEmpty();
+        assertThat(registry.types()).contains(CommonResponseCode.class, UserResponseCode.class);
+    }
+
+    @Test
+    @DisplayName("서로 다른 색인에 같은 코드가 있으면 합치는 시점에 실패한다")
+    void rejects_duplicates_across_indexes() {
+        ResponseCodeIndex common = index(CommonResponseCode.NOT_FOUND);
+        ResponseCodeIndex duplicate = index(UserResponseCode.USER_NOT_FOUND, "NOT_FOUND");
+
+        assertThatThrownBy(() -> ResponseCodeRegistry.of(List.of(common, duplicate)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("여러 jar가 같은 이름의 색인 클래스를 등록하면 레지스트리를 만드는 시점에 실패한다")
+    void rejects_same_index_name_in_multiple_jars(@TempDir Path first, @TempDir Path second) throws Exception {
+        for (Path root : List.of(first, second)) {
+            Path services = Files.createDirectories(root.resolve("META-INF/services"));
+            Files.writeString(services.resolve(ResponseCodeIndex.class.getName()),
+                "com.example.GeneratedResponseCodeIndex\n");
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+            new URL[] {first.toUri().toURL(), second.toUri().toURL()}, null)) {
+            assertThatThrownBy(() -> ResponseCodeRegistry.load(classLoader))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("com.example.GeneratedResponseCodeIndex");
+        }
+    }
+
+    private static ResponseCodeIndex index(BaseResponseCode constant) {
+        return index(constant, constant.getCode());
+    }
+
+    private static ResponseCodeIndex index(BaseResponseCode constant, String code) {
+        return new ResponseCodeIndex() {
+            @Override
+            public List<Class<? extends BaseResponseCode>> types() {
+                return List.of();
+            }
+
+            @Override
+            public String[] codes() {
+                return new String[] {code};
+            }
+
+            @Override
+            public BaseResponseCode[] constants() {
+                return new BaseResponseCode[] {constant};
+            }
+        };
+    }
+}
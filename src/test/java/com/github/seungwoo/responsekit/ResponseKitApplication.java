@@ -0,0 +1,23 @@
+package com.github.seungwoo.responsekit;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ *
+ * 테스트용 애플리케이션
+ * 예제 컨트롤러만 스캔하므로 라이브러리 Bean은 모두 자동 구성(AutoConfiguration.imports)으로 등록됩니다.
+ * 우선순위 테스트용 예외 처리기(CustomExceptionHandlerTest)는 직접 등록합니다.
+ */
+@SpringBootApplication(scanBasePackages = "com.github.seungwoo.responsekit.example")
+@Import(CustomExceptionHandlerTest.class)
+public class ResponseKitApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ResponseKitApplication.class, args);
+    }
+
+}
@@ -1,13 +1,32 @@
 package com.github.seungwoo.responsekit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.seungwoo.responsekit.config.ResponseKitConfiguration;
+import com.github.seungwoo.responsekit.metrics.ApiResponseMetricsAdvice;
+import com.github.seungwoo.responsekit.shared.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
 
 @SpringBootTest
 class ResponseKitApplicationTests {
 
+    @Autowired
+    ApplicationContext context;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    @DisplayName("컴포넌트 스캔 범위 밖에서도 자동 구성으로 예외 처리기가 한 번만 등록된다")
+    void registers_beans_through_auto_configuration() {
+        assertThat(context.getBeansOfType(ResponseKitConfiguration.class)).hasSize(1);
+        assertThat(context.getBeansOfType(GlobalExceptionHandler.class)).hasSize(1);
+        assertThat(context.getBeansOfType(ApiResponseMetricsAdvice.class)).hasSize(1);
+    }
+
 }
@@ -0,0 +1,80 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.ErrorResponse;
+import com.github.seungwoo.responsekit.response.FieldError;
+import com.github.seungwoo.responsekit.response.jackson.ResponseKitJacksonModule;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ResponseKitJacksonModuleTest {
+
+    private final ObjectMapper beanMapper = new ObjectMapper();
+    private final ObjectMapper moduleMapper = new ObjectMapper().registerModule(new ResponseKitJacksonModule());
+
+    @Test
+    @DisplayName("전용 직렬화기는 기본 BeanSerializer와 같은 JSON을 출력한다")
+    void module_matches_bean_serializer() throws Exception {
+        for (Object body : bodies()) {
+            assertThat(moduleMapper.writeValueAsString(body)).isEqualTo(beanMapper.writeValueAsString(body));
+        }
+    }
+
+    @Test
+    @DisplayName("PropertyNamingStrategy와 포함 규칙을 바꿔도 기본 BeanSerializer와 같은 JSON을 출력한다")
+    void module_honors_naming_strategy_and_inclusion() throws Exception {
+        List<Supplier<ObjectMapper>> configurations = List.of(
+            () -> new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE),
+            () -> new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL),
+            () -> new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL),
+            () -> new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY),
+            () -> new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_DEFAULT)
+        );
+
+        for (Supplier<ObjectMapper> configuration : configurations) {
+            ObjectMapper bean = configuration.get();
+            ObjectMapper module = configuration.get().registerModule(new ResponseKitJacksonModule());
+            for (Object body : bodies()) {
+                assertThat(module.writeValueAsString(body)).isEqualTo(bean.writeValueAsString(body));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("NON_NULL 포함 규칙이면 data가 없을 때 data 필드를 생략한다")
+    void module_honors_non_null_inclusion() throws Exception {
+        ObjectMapper mapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .registerModule(new ResponseKitJacksonModule());
+
+        assertThat(mapper.writeValueAsString(ApiResponse.success(CommonResponseCode.SUCCESS)))
+            .doesNotContain("\"data\"");
+    }
+
+    private static List<Object> bodies() {
+        return List.of(
+            ApiResponse.success(CommonResponseCode.SUCCESS, Map.of("email", "test@example.com")),
+            ApiResponse.success(CommonResponseCode.SUCCESS),
+            ApiResponse.fail(CommonResponseCode.BAD_REQUEST),
+            ErrorResponse.of(CommonResponseCode.NOT_FOUND),
+            ErrorResponse.of(CommonResponseCode.BAD_REQUEST, List.of(
+                new FieldError("email", "wrongemail", "이메일 형식이 아닙니다."),
+                new FieldError("name", null, "이름은 필수입니다.")
+            ))
+        );
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.seungwoo.responsekit.example.UserResponseCode;
+import com.github.seungwoo.responsekit.metrics.LatencyHistogram;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMeterBinder;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.shared.BaseResponseCode;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import com.github.seungwoo.responsekit.shared.HttpStatusResponseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+class ResponseKitMetricsTest {
+
+    private final ResponseKitMetrics metrics = new ResponseKitMetrics(true);
+
+    @Test
+    @DisplayName("처리된 에러는 응답 코드, HTTP 상태, 예외 타입별로 집계된다")
+    void counts_codes_statuses_and_exceptions() {
+        metrics.recordError(CommonResponseCode.NOT_FOUND, new IllegalStateException());
+        metrics.recordError(UserResponseCode.USER_NOT_FOUND, null);
+        metrics.recordError(new HttpStatusResponseCode(HttpStatus.NOT_ACCEPTABLE), new IllegalStateException());
+        metrics.recordApiResponse(true);
+        metrics.recordApiResponse(false);
+        metrics.recordApiResponse(true);
+
+        assertThat(metrics.count(CommonResponseCode.NOT_FOUND)).isEqualTo(1);
+        assertThat(metrics.count(UserResponseCode.USER_NOT_FOUND)).isEqualTo(1);
+        assertThat(metrics.count(new HttpStatusResponseCode(HttpStatus.NOT_ACCEPTABLE))).isEqualTo(1);
+        assertThat(metrics.statusCount(404)).isEqualTo(2);
+        assertThat(metrics.statusCount(406)).isEqualTo(1);
+        assertThat(metrics.exceptionCount(IllegalStateException.class)).isEqualTo(2);
+        assertThat(metrics.successCount()).isEqualTo(2);
+        assertThat(metrics.failCount()).isEqualTo(1);
+
+        List<String> codes = new ArrayList<>();
+        metrics.forEachCode((code, counter) -> codes.add(code.getCode()));
+        assertThat(codes).contains("NOT_FOUND", "USER_NOT_FOUND", ResponseKitMetrics.OTHER_CODE)
+            .doesNotContain("NOT_ACCEPTABLE");
+    }
+
+    @Test
+    @DisplayName("Enum이 아닌 코드는 코드 문자열과 관계없이 HTTP 상태별 OTHER 미터 하나로 집계된다")
+    void non_enum_codes_share_one_meter_per_status() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new ResponseKitMeterBinder(metrics).bindTo(registry);
+        int metersBefore = registry.getMeters().size();
+
+        for (int i = 0; i < 1000; i++) {
+            metrics.recordError(new RemoteCode("REMOTE_" + i, HttpStatus.CONFLICT), null);
+        }
+
+        assertThat(registry.getMeters()).hasSize(metersBefore + 1);
+        assertThat(registry.get("responsekit.responses").tags("code", ResponseKitMetrics.OTHER_CODE, "status", "409")
+            .functionCounter().count()).isEqualTo(1000);
+        assertThat(metrics.count(new RemoteCode("ANY", HttpStatus.CONFLICT))).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 아무것도 집계하지 않는다")
+    void disabled_records_nothing() {
+        ResponseKitMetrics disabled = new ResponseKitMetrics(false);
+
+        disabled.recordError(CommonResponseCode.NOT_FOUND, new IllegalStateException());
+        disabled.recordApiResponse(true);
+        disabled.recordHandlerLatency("handleNotFound", System.nanoTime());
+
+        assertThat(disabled.count(CommonResponseCode.NOT_FOUND)).isZero();
+        assertThat(disabled.statusCount(404)).isZero();
+        assertThat(disabled.successCount()).isZero();
+        assertThat(disabled.handlerLatency("handleNotFound").getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연시간 히스토그램은 기록한 값으로 개수/합계/최대값과 2의 거듭제곱 버킷 상한 백분위를 계산한다")
+    void histogram_percentiles_from_known_latencies() {
+        LatencyHistogram histogram = metrics.handlerLatency("handleCustomException");
+        for (int i = 0; i < 90; i++) {
+            histogram.record(1_000);
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(100_000);
+        }
+        histogram.record(10_000_000);
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getTotalNanos()).isEqualTo(90 * 1_000L + 9 * 100_000L + 10_000_000L);
+        assertThat(histogram.getMaxNanos()).isEqualTo(10_000_000);
+        // 1,000 → [512, 1023], 100,000 → [65536, 131071], 10,000,000 → [8388608, 16777215]
+        assertThat(histogram.percentileNanos(0.5)).isEqualTo(1_023);
+        assertThat(histogram.percentileNanos(0.9)).isEqualTo(1_023);
+        assertThat(histogram.percentileNanos(0.99)).isEqualTo(131_071);
+        assertThat(histogram.percentileNanos(0.999)).isEqualTo(16_777_215);
+        assertThat(metrics.handlerLatency("empty").percentileNanos(0.99)).isZero();
+    }
+
+    @Test
+    @DisplayName("바인더는 기존 카운터와 바인딩 이후 처음 등장한 코드/예외/핸들러를 모두 미터로 등록한다")
+    void binder_registers_meters() {
+        metrics.recordError(CommonResponseCode.NOT_FOUND, new IllegalArgumentException());
+        metrics.recordApiResponse(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new ResponseKitMeterBinder(metrics).bindTo(registry);
+        BaseResponseCode later = UserResponseCode.DUPLICATED_EMAIL;
+        metrics.recordError(later, new IllegalStateException());
+        metrics.handlerLatency("handleCustomException").record(TimeUnit.MILLISECONDS.toNanos(3));
+
+        assertThat(registry.get("responsekit.responses").tags("code", "NOT_FOUND", "status", "404")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("responsekit.responses").tags("code", "DUPLICATED_EMAIL", "status", "409")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("responsekit.exceptions").tag("exception", IllegalStateException.class.getName())
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("responsekit.api.responses").tag("result", "success")
+            .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("responsekit.handler.latency").tag("handler", "handleCustomException")
+            .functionTimer().count()).isEqualTo(1);
+        assertThat(registry.get("responsekit.handler.latency.max").tag("handler", "handleCustomException")
+            .gauge().value()).isEqualTo(3.0);
+    }
+
+    private record RemoteCode(String getCode, HttpStatus getHttpStatus) implements BaseResponseCode {
+
+        @Override
+        public String getMessage() {
+            return getCode;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.seungwoo.responsekit.diagnostics.RecentError;
+import com.github.seungwoo.responsekit.diagnostics.RecentErrors;
+import com.github.seungwoo.responsekit.example.UserResponseCode;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StreamingApiResponseTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ResponseKitMetrics metrics;
+
+    @Autowired
+    RecentErrors recentErrors;
+
+    @Test
+    @DisplayName("stream 응답은 envelope 필드 뒤에 data 배열을 요소 단위로 출력한다")
+    void stream_writes_json_envelope() throws Exception {
+        mvc.perform(get("/api/export"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.code").value("SUCCESS"))
+            .andExpect(jsonPath("$.data.length()").value(3));
+    }
+
+    @Test
+    @DisplayName("Accept가 application/x-ndjson이면 한 줄에 하나씩 출력한다")
+    void stream_writes_ndjson() throws Exception {
+        String body = mvc.perform(get("/api/export").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).isEqualTo(
+            "{\"success\":true,\"code\":\"SUCCESS\",\"message\":\"요청이 성공적으로 처리되었습니다.\"}\n1\n2\n3\n");
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 CustomException이 발생하면 해당 코드로 trailing error 필드를 남긴다")
+    void stream_writes_trailing_error() throws Exception {
+        mvc.perform(get("/api/export/broken"))
+            .andExpect(jsonPath("$.data.length()").value(2))
+            .andExpect(jsonPath("$.error.code").value("USER_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 발생한 예외는 trailing error 코드로 메트릭과 최근 에러에 기록된다")
+    void stream_error_is_recorded() throws Exception {
+        long before = metrics.count(UserResponseCode.USER_NOT_FOUND);
+        Instant since = Instant.now();
+
+        mvc.perform(get("/api/export/broken"))
+            .andExpect(jsonPath("$.error.code").value("USER_NOT_FOUND"));
+
+        assertThat(metrics.count(UserResponseCode.USER_NOT_FOUND)).isEqualTo(before + 1);
+        assertThat(recentErrors.snapshot("USER_NOT_FOUND", since, 10))
+            .extracting(RecentError::path)
+            .contains("/api/export/broken");
+    }
+}
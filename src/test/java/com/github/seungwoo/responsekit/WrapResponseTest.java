@@ -0,0 +1,132 @@
+package com.github.seungwoo.responsekit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.github.seungwoo.responsekit.metrics.ResponseKitMetrics;
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WrapResponseTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    ResponseKitMetrics metrics;
+
+    @Test
+    @DisplayName("@WrapResponse 컨트롤러의 반환 값은 ApiResponse 형식의 data로 감싸진다")
+    void wraps_return_value() throws Exception {
+        mvc.perform(get("/api/wrapped"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.code").value("SUCCESS"))
+            .andExpect(jsonPath("$.data.email").value("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("String과 이미 ApiResponse인 반환 값은 감싸지 않는다")
+    void skips_preformatted_values() throws Exception {
+        mvc.perform(get("/api/wrapped/signup"))
+            .andExpect(content().string("plain"));
+        mvc.perform(get("/api/wrapped/already"))
+            .andExpect(jsonPath("$.code").value("AUTH-001"))
+            .andExpect(jsonPath("$.data").value("wrapped"));
+    }
+
+    @Test
+    @DisplayName("Stream 반환 값은 요소 단위 스트리밍 응답으로 출력된다")
+    void streams_stream_return_value() throws Exception {
+        mvc.perform(get("/api/wrapped/stream"))
+            .andExpect(jsonPath("$.code").value("SUCCESS"))
+            .andExpect(jsonPath("$.data.length()").value(3));
+    }
+
+    @Test
+    @DisplayName("감싼 응답도 ResponseBodyAdvice를 거친다")
+    void wrapped_value_passes_response_body_advice() throws Exception {
+        mvc.perform(get("/api/wrapped"))
+            .andExpect(header().string(CodeHeaderAdvice.HEADER, "SUCCESS"))
+            .andExpect(jsonPath("$.data.email").value("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("감싼 응답도 produces에 선언한 형식으로 출력된다")
+    void wrapped_value_honors_produces() throws Exception {
+        byte[] body = mvc.perform(get("/api/wrapped/cbor").accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(body).path("data").path("email").asText())
+            .isEqualTo("test@example.com");
+    }
+
+    @Test
+    @DisplayName("감싼 성공 응답은 한 번만 집계된다")
+    void wrapped_success_is_counted_once() throws Exception {
+        long before = metrics.successCount();
+
+        mvc.perform(get("/api/wrapped")).andExpect(status().isOk());
+
+        assertThat(metrics.successCount() - before).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    static class AdviceConfiguration {
+
+        @Bean
+        CodeHeaderAdvice codeHeaderAdvice() {
+            return new CodeHeaderAdvice();
+        }
+    }
+
+    @RestControllerAdvice
+    static class CodeHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+        static final String HEADER = "X-Response-Code";
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+            if (body instanceof ApiResponse<?> apiResponse) {
+                response.getHeaders().set(HEADER, apiResponse.getCode());
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.seungwoo.responsekit.example;
+
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.response.StreamingApiResponse;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    @GetMapping
+    public StreamingApiResponse<Integer> export() {
+        return ApiResponse.stream(CommonResponseCode.SUCCESS, IntStream.rangeClosed(1, 3).boxed());
+    }
+
+    @GetMapping("/broken")
+    public StreamingApiResponse<Integer> brokenExport() {
+        Stream<Integer> rows = IntStream.rangeClosed(1, 3).boxed()
+            .peek(row -> {
+                if (row == 3) {
+                    throw new UserNotFoundException();
+                }
+            });
+        return ApiResponse.stream(CommonResponseCode.SUCCESS, rows);
+    }
+}
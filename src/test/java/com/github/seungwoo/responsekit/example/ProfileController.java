@@ -0,0 +1,29 @@
+package com.github.seungwoo.responsekit.example;
+
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.shared.CommonResponseCode;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+@RestController
+@RequestMapping("/api/profiles")
+public class ProfileController {
+
+    @GetMapping("/{id}")
+    public ApiResponse<Profile> find(@PathVariable long id) {
+        return ApiResponse.success(CommonResponseCode.SUCCESS,
+            new Profile(id, "홍길동", "test@example.com", new Address("서울", "04524")));
+    }
+
+    public record Profile(long id, String name, String email, Address address) {
+    }
+
+    public record Address(String city, String zipCode) {
+    }
+}
@@ -2,6 +2,8 @@ package com.github.seungwoo.responsekit.example;
 
 import com.github.seungwoo.responsekit.response.ApiResponse;
 import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,4 +21,9 @@ public class SignupController {
     public ApiResponse<String> signup(@Valid @RequestBody SignupRequest request) {
         return ApiResponse.success(UserResponseCode.SIGNUP_SUCCESS, request.email());
     }
+
+    @GetMapping("/{email}")
+    public ApiResponse<String> find(@PathVariable String email) {
+        throw new UserNotFoundException();
+    }
 }
@@ -0,0 +1,47 @@
+package com.github.seungwoo.responsekit.example;
+
+import com.github.seungwoo.responsekit.response.ApiResponse;
+import com.github.seungwoo.responsekit.web.WrapResponse;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Copyright (c) 2025 seungwoo
+ * Licensed under the MIT License. See the LICENSE file for details.
+ */
+@RestController
+@RequestMapping("/api/wrapped")
+@WrapResponse
+public class WrappedController {
+
+    @GetMapping
+    public Map<String, String> profile() {
+        return Map.of("email", "test@example.com");
+    }
+
+    @GetMapping("/signup")
+    @WrapResponse("AUTH-001")
+    public String signupMessage() {
+        return "plain";
+    }
+
+    @GetMapping("/already")
+    public ApiResponse<String> already() {
+        return ApiResponse.success(UserResponseCode.SIGNUP_SUCCESS, "wrapped");
+    }
+
+    @GetMapping("/stream")
+    public Stream<Integer> stream() {
+        return IntStream.rangeClosed(1, 3).boxed();
+    }
+
+    @GetMapping(value = "/cbor", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public Map<String, String> cbor() {
+        return Map.of("email", "test@example.com");
+    }
+}